@@ -0,0 +1,235 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.view.font.FontFamilies;
+import com.github.tadukoo.view.font.FontFamily;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class DirectFontLoaderTest{
+	private final FontFamily defaultFontFamily = FontFamilies.CARLITO.getFamily();
+	
+	// Dummy Graphics Environment used for Font Resource Loading
+	private final GraphicsEnvironment dummyGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[]{defaultFontFamily.getName(), Font.DIALOG};
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	// Dummy Graphics Environment without any fonts, so that font families have to be loaded from the font folder
+	private final GraphicsEnvironment noFontsGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	/**
+	 * @return The bytes of a font file for the default font family, from the font folder on the classpath
+	 */
+	private byte[] readDefaultFontFile() throws IOException, URISyntaxException{
+		URL folderURL = getClass().getClassLoader().getResource("fonts/");
+		assertNotNull(folderURL);
+		if(folderURL.openConnection() instanceof JarURLConnection jarConnection){
+			JarFile jarFile = jarConnection.getJarFile();
+			for(JarEntry entry: Collections.list(jarFile.entries())){
+				String entryName = entry.getName();
+				if(entryName.startsWith(jarConnection.getEntryName()) && DirectFontLoader.isFontFile(
+						entryName.substring(entryName.lastIndexOf('/') + 1), "carlito")){
+					try(InputStream entryStream = jarFile.getInputStream(entry)){
+						return entryStream.readAllBytes();
+					}
+				}
+			}
+		}else{
+			try(Stream<Path> files = Files.list(Paths.get(folderURL.toURI()))){
+				for(Path file: files.toList()){
+					if(DirectFontLoader.isFontFile(file.getFileName().toString(), "carlito")){
+						return Files.readAllBytes(file);
+					}
+				}
+			}
+		}
+		return fail("No font file found for " + defaultFontFamily.getName());
+	}
+	
+	@Test
+	public void testConstructor(){
+		DirectFontLoader fontLoader = new DirectFontLoader(dummyGraphEnv, "fonts/");
+		assertEquals(dummyGraphEnv, fontLoader.getGraphEnv());
+		assertEquals("fonts/", fontLoader.getFontFolder());
+		assertEquals(0, fontLoader.getBytesRead());
+	}
+	
+	@Test
+	public void testLoadAvailableFont() throws IOException, FontFormatException{
+		DirectFontLoader fontLoader = new DirectFontLoader(dummyGraphEnv, "fonts/");
+		List<String> fontNames = fontLoader.loadFonts(ListUtil.createList(defaultFontFamily));
+		assertEquals(1, fontNames.size());
+		assertEquals(defaultFontFamily.getName(), fontNames.get(0));
+		assertEquals(0, fontLoader.getBytesRead());
+	}
+	
+	@Test
+	public void testLoadMissingFontFolder() throws IOException, FontFormatException{
+		DirectFontLoader fontLoader = new DirectFontLoader(dummyGraphEnv, "not-a-real-font-folder/");
+		FontFamily dialogInput = FontFamilies.DIALOG_INPUT.getFamily();
+		List<String> fontNames = fontLoader.loadFonts(ListUtil.createList(dialogInput, defaultFontFamily));
+		assertEquals(2, fontNames.size());
+		assertEquals(dialogInput.getName(), fontNames.get(0));
+		assertEquals(defaultFontFamily.getName(), fontNames.get(1));
+		assertEquals(0, fontLoader.getBytesRead());
+	}
+	
+	@Test
+	public void testDirectFontLoadingMode() throws IOException, FontFormatException{
+		TadukooFontCache.invalidate();
+		TadukooFontRegistry.clear();
+		TadukooTheme theme = TadukooTheme.builder().graphEnv(dummyGraphEnv)
+				.fontLoadingMode(FontLoadingMode.DIRECT).build();
+		assertEquals(defaultFontFamily.getName(), theme.getButtonFont().getName());
+		assertEquals(defaultFontFamily.getName(), theme.getLabelFont().getName());
+		assertEquals(defaultFontFamily.getName(), theme.getTitledBorderFont().getName());
+	}
+	
+	@Test
+	public void testLoadFromFolder(@TempDir Path fontFolder) throws IOException, FontFormatException,
+			URISyntaxException{
+		byte[] fontBytes = readDefaultFontFile();
+		Files.write(fontFolder.resolve("Carlito-Regular.ttf"), fontBytes);
+		
+		DirectFontLoader fontLoader = new DirectFontLoader(noFontsGraphEnv, fontFolder.toString());
+		List<String> fontNames = fontLoader.loadFonts(ListUtil.createList(defaultFontFamily));
+		assertEquals(1, fontNames.size());
+		assertEquals(defaultFontFamily.getName(), fontNames.get(0));
+		assertEquals(fontBytes.length, fontLoader.getBytesRead());
+		assertTrue(fontLoader.wasFound(defaultFontFamily));
+	}
+	
+	@Test
+	public void testLoadFromJar(@TempDir Path folder) throws IOException, FontFormatException, URISyntaxException{
+		byte[] fontBytes = readDefaultFontFile();
+		Path jar = folder.resolve("fonts.jar");
+		try(JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jar))){
+			jarStream.putNextEntry(new JarEntry("test-fonts/"));
+			jarStream.closeEntry();
+			jarStream.putNextEntry(new JarEntry("test-fonts/Carlito-Regular.ttf"));
+			jarStream.write(fontBytes);
+			jarStream.closeEntry();
+		}
+		
+		try(URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)){
+			DirectFontLoader fontLoader = new DirectFontLoader(noFontsGraphEnv, "test-fonts/", classLoader);
+			List<String> fontNames = fontLoader.loadFonts(ListUtil.createList(defaultFontFamily));
+			assertEquals(1, fontNames.size());
+			assertEquals(defaultFontFamily.getName(), fontNames.get(0));
+			assertEquals(fontBytes.length, fontLoader.getBytesRead());
+			assertTrue(fontLoader.wasFound(defaultFontFamily));
+		}
+	}
+	
+	@Test
+	public void testFamilyNameBoundary(@TempDir Path fontFolder) throws IOException, FontFormatException,
+			URISyntaxException{
+		// Dialog shouldn't load DialogInput's font files
+		Files.write(fontFolder.resolve("DialogInput-Regular.ttf"), readDefaultFontFile());
+		DirectFontLoader fontLoader = new DirectFontLoader(noFontsGraphEnv, fontFolder.toString());
+		FontFamily dialog = FontFamilies.DIALOG.getFamily();
+		List<String> fontNames = fontLoader.loadFonts(ListUtil.createList(dialog));
+		assertEquals(dialog.getName(), fontNames.get(0));
+		assertEquals(0, fontLoader.getBytesRead());
+		assertFalse(fontLoader.wasFound(dialog));
+	}
+	
+	@Test
+	public void testIsFontFile(){
+		assertTrue(DirectFontLoader.isFontFile("Dialog.ttf", "dialog"));
+		assertTrue(DirectFontLoader.isFontFile("Dialog-Bold.otf", "dialog"));
+		assertTrue(DirectFontLoader.isFontFile("dialog_bold_italic.TTC", "dialog"));
+		assertTrue(DirectFontLoader.isFontFile("Dialog Input-Bold.ttf", "dialoginput"));
+		assertFalse(DirectFontLoader.isFontFile("DialogInput-Bold.ttf", "dialog"));
+		assertFalse(DirectFontLoader.isFontFile("Dialog-Bold.txt", "dialog"));
+		assertFalse(DirectFontLoader.isFontFile("Serif-Bold.ttf", "dialog"));
+	}
+}
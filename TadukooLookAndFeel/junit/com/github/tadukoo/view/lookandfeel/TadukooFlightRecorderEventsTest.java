@@ -0,0 +1,209 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.view.font.FontFamilies;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooFlightRecorderEventsTest{
+	private static final String EVENT_PREFIX = "com.github.tadukoo.view.lookandfeel.";
+	
+	// Dummy Graphics Environment without any fonts, so that every font family gets loaded
+	private final GraphicsEnvironment noFontsGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	private LookAndFeel previousLookAndFeel;
+	private Recording recording;
+	
+	@BeforeEach
+	public void setup(){
+		previousLookAndFeel = UIManager.getLookAndFeel();
+		recording = new Recording();
+		for(String event: List.of("ThemeBuild", "FontLoad", "DefaultsInit", "SlowPaint")){
+			recording.enable(EVENT_PREFIX + event).withThreshold(Duration.ZERO);
+		}
+		recording.start();
+	}
+	
+	@AfterEach
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		recording.close();
+		UIManager.setLookAndFeel(previousLookAndFeel);
+	}
+	
+	/**
+	 * Stops the recording and reads the recorded events
+	 *
+	 * @param eventName The name of the events to grab (without the prefix)
+	 * @return The recorded events with the given name
+	 * @throws IOException If something goes wrong in reading the recording
+	 */
+	private List<RecordedEvent> stopAndRead(String eventName) throws IOException{
+		recording.stop();
+		Path file = Files.createTempFile("tadukoo-events", ".jfr");
+		try{
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()
+					.filter(event -> event.getEventType().getName().equals(EVENT_PREFIX + eventName))
+					.collect(Collectors.toList());
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test
+	public void testThemeBuildEvent() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooTheme.builder().build();
+		List<RecordedEvent> events = stopAndRead("ThemeBuild");
+		assertEquals(1, events.size());
+		RecordedEvent event = events.get(0);
+		assertEquals(theme.getFingerprint(), event.getLong("themeFingerprint"));
+		assertTrue(event.getString("fontFamilies").contains(FontFamilies.CARLITO.getFamily().getName()));
+		Duration stages = event.getDuration("checkTime").plus(event.getDuration("defaultsTime"))
+				.plus(event.getDuration("fontLoadingTime")).plus(event.getDuration("createTime"));
+		assertTrue(stages.compareTo(event.getDuration()) <= 0);
+	}
+	
+	@Test
+	public void testThemeBuildEventMatchesReport() throws IOException, FontFormatException{
+		ThemeBuildReport report = new ThemeBuildReport();
+		TadukooTheme.builder().build(report);
+		List<RecordedEvent> events = stopAndRead("ThemeBuild");
+		assertEquals(1, events.size());
+		RecordedEvent event = events.get(0);
+		assertEquals(report.getPhaseNanos(ThemeBuildPhase.VALIDATION), event.getDuration("checkTime").toNanos());
+		assertEquals(report.getPhaseNanos(ThemeBuildPhase.DEFAULT_PAINTS) +
+				report.getPhaseNanos(ThemeBuildPhase.FONT_FAMILIES) +
+				report.getPhaseNanos(ThemeBuildPhase.SHAPES_AND_BORDERS), event.getDuration("defaultsTime").toNanos());
+		assertEquals(report.getPhaseNanos(ThemeBuildPhase.FONT_LOADING),
+				event.getDuration("fontLoadingTime").toNanos());
+		assertEquals(report.getPhaseNanos(ThemeBuildPhase.FINGERPRINT) +
+				report.getPhaseNanos(ThemeBuildPhase.FONT_RESOURCES) +
+				report.getPhaseNanos(ThemeBuildPhase.DEFAULTS_ARRAYS) +
+				report.getPhaseNanos(ThemeBuildPhase.THEME_CREATION), event.getDuration("createTime").toNanos());
+	}
+	
+	@Test
+	public void testAsyncThemeBuildEvent() throws IOException, InterruptedException, ExecutionException{
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try{
+			TadukooTheme theme = TadukooTheme.builder().buildAsync(executor).get();
+			List<RecordedEvent> events = stopAndRead("ThemeBuild");
+			assertEquals(1, events.size());
+			RecordedEvent event = events.get(0);
+			assertEquals(theme.getFingerprint(), event.getLong("themeFingerprint"));
+			Duration stages = event.getDuration("checkTime").plus(event.getDuration("defaultsTime"))
+					.plus(event.getDuration("fontLoadingTime")).plus(event.getDuration("createTime"));
+			assertTrue(stages.compareTo(event.getDuration()) <= 0);
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testFontLoadEvent() throws IOException, FontFormatException{
+		DirectFontLoader fontLoader = new DirectFontLoader(noFontsGraphEnv, "not-a-real-font-folder/");
+		fontLoader.loadFonts(ListUtil.createList(FontFamilies.DIALOG_INPUT.getFamily()));
+		List<RecordedEvent> events = stopAndRead("FontLoad");
+		assertEquals(1, events.size());
+		assertEquals(FontFamilies.DIALOG_INPUT.getFamily().getName(), events.get(0).getString("fontFamilies"));
+		assertEquals("DirectFontLoader", events.get(0).getString("loader"));
+		assertEquals(0, events.get(0).getLong("bytesRead"));
+	}
+	
+	@Test
+	public void testDefaultsInitEvents() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		TadukooTheme theme = TadukooTheme.builder().build();
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(theme));
+		List<RecordedEvent> events = stopAndRead("DefaultsInit");
+		assertEquals(List.of("initClassDefaults", "initSystemColorDefaults", "initComponentDefaults"),
+				events.stream().map(event -> event.getString("method")).collect(Collectors.toList()));
+		for(RecordedEvent event: events){
+			assertEquals(theme.getFingerprint(), event.getLong("themeFingerprint"));
+			assertTrue(event.getInt("tableSize") > 0);
+		}
+	}
+	
+	@Test
+	public void testSlowPaintEvent() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		TadukooTheme theme = TadukooTheme.builder().build();
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(theme));
+		JButton button = new JButton("Test");
+		button.setSize(120, 30);
+		BufferedImage image = new BufferedImage(120, 30, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		try{
+			button.paint(g);
+		}finally{
+			g.dispose();
+		}
+		
+		// With a threshold of 0, every paint is slow
+		List<RecordedEvent> events = stopAndRead("SlowPaint");
+		assertEquals(1, events.size());
+		RecordedEvent event = events.get(0);
+		assertEquals(JButton.class.getName(), event.getClass("componentClass").getName());
+		assertEquals(theme.getButtonUI(), event.getClass("uiClass").getName());
+		assertEquals(120, event.getInt("width"));
+		assertEquals(30, event.getInt("height"));
+		assertEquals(theme.getFingerprint(), event.getLong("themeFingerprint"));
+	}
+}
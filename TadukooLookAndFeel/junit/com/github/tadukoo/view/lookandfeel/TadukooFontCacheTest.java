@@ -0,0 +1,128 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamilies;
+import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontResourceLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TadukooFontCacheTest{
+	private final FontFamily defaultFontFamily = FontFamilies.CARLITO.getFamily();
+	
+	// Dummy Graphics Environment used for Font Resource Loading
+	private final GraphicsEnvironment dummyGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[]{defaultFontFamily.getName(), Font.DIALOG};
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	@BeforeEach
+	public void setup(){
+		TadukooFontCache.invalidate();
+		TadukooFontCache.resetStats();
+		TadukooFontRegistry.clear();
+	}
+	
+	@Test
+	public void testFirstBuildMisses() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		assertEquals(0, TadukooFontCache.getHits());
+		assertEquals(1, TadukooFontCache.getMisses());
+		assertEquals(0, TadukooFontCache.getRegistryHits());
+		assertEquals(defaultFontFamily.getName(),
+				TadukooFontCache.getFontName(dummyGraphEnv, "fonts/", defaultFontFamily));
+	}
+	
+	@Test
+	public void testSecondBuildHits() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		TadukooTheme theme = TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		assertEquals(1, TadukooFontCache.getHits());
+		assertEquals(1, TadukooFontCache.getMisses());
+		assertEquals(defaultFontFamily.getName(), theme.getButtonFont().getName());
+	}
+	
+	@Test
+	public void testDifferentFontFolderMisses() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).fontFolder("other-fonts/").build();
+		assertEquals(0, TadukooFontCache.getHits());
+		assertEquals(2, TadukooFontCache.getMisses());
+		// The second miss was already loaded for the first font folder, so it's found in the registry
+		assertEquals(1, TadukooFontCache.getRegistryHits());
+	}
+	
+	@Test
+	public void testResetStats() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		TadukooFontCache.resetStats();
+		assertEquals(0, TadukooFontCache.getHits());
+		assertEquals(0, TadukooFontCache.getMisses());
+		assertEquals(0, TadukooFontCache.getRegistryHits());
+	}
+	
+	@Test
+	public void testInvalidate() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		assertNotNull(TadukooFontCache.getFontName(dummyGraphEnv, "fonts/", defaultFontFamily));
+		TadukooFontCache.invalidate();
+		assertNull(TadukooFontCache.getFontName(dummyGraphEnv, "fonts/", defaultFontFamily));
+	}
+	
+	@Test
+	public void testInvalidateGraphEnvAndFontFolder() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).fontFolder("other-fonts/").build();
+		TadukooFontCache.invalidate(dummyGraphEnv, "fonts/");
+		assertNull(TadukooFontCache.getFontName(dummyGraphEnv, "fonts/", defaultFontFamily));
+		assertNotNull(TadukooFontCache.getFontName(dummyGraphEnv, "other-fonts/", defaultFontFamily));
+	}
+	
+	@Test
+	public void testCustomFontResourceLoaderSkipsCache() throws IOException, FontFormatException{
+		TadukooTheme.builder().fontResourceLoader(new FontResourceLoader(false, null, dummyGraphEnv, "fonts/"))
+				.build();
+		assertEquals(0, TadukooFontCache.getHits());
+		assertEquals(0, TadukooFontCache.getMisses());
+	}
+}
@@ -0,0 +1,164 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamilies;
+import com.github.tadukoo.view.font.FontFamily;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooFontRegistryTest{
+	private final FontFamily defaultFontFamily = FontFamilies.CARLITO.getFamily();
+	
+	// Dummy Graphics Environment used for Font Resource Loading
+	private final GraphicsEnvironment dummyGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[]{defaultFontFamily.getName(), Font.DIALOG};
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	// Dummy Graphics Environment without any fonts, so that font families have to be found in the font folder
+	private final GraphicsEnvironment noFontsGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	@BeforeEach
+	public void setup(){
+		TadukooFontCache.invalidate();
+		TadukooFontCache.resetStats();
+		TadukooFontRegistry.clear();
+	}
+	
+	@Test
+	public void testNotRegisteredBeforeBuild(){
+		assertFalse(TadukooFontRegistry.isRegistered(dummyGraphEnv, defaultFontFamily));
+		assertNull(TadukooFontRegistry.getFontName(dummyGraphEnv, defaultFontFamily));
+		assertTrue(TadukooFontRegistry.getRegisteredFonts(dummyGraphEnv).isEmpty());
+	}
+	
+	@Test
+	public void testRegisteredAfterBuild() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		assertTrue(TadukooFontRegistry.isRegistered(dummyGraphEnv, defaultFontFamily));
+		assertEquals(defaultFontFamily.getName(), TadukooFontRegistry.getFontName(dummyGraphEnv, defaultFontFamily));
+	}
+	
+	@Test
+	public void testSameFamilyOnlyRegisteredOnce() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		Map<String, String> registeredFonts = TadukooFontRegistry.getRegisteredFonts(dummyGraphEnv);
+		assertEquals(1, registeredFonts.size());
+		assertEquals(defaultFontFamily.getName(), registeredFonts.get(defaultFontFamily.getName()));
+	}
+	
+	@Test
+	public void testRegisteredAcrossFontFolders() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		TadukooTheme theme = TadukooTheme.builder().graphEnv(dummyGraphEnv).fontFolder("other-fonts/").build();
+		assertEquals(1, TadukooFontRegistry.getRegisteredFonts(dummyGraphEnv).size());
+		assertEquals(defaultFontFamily.getName(), theme.getLabelFont().getName());
+		
+		// The other font folder should now be in the font cache too
+		assertEquals(defaultFontFamily.getName(),
+				TadukooFontCache.getFontName(dummyGraphEnv, "other-fonts/", defaultFontFamily));
+	}
+	
+	@Test
+	public void testFallbackNotRegistered() throws IOException, FontFormatException{
+		// The family isn't in this font folder, so it's only cached for the folder, not registered
+		TadukooTheme.builder().graphEnv(noFontsGraphEnv).fontLoadingMode(FontLoadingMode.DIRECT)
+				.fontFolder("not-a-real-font-folder/").build();
+		assertFalse(TadukooFontRegistry.isRegistered(noFontsGraphEnv, defaultFontFamily));
+		assertEquals(defaultFontFamily.getName(),
+				TadukooFontCache.getFontName(noFontsGraphEnv, "not-a-real-font-folder/", defaultFontFamily));
+		
+		// A font folder that has the family still loads it
+		ThemeBuildReport report = new ThemeBuildReport();
+		TadukooTheme.builder().graphEnv(noFontsGraphEnv).fontLoadingMode(FontLoadingMode.DIRECT).build(report);
+		assertEquals(0, report.getFontRegistryHits());
+		assertEquals(1, report.getFontFamiliesLoaded());
+		assertTrue(TadukooFontRegistry.isRegistered(noFontsGraphEnv, defaultFontFamily));
+	}
+	
+	@Test
+	public void testRegister(){
+		TadukooFontRegistry.register(dummyGraphEnv, defaultFontFamily, "Test");
+		assertTrue(TadukooFontRegistry.isRegistered(dummyGraphEnv, defaultFontFamily));
+		assertEquals("Test", TadukooFontRegistry.getFontName(dummyGraphEnv, defaultFontFamily));
+	}
+	
+	@Test
+	public void testClear() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(dummyGraphEnv).build();
+		TadukooFontRegistry.clear();
+		assertFalse(TadukooFontRegistry.isRegistered(dummyGraphEnv, defaultFontFamily));
+	}
+}
@@ -4,6 +4,7 @@ import com.github.tadukoo.view.paint.ColorPaintUIResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.swing.UIDefaults;
 import java.awt.Color;
 import java.awt.FontFormatException;
 import java.io.IOException;
@@ -57,4 +58,16 @@ public class TadukooLookAndFeelTest{
 	public void testIsSupportedLookAndFeel(){
 		assertTrue(lookAndFeel.isSupportedLookAndFeel());
 	}
+	
+	@Test
+	public void testComponentDefaultsResolveLazily(){
+		UIDefaults defaults = lookAndFeel.getDefaults();
+		TadukooTheme theme = lookAndFeel.getTheme();
+		assertEquals(theme.getButtonFont(), defaults.get(TadukooLookAndFeel.BUTTON_FONT));
+		assertEquals(theme.getButtonBackgroundPaint(), defaults.get(TadukooLookAndFeel.BUTTON_BACKGROUND_PAINT));
+		assertEquals(theme.getButtonBackgroundPaint().getColorUIResource(),
+				defaults.get(TadukooLookAndFeel.BUTTON_BACKGROUND_COLOR));
+		assertEquals(theme.getLabelShapeInfo(), defaults.get(TadukooLookAndFeel.LABEL_SHAPE));
+		assertEquals(theme.getTitledBorderPosition(), defaults.get(TadukooLookAndFeel.TITLED_BORDER_POSITION));
+	}
 }
@@ -0,0 +1,134 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TadukooThemeFactoryCacheTest{
+	
+	@BeforeEach
+	public void setup(){
+		TadukooThemeFactory.setThemeCacheSize(TadukooThemeFactory.DEFAULT_THEME_CACHE_SIZE);
+		TadukooThemeFactory.clearThemeCache();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		TadukooThemeFactory.setThemeCacheSize(TadukooThemeFactory.DEFAULT_THEME_CACHE_SIZE);
+		TadukooThemeFactory.clearThemeCache();
+	}
+	
+	@Test
+	public void testDefaultThemeCacheSize(){
+		assertEquals(2, TadukooThemeFactory.DEFAULT_THEME_CACHE_SIZE);
+		assertEquals(TadukooThemeFactory.DEFAULT_THEME_CACHE_SIZE, TadukooThemeFactory.getThemeCacheSize());
+	}
+	
+	@Test
+	public void testSameThemeIsShared() throws IOException, FontFormatException{
+		assertSame(TadukooThemeFactory.createDefaultTheme(), TadukooThemeFactory.createDefaultTheme());
+		assertSame(TadukooThemeFactory.createMetalTheme(), TadukooThemeFactory.createMetalTheme());
+		assertSame(TadukooThemeFactory.createDefaultMetalTheme(), TadukooThemeFactory.createDefaultMetalTheme());
+		assertSame(TadukooThemeFactory.createOceanTheme(), TadukooThemeFactory.createOceanTheme());
+	}
+	
+	@Test
+	public void testDifferentThemesAreNotShared() throws IOException, FontFormatException{
+		assertNotSame(TadukooThemeFactory.createDefaultTheme(), TadukooThemeFactory.createMetalTheme());
+		assertNotSame(TadukooThemeFactory.createDefaultMetalTheme(), TadukooThemeFactory.createOceanTheme());
+	}
+	
+	@Test
+	public void testClearThemeCache() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooThemeFactory.createDefaultTheme();
+		TadukooThemeFactory.clearThemeCache();
+		assertNotSame(theme, TadukooThemeFactory.createDefaultTheme());
+	}
+	
+	@Test
+	public void testFontCacheInvalidationClearsThemeCache() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooThemeFactory.createDefaultTheme();
+		TadukooFontCache.invalidate();
+		assertNotSame(theme, TadukooThemeFactory.createDefaultTheme());
+	}
+	
+	@Test
+	public void testLeastRecentlyUsedEviction() throws IOException, FontFormatException{
+		TadukooTheme defaultTheme = TadukooThemeFactory.createDefaultTheme();
+		TadukooTheme metalTheme = TadukooThemeFactory.createMetalTheme();
+		// Use the default theme again, so the metal theme is the least recently used
+		assertSame(defaultTheme, TadukooThemeFactory.createDefaultTheme());
+		TadukooThemeFactory.createOceanTheme();
+		
+		assertSame(defaultTheme, TadukooThemeFactory.createDefaultTheme());
+		assertNotSame(metalTheme, TadukooThemeFactory.createMetalTheme());
+	}
+	
+	@Test
+	public void testShrinkThemeCacheSize() throws IOException, FontFormatException{
+		TadukooTheme defaultTheme = TadukooThemeFactory.createDefaultTheme();
+		TadukooTheme metalTheme = TadukooThemeFactory.createMetalTheme();
+		TadukooThemeFactory.setThemeCacheSize(1);
+		
+		assertSame(metalTheme, TadukooThemeFactory.createMetalTheme());
+		assertNotSame(defaultTheme, TadukooThemeFactory.createDefaultTheme());
+	}
+	
+	@Test
+	public void testThemeCacheDisabled() throws IOException, FontFormatException{
+		TadukooThemeFactory.setThemeCacheSize(0);
+		assertNotSame(TadukooThemeFactory.createDefaultTheme(), TadukooThemeFactory.createDefaultTheme());
+	}
+	
+	@Test
+	public void testUncachedMetalThemesAreEqual() throws IOException, FontFormatException{
+		TadukooThemeFactory.setThemeCacheSize(0);
+		TadukooTheme oceanTheme = TadukooThemeFactory.createOceanTheme();
+		TadukooTheme otherOceanTheme = TadukooThemeFactory.createOceanTheme();
+		assertNotSame(oceanTheme, otherOceanTheme);
+		assertEquals(oceanTheme, otherOceanTheme);
+		assertEquals(oceanTheme.hashCode(), otherOceanTheme.hashCode());
+		assertEquals(oceanTheme.getFingerprint(), otherOceanTheme.getFingerprint());
+		assertSame(oceanTheme.getTitledBorderBorder(), otherOceanTheme.getTitledBorderBorder());
+	}
+	
+	@Test
+	public void testNegativeThemeCacheSize(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooThemeFactory.setThemeCacheSize(-1));
+		assertEquals("Theme cache size must not be negative: -1", e.getMessage());
+	}
+	
+	@Test
+	public void testConcurrentCallsShareTheme() throws InterruptedException, ExecutionException{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Callable<TadukooTheme>> tasks = new ArrayList<>();
+			for(int i = 0; i < 8; i++){
+				tasks.add(TadukooThemeFactory::createOceanTheme);
+			}
+			List<Future<TadukooTheme>> results = executor.invokeAll(tasks);
+			TadukooTheme theme = results.get(0).get();
+			for(Future<TadukooTheme> result: results){
+				assertSame(theme, result.get());
+			}
+		}finally{
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,272 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamilies;
+import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontResourceLoader;
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.NoPaintUIResource;
+import com.github.tadukoo.view.shapes.ShapeInfoUIResource;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.border.LineBorder;
+import javax.swing.plaf.BorderUIResource;
+import javax.swing.plaf.ColorUIResource;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooThemeSnapshotTest{
+	private final FontFamily defaultFontFamily = FontFamilies.CARLITO.getFamily();
+	
+	// Dummy Graphics Environment used for Font Resource Loading
+	private final GraphicsEnvironment dummyGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[]{defaultFontFamily.getName(), Font.DIALOG};
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	private TadukooTheme.TadukooThemeBuilder snapshotBuilder(){
+		return TadukooTheme.builder()
+				.fontResourceLoader(new FontResourceLoader(false, null, dummyGraphEnv, "fonts/"))
+				.defaultBorder(new BorderUIResource(new LineBorder(Color.BLACK)))
+				.defaultShapeInfo(new ShapeInfoUIResource(Shapes.CIRCLE.getShapeInfo()))
+				.buttonBackgroundPaint(new ColorPaintUIResource(new ColorUIResource(Color.RED)))
+				.titledBorderColor(new ColorUIResource(Color.BLUE))
+				.classDefault("TestUI", TadukooLookAndFeel.class)
+				.systemColorDefault("control", new ColorUIResource(Color.GREEN))
+				.componentDefault("Test.string", "Some Text")
+				.componentDefault("Test.number", 42);
+	}
+	
+	private TadukooTheme roundTrip(TadukooTheme theme) throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TadukooThemeSnapshot.write(theme, out);
+		return TadukooThemeSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+	}
+	
+	@Test
+	public void testRoundTripUIClasses() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().build();
+		TadukooTheme snapshot = roundTrip(theme);
+		assertEquals(theme.getButtonUI(), snapshot.getButtonUI());
+		assertEquals(theme.getLabelUI(), snapshot.getLabelUI());
+	}
+	
+	@Test
+	public void testRoundTripPaints() throws IOException, FontFormatException{
+		TadukooTheme snapshot = roundTrip(snapshotBuilder().build());
+		assertEquals(new ColorUIResource(Color.RED), snapshot.getButtonBackgroundPaint().getColorUIResource());
+		assertTrue(snapshot.getLabelBackgroundPaint() instanceof NoPaintUIResource);
+	}
+	
+	@Test
+	public void testRoundTripTranslucentColors() throws IOException, FontFormatException{
+		TadukooTheme snapshot = roundTrip(snapshotBuilder()
+				.buttonBackgroundPaint(new ColorPaintUIResource(new ColorUIResource(new Color(255, 0, 0, 128))))
+				.titledBorderColor(new ColorUIResource(new Color(0, 0, 255, 64)))
+				.build());
+		assertEquals(new Color(255, 0, 0, 128), snapshot.getButtonBackgroundPaint().getColorUIResource());
+		assertEquals(128, snapshot.getButtonBackgroundPaint().getColorUIResource().getAlpha());
+		assertEquals(new Color(0, 0, 255, 64), snapshot.getTitledBorderColor());
+		assertEquals(64, snapshot.getTitledBorderColor().getAlpha());
+	}
+	
+	@Test
+	public void testRoundTripFonts() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().build();
+		TadukooTheme snapshot = roundTrip(theme);
+		assertEquals(theme.getButtonFont(), snapshot.getButtonFont());
+		assertEquals(theme.getLabelFont(), snapshot.getLabelFont());
+		assertEquals(theme.getTitledBorderFont(), snapshot.getTitledBorderFont());
+	}
+	
+	@Test
+	public void testRoundTripShapeInfo() throws IOException, FontFormatException{
+		TadukooTheme snapshot = roundTrip(snapshotBuilder().build());
+		assertEquals(Shapes.CIRCLE.getShapeInfo().getShapeFunc(), snapshot.getButtonShapeInfo().getShapeFunc());
+		assertEquals(Shapes.CIRCLE.getShapeInfo().getShapeFunc(), snapshot.getLabelShapeInfo().getShapeFunc());
+	}
+	
+	@Test
+	public void testRoundTripTitledBorder() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().build();
+		TadukooTheme snapshot = roundTrip(theme);
+		assertEquals(new ColorUIResource(Color.BLUE), snapshot.getTitledBorderColor());
+		assertEquals(theme.getTitledBorderPosition(), snapshot.getTitledBorderPosition());
+		assertNotNull(snapshot.getTitledBorderBorder());
+	}
+	
+	@Test
+	public void testRoundTripDefaults() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().build();
+		TadukooTheme snapshot = roundTrip(theme);
+		assertArrayEquals(theme.getClassDefaults(), snapshot.getClassDefaults());
+		assertArrayEquals(theme.getSystemColorDefaults(), snapshot.getSystemColorDefaults());
+		assertArrayEquals(theme.getComponentDefaults(), snapshot.getComponentDefaults());
+	}
+	
+	@Test
+	public void testRoundTripBuilderDefaults() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooTheme.builder()
+				.fontResourceLoader(new FontResourceLoader(false, null, dummyGraphEnv, "fonts/"))
+				.build();
+		TadukooTheme snapshot = roundTrip(theme);
+		assertEquals(theme, snapshot);
+		assertSame(theme.getButtonBorder(), snapshot.getButtonBorder());
+		assertSame(theme.getLabelBorder(), snapshot.getLabelBorder());
+	}
+	
+	@Test
+	public void testRoundTripFingerprint() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().build();
+		TadukooTheme snapshot = roundTrip(theme);
+		assertEquals(theme.getFingerprint(), snapshot.getFingerprint());
+		assertEquals(theme.hashCode(), snapshot.hashCode());
+	}
+	
+	@Test
+	public void testRoundTripDefaultTheme() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooThemeFactory.createDefaultTheme();
+		assertEquals(theme, roundTrip(theme));
+	}
+	
+	@Test
+	public void testRoundTripMetalThemes() throws IOException, FontFormatException{
+		TadukooTheme metalTheme = TadukooThemeFactory.createMetalTheme();
+		TadukooTheme metalSnapshot = roundTrip(metalTheme);
+		assertEquals(metalTheme, metalSnapshot);
+		assertSame(metalTheme.getButtonBorder(), metalSnapshot.getButtonBorder());
+		
+		TadukooTheme oceanTheme = TadukooThemeFactory.createOceanTheme();
+		TadukooTheme oceanSnapshot = roundTrip(oceanTheme);
+		assertEquals(oceanTheme.getButtonBackgroundPaint().getColorUIResource(),
+				oceanSnapshot.getButtonBackgroundPaint().getColorUIResource());
+		assertEquals(oceanTheme.getTitledBorderColor(), oceanSnapshot.getTitledBorderColor());
+		assertNotNull(oceanSnapshot.getTitledBorderBorder());
+	}
+	
+	@Test
+	public void testRoundTripFile() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().build();
+		Path file = Files.createTempFile("theme", ".tdkt");
+		try{
+			TadukooThemeSnapshot.write(theme, file);
+			TadukooTheme snapshot = TadukooThemeSnapshot.read(file);
+			assertEquals(theme.getButtonFont(), snapshot.getButtonFont());
+			assertArrayEquals(theme.getComponentDefaults(), snapshot.getComponentDefaults());
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test
+	public void testReadDoesNotLoadFonts() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().build();
+		TadukooFontCache.resetStats();
+		roundTrip(theme);
+		assertEquals(0, TadukooFontCache.getHits());
+		assertEquals(0, TadukooFontCache.getMisses());
+	}
+	
+	@Test
+	public void testUnserializableValue() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().componentDefault("Test.object", new Object()).build();
+		assertThrows(NotSerializableException.class,
+				() -> TadukooThemeSnapshot.write(theme, new ByteArrayOutputStream()));
+	}
+	
+	@Test
+	public void testDisallowedSerializedValue() throws IOException, FontFormatException{
+		TadukooTheme theme = snapshotBuilder().componentDefault("Test.list", new ArrayList<>()).build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TadukooThemeSnapshot.write(theme, out);
+		assertThrows(InvalidClassException.class,
+				() -> TadukooThemeSnapshot.read(new ByteArrayInputStream(out.toByteArray())));
+	}
+	
+	@Test
+	public void testBadMagic() throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(ObjectOutputStream objOut = new ObjectOutputStream(out)){
+			objOut.writeInt(12345);
+			objOut.writeInt(TadukooThemeSnapshot.VERSION);
+		}
+		assertThrows(StreamCorruptedException.class,
+				() -> TadukooThemeSnapshot.read(new ByteArrayInputStream(out.toByteArray())));
+	}
+	
+	@Test
+	public void testUnsupportedVersion() throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(ObjectOutputStream objOut = new ObjectOutputStream(out)){
+			objOut.writeInt(TadukooThemeSnapshot.MAGIC);
+			objOut.writeInt(TadukooThemeSnapshot.VERSION + 1);
+		}
+		IOException e = assertThrows(IOException.class,
+				() -> TadukooThemeSnapshot.read(new ByteArrayInputStream(out.toByteArray())));
+		assertEquals("Unsupported Tadukoo Theme snapshot version: " + (TadukooThemeSnapshot.VERSION + 1),
+				e.getMessage());
+	}
+	
+	@Test
+	public void testNotAnObjectStream(){
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThrows(IOException.class, () -> {
+			try(DataOutputStream dataOut = new DataOutputStream(out)){
+				dataOut.writeInt(TadukooThemeSnapshot.MAGIC);
+			}
+			TadukooThemeSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+		});
+	}
+}
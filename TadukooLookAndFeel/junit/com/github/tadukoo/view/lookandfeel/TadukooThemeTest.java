@@ -30,12 +30,22 @@ import java.awt.GraphicsEnvironment;
 import java.awt.HeadlessException;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TadukooThemeTest{
@@ -655,4 +665,279 @@ public class TadukooThemeTest{
 		assertEquals("Derp", componentDefaults[2]);
 		assertEquals(red, componentDefaults[3]);
 	}
+	
+	@Test
+	public void testDefaultsAreCopied() throws IOException, FontFormatException{
+		ColorUIResource pink = new ColorUIResource(Color.PINK);
+		TadukooTheme theme = TadukooTheme.builder()
+				.classDefault("Test", String.class)
+				.systemColorDefault("Test", pink)
+				.componentDefault("Test", "A").build();
+		theme.getClassDefaults()[1] = Map.class.getCanonicalName();
+		theme.getSystemColorDefaults()[1] = new ColorUIResource(Color.MAGENTA);
+		theme.getComponentDefaults()[1] = "B";
+		assertEquals(String.class.getCanonicalName(), theme.getClassDefaults()[1]);
+		assertEquals(pink, theme.getSystemColorDefaults()[1]);
+		assertEquals("A", theme.getComponentDefaults()[1]);
+	}
+	
+	/*
+	 * Test Building Asynchronously
+	 */
+	
+	@Test
+	public void testBuildAsync() throws InterruptedException, ExecutionException{
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try{
+			TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+					.buttonFocusPaint(new ColorPaintUIResource(Color.ORANGE))
+					.buildAsync(executor).get();
+			assertEquals(defaultFontFamily.getName(), theme.getButtonFont().getName());
+			assertEquals(defaultFontFamily.getName(), theme.getLabelFont().getName());
+			assertEquals(defaultFontFamily.getName(), theme.getTitledBorderFont().getName());
+			assertEquals(defaultFontSize, theme.getButtonFont().getSize());
+			assertEquals(TadukooButtonUI.class.getCanonicalName(), theme.getButtonUI());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testBuildAsyncDifferentFonts() throws InterruptedException, ExecutionException{
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try{
+			TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+					.labelFont(FontFamilies.DIALOG.getFamily(), Font.BOLD, 20)
+					.buildAsync(executor).get();
+			assertEquals(defaultFontFamily.getName(), theme.getButtonFont().getName());
+			assertEquals(FontFamilies.DIALOG.getFamily().getName(), theme.getLabelFont().getName());
+			assertEquals(Font.BOLD, theme.getLabelFont().getStyle());
+			assertEquals(20, theme.getLabelFont().getSize());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testBuildAsyncCopiesBuilder() throws InterruptedException, ExecutionException{
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		CountDownLatch blocked = new CountDownLatch(1);
+		try{
+			// Hold up the executor, so the build can't start until the builder has been changed
+			executor.execute(() -> {
+				try{
+					blocked.await();
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+				}
+			});
+			TadukooTheme.TadukooThemeBuilder builder = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+					.buttonBackgroundPaint(new ColorPaintUIResource(Color.ORANGE))
+					.componentDefault("Test", "A");
+			CompletableFuture<TadukooTheme> future = builder.buildAsync(executor);
+			builder.buttonBackgroundPaint(new ColorPaintUIResource(Color.RED))
+					.labelFont(FontFamilies.DIALOG.getFamily(), Font.BOLD, 20)
+					.componentDefault("Test", "B");
+			blocked.countDown();
+			
+			TadukooTheme theme = future.get();
+			assertEquals(new ColorPaintUIResource(Color.ORANGE), theme.getButtonBackgroundPaint());
+			assertEquals(defaultFontFamily.getName(), theme.getLabelFont().getName());
+			assertEquals("A", theme.getComponentDefaults()[1]);
+		}finally{
+			blocked.countDown();
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testBuildAsyncFontLoadingFails() throws InterruptedException{
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try{
+			FontResourceLoader failingLoader = new FontResourceLoader(false, null, dummyGraphEnv, "fonts/"){
+				@Override
+				public List<String> loadFonts(List<FontFamily> fontFamilies, boolean addFontsToGraphEnv)
+						throws IOException{
+					throw new IOException("Failed to load fonts");
+				}
+			};
+			CompletableFuture<TadukooTheme> future = TadukooTheme.builder().fontResourceLoader(failingLoader)
+					.buildAsync(executor);
+			ExecutionException e = assertThrows(ExecutionException.class, future::get);
+			assertTrue(future.isCompletedExceptionally());
+			assertTrue(e.getCause() instanceof IOException);
+			assertEquals("Failed to load fonts", e.getCause().getMessage());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testBuildAsyncMatchesBuild() throws InterruptedException, ExecutionException, IOException,
+			FontFormatException{
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try{
+			ShapeInfoUIResource circle = new ShapeInfoUIResource(Shapes.CIRCLE.getShapeInfo());
+			ShapeInfoUIResource rectangle = new ShapeInfoUIResource(Shapes.RECTANGLE.getShapeInfo());
+			BorderUIResource border = new BorderUIResource(ShapedEtchedBorder.builder().build());
+			TadukooTheme.TadukooThemeBuilder builder = TadukooTheme.builder()
+					.buttonUI(MetalButtonUI.class).labelUI(MetalLabelUI.class)
+					.defaultForegroundPaint(new ColorPaintUIResource(Color.RED))
+					.buttonForegroundPaint(new ColorPaintUIResource(Color.ORANGE))
+					.labelForegroundPaint(new ColorPaintUIResource(Color.YELLOW))
+					.defaultBackgroundPaint(new ColorPaintUIResource(Color.BLUE))
+					.buttonBackgroundPaint(new ColorPaintUIResource(Color.CYAN))
+					.labelBackgroundPaint(new ColorPaintUIResource(Color.MAGENTA))
+					.defaultFocusPaint(new ColorPaintUIResource(Color.PINK))
+					.buttonFocusPaint(new ColorPaintUIResource(Color.DARK_GRAY))
+					.defaultSelectPaint(new ColorPaintUIResource(Color.LIGHT_GRAY))
+					.buttonSelectPaint(new ColorPaintUIResource(Color.WHITE))
+					.defaultDisabledTextPaint(new ColorPaintUIResource(1, 2, 3))
+					.buttonDisabledTextPaint(new ColorPaintUIResource(4, 5, 6))
+					.defaultDisabledForegroundPaint(new ColorPaintUIResource(7, 8, 9))
+					.labelDisabledForegroundPaint(new ColorPaintUIResource(10, 11, 12))
+					.defaultFont(FontFamilies.DIALOG.getFamily(), Font.ITALIC, 10)
+					.buttonFont(defaultFontFamily, Font.BOLD, 16)
+					.labelFont(FontFamilies.DIALOG.getFamily(), Font.BOLD, 20)
+					.graphEnv(dummyGraphEnv).fontFolder("other-fonts/").fontLoadingMode(FontLoadingMode.DIRECT)
+					.fontResourceLoader(fontResourceLoader)
+					.defaultShapeInfo(circle).buttonShapeInfo(rectangle).labelShapeInfo(circle)
+					.defaultBorder(border).buttonBorder(new NoBorderUIResource())
+					.labelBorder(border).titledBorderBorder(border)
+					.titledBorderFont(defaultFontFamily, Font.PLAIN, 8)
+					.titledBorderColor(new ColorUIResource(Color.GREEN))
+					.titledBorderPosition(TitlePosition.BELOW_BOTTOM)
+					.classDefault("Test", String.class)
+					.systemColorDefault("Test", new ColorUIResource(Color.PINK))
+					.componentDefault("Test", "A");
+			
+			// Build asynchronously first, since building fills in the builder's defaults
+			TadukooTheme asyncTheme = builder.buildAsync(executor).get();
+			TadukooTheme theme = builder.build();
+			assertEquals(theme, asyncTheme);
+			assertEquals(theme.getFingerprint(), asyncTheme.getFingerprint());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testBuildAsyncLoadsCustomLoaderFontsInOneTask() throws InterruptedException, ExecutionException{
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try{
+			List<List<String>> loadCalls = new CopyOnWriteArrayList<>();
+			FontResourceLoader countingLoader = new FontResourceLoader(false, null, dummyGraphEnv, "fonts/"){
+				@Override
+				public List<String> loadFonts(List<FontFamily> fontFamilies, boolean addFontsToGraphEnv){
+					List<String> fontNames = new ArrayList<>();
+					for(FontFamily fontFamily: fontFamilies){
+						fontNames.add(fontFamily.getName());
+					}
+					loadCalls.add(fontNames);
+					return fontNames;
+				}
+			};
+			TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(countingLoader)
+					.labelFont(FontFamilies.DIALOG.getFamily(), Font.BOLD, 20)
+					.buildAsync(executor).get();
+			assertEquals(1, loadCalls.size());
+			assertEquals(List.of(defaultFontFamily.getName(), FontFamilies.DIALOG.getFamily().getName()),
+					loadCalls.get(0));
+			assertEquals(defaultFontFamily.getName(), theme.getButtonFont().getName());
+			assertEquals(FontFamilies.DIALOG.getFamily().getName(), theme.getLabelFont().getName());
+			assertEquals(defaultFontFamily.getName(), theme.getTitledBorderFont().getName());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	/*
+	 * Test Theme Identity
+	 */
+	
+	@Test
+	public void testEqualsSameBuilders() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader).build();
+		assertEquals(defaultTheme, theme);
+		assertEquals(defaultTheme.hashCode(), theme.hashCode());
+	}
+	
+	@Test
+	public void testEqualsSameCustomizations() throws IOException, FontFormatException{
+		TadukooTheme theme1 = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.buttonBackgroundPaint(new ColorPaintUIResource(Color.RED))
+				.labelShapeInfo(new ShapeInfoUIResource(Shapes.CIRCLE.getShapeInfo()))
+				.componentDefault("Test.a", "A").componentDefault("Test.b", 2)
+				.build();
+		TadukooTheme theme2 = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.componentDefault("Test.b", 2).componentDefault("Test.a", "A")
+				.labelShapeInfo(new ShapeInfoUIResource(Shapes.CIRCLE.getShapeInfo()))
+				.buttonBackgroundPaint(new ColorPaintUIResource(Color.RED))
+				.build();
+		assertEquals(theme1, theme2);
+		assertEquals(theme1.hashCode(), theme2.hashCode());
+		assertEquals(theme1.getFingerprint(), theme2.getFingerprint());
+	}
+	
+	@Test
+	public void testNotEqualsDifferentPaint() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.buttonBackgroundPaint(new ColorPaintUIResource(Color.RED)).build();
+		assertNotEquals(defaultTheme, theme);
+	}
+	
+	@Test
+	public void testNotEqualsDifferentShape() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.buttonShapeInfo(new ShapeInfoUIResource(Shapes.RECTANGLE.getShapeInfo())).build();
+		assertNotEquals(defaultTheme, theme);
+	}
+	
+	@Test
+	public void testNotEqualsDifferentComponentDefault() throws IOException, FontFormatException{
+		TadukooTheme theme1 = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.componentDefault("Test", "A").build();
+		TadukooTheme theme2 = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.componentDefault("Test", "B").build();
+		assertNotEquals(theme1, theme2);
+	}
+	
+	@Test
+	public void testFingerprintBeforeBuild() throws IOException, FontFormatException{
+		TadukooTheme.TadukooThemeBuilder builder = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.buttonFont(FontFamilies.DIALOG.getFamily(), Font.BOLD, 12);
+		long fingerprint = builder.fingerprint();
+		TadukooTheme theme = builder.build();
+		assertEquals(fingerprint, theme.getFingerprint());
+		// Applying the defaults during the build doesn't change the fingerprint
+		assertEquals(fingerprint, builder.fingerprint());
+	}
+	
+	@Test
+	public void testFingerprintSameAsDefaults() throws IOException, FontFormatException{
+		TadukooTheme.TadukooThemeBuilder builder = TadukooTheme.builder()
+				.buttonForegroundPaint(new ColorPaintUIResource(Color.BLACK))
+				.labelFont(defaultFontFamily, defaultFontStyle, defaultFontSize);
+		assertEquals(defaultTheme.getFingerprint(), builder.fingerprint());
+	}
+	
+	@Test
+	public void testFingerprintDifferentCustomizations(){
+		long defaultFingerprint = TadukooTheme.builder().fingerprint();
+		assertNotEquals(defaultFingerprint, TadukooTheme.builder().buttonUI(MetalButtonUI.class).fingerprint());
+		assertNotEquals(defaultFingerprint, TadukooTheme.builder()
+				.labelForegroundPaint(new ColorPaintUIResource(Color.RED)).fingerprint());
+		assertNotEquals(defaultFingerprint, TadukooTheme.builder()
+				.titledBorderFont(defaultFontFamily, Font.BOLD, defaultFontSize).fingerprint());
+		assertNotEquals(defaultFingerprint, TadukooTheme.builder()
+				.titledBorderPosition(TitlePosition.BELOW_BOTTOM).fingerprint());
+		assertNotEquals(defaultFingerprint, TadukooTheme.builder()
+				.componentDefault("Test", "A").fingerprint());
+	}
+	
+	@Test
+	public void testFingerprintIgnoresFontLoadingSettings(){
+		assertEquals(TadukooTheme.builder().fingerprint(), TadukooTheme.builder().fontFolder("other-fonts/")
+				.fontLoadingMode(FontLoadingMode.DIRECT).fontResourceLoader(fontResourceLoader).fingerprint());
+	}
 }
@@ -0,0 +1,115 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemeBuildReportTest{
+	// Dummy Graphics Environment without any fonts, so that every font family gets loaded
+	private final GraphicsEnvironment noFontsGraphEnv = new GraphicsEnvironment(){
+		@Override
+		public GraphicsDevice[] getScreenDevices() throws HeadlessException{
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice() throws HeadlessException{
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return null;
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			return new String[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return new String[0];
+		}
+	};
+	
+	@BeforeEach
+	public void setup(){
+		TadukooFontCache.invalidate();
+		TadukooFontRegistry.clear();
+	}
+	
+	@Test
+	public void testPhases() throws IOException, FontFormatException{
+		ThemeBuildReport report = new ThemeBuildReport();
+		TadukooTheme theme = TadukooTheme.builder().build(report);
+		assertEquals(theme.getFingerprint(), report.getThemeFingerprint());
+		
+		long totalNanos = 0;
+		for(ThemeBuildPhase phase: ThemeBuildPhase.values()){
+			assertTrue(report.getPhaseNanos(phase) >= 0);
+			assertTrue(report.getPhaseAllocatedBytes(phase) >= -1);
+			totalNanos += report.getPhaseNanos(phase);
+		}
+		assertEquals(totalNanos, report.getTotalNanos());
+		assertTrue(report.getTotalNanos() > 0);
+		// Creating the theme has to allocate it
+		assertTrue(report.getPhaseAllocatedBytes(ThemeBuildPhase.THEME_CREATION) != 0);
+		
+		String reportText = report.toString();
+		for(ThemeBuildPhase phase: ThemeBuildPhase.values()){
+			assertTrue(reportText.contains(phase.name()));
+		}
+	}
+	
+	@Test
+	public void testFontCacheHits() throws IOException, FontFormatException{
+		// The default theme uses a single font family
+		ThemeBuildReport report = new ThemeBuildReport();
+		TadukooTheme.builder().graphEnv(noFontsGraphEnv).fontLoadingMode(FontLoadingMode.DIRECT).build(report);
+		assertEquals(0, report.getFontCacheHits());
+		assertEquals(1, report.getFontCacheMisses());
+		assertEquals(0, report.getFontRegistryHits());
+		assertEquals(1, report.getFontFamiliesLoaded());
+		assertTrue(report.getFontBytesRead() >= 0);
+		
+		// The report is cleared when it's reused
+		TadukooTheme.builder().graphEnv(noFontsGraphEnv).fontLoadingMode(FontLoadingMode.DIRECT).build(report);
+		assertEquals(1, report.getFontCacheHits());
+		assertEquals(0, report.getFontCacheMisses());
+		assertEquals(0, report.getFontRegistryHits());
+		assertEquals(0, report.getFontFamiliesLoaded());
+		assertEquals(0, report.getFontBytesRead());
+	}
+	
+	@Test
+	public void testFontRegistryHits() throws IOException, FontFormatException{
+		TadukooTheme.builder().graphEnv(noFontsGraphEnv).fontLoadingMode(FontLoadingMode.DIRECT).build();
+		
+		// With the cache cleared, the font family is still in the registry
+		TadukooFontCache.invalidate();
+		ThemeBuildReport report = new ThemeBuildReport();
+		TadukooTheme.builder().graphEnv(noFontsGraphEnv).fontLoadingMode(FontLoadingMode.DIRECT).build(report);
+		assertEquals(0, report.getFontCacheHits());
+		assertEquals(1, report.getFontCacheMisses());
+		assertEquals(1, report.getFontRegistryHits());
+		assertEquals(0, report.getFontFamiliesLoaded());
+	}
+}
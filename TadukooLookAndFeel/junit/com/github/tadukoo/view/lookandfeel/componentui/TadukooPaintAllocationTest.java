@@ -0,0 +1,219 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import com.github.tadukoo.view.shapes.ShapeInfoUIResource;
+import com.github.tadukoo.view.shapes.Shapes;
+import jdk.jfr.EventType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.FontFormatException;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TadukooPaintAllocationTest{
+	/** The number of paints to warm up with before measuring (so caches are filled and code is fully optimized) */
+	private static final int WARMUP_PAINTS = 20000;
+	/** The number of paints to measure */
+	private static final int MEASURED_PAINTS = 5000;
+	/** The allowed average number of bytes allocated per paint - less than a single {@link java.awt.Dimension} */
+	private static final long ALLOWED_BYTES_PER_PAINT = 8;
+	
+	private static LookAndFeel previousLookAndFeel;
+	
+	private final com.sun.management.ThreadMXBean threadBean =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private BufferedImage image;
+	private Graphics2D g;
+	
+	@BeforeAll
+	public static void setupLookAndFeel() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		previousLookAndFeel = UIManager.getLookAndFeel();
+		// Java2D allocates when filling non-rectangular shapes, so use rectangles to only measure our code
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder()
+				.defaultShapeInfo(new ShapeInfoUIResource(Shapes.RECTANGLE.getShapeInfo()))
+				.build()));
+	}
+	
+	@AfterAll
+	public static void restoreLookAndFeel() throws UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(previousLookAndFeel);
+	}
+	
+	@BeforeEach
+	public void setup(){
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		image = new BufferedImage(200, 50, BufferedImage.TYPE_INT_ARGB);
+		g = image.createGraphics();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		if(g != null){
+			g.dispose();
+		}
+	}
+	
+	/**
+	 * Runs the given paint for the warmup, then measures the bytes allocated by running it again
+	 *
+	 * @param paint The paint to run
+	 * @return The average number of bytes allocated per paint
+	 */
+	private long bytesPerPaint(Runnable paint){
+		for(int i = 0; i < WARMUP_PAINTS; i++){
+			paint.run();
+		}
+		long threadID = Thread.currentThread().getId();
+		long before = threadBean.getThreadAllocatedBytes(threadID);
+		for(int i = 0; i < MEASURED_PAINTS; i++){
+			paint.run();
+		}
+		long after = threadBean.getThreadAllocatedBytes(threadID);
+		return (after - before)/MEASURED_PAINTS;
+	}
+	
+	private void assertAllocationFree(Runnable paint){
+		long bytes = bytesPerPaint(paint);
+		assertTrue(bytes < ALLOWED_BYTES_PER_PAINT, "Painting allocated " + bytes + " bytes per paint");
+	}
+	
+	private JButton createButton(){
+		JButton button = new JButton("Test Button");
+		button.setSize(200, 50);
+		return button;
+	}
+	
+	private JLabel createLabel(){
+		JLabel label = new JLabel("Test Label");
+		label.setSize(200, 50);
+		return label;
+	}
+	
+	/*
+	 * These tests call the Tadukoo paint methods directly, rather than going through update - Swing's own layout
+	 * code (e.g. JComponent.getInsets()) allocates on every paint
+	 */
+	
+	@Test
+	public void testButtonPaintBackground(){
+		JButton button = createButton();
+		TadukooButtonUI ui = (TadukooButtonUI) button.getUI();
+		assertAllocationFree(() -> ui.paintBackground(g, button));
+	}
+	
+	@Test
+	public void testButtonPaintButtonPressed(){
+		JButton button = createButton();
+		TadukooButtonUI ui = (TadukooButtonUI) button.getUI();
+		assertAllocationFree(() -> ui.paintButtonPressed(g, button));
+	}
+	
+	@Test
+	public void testButtonPaintFocus(){
+		JButton button = createButton();
+		TadukooButtonUI ui = (TadukooButtonUI) button.getUI();
+		Rectangle viewRect = new Rectangle(0, 0, 200, 50);
+		Rectangle textRect = new Rectangle(60, 15, 80, 20);
+		Rectangle iconRect = new Rectangle(40, 15, 16, 16);
+		assertAllocationFree(() -> ui.paintFocus(g, button, viewRect, textRect, iconRect));
+	}
+	
+	@Test
+	public void testButtonPaintText(){
+		JButton button = createButton();
+		TadukooButtonUI ui = (TadukooButtonUI) button.getUI();
+		Rectangle textRect = new Rectangle(60, 15, 80, 20);
+		assertAllocationFree(() -> ui.paintText(g, button, textRect, button.getText()));
+	}
+	
+	@Test
+	public void testDisabledButtonPaintText(){
+		JButton button = createButton();
+		button.setEnabled(false);
+		TadukooButtonUI ui = (TadukooButtonUI) button.getUI();
+		Rectangle textRect = new Rectangle(60, 15, 80, 20);
+		assertAllocationFree(() -> ui.paintText(g, button, textRect, button.getText()));
+	}
+	
+	@Test
+	public void testLabelPaintBackground(){
+		JLabel label = createLabel();
+		TadukooLabelUI ui = (TadukooLabelUI) label.getUI();
+		assertAllocationFree(() -> ui.paintBackground(g, label));
+	}
+	
+	@Test
+	public void testLabelPaintEnabledText(){
+		JLabel label = createLabel();
+		TadukooLabelUI ui = (TadukooLabelUI) label.getUI();
+		assertAllocationFree(() -> ui.paintEnabledText(label, g, label.getText(), 10, 30));
+	}
+	
+	@Test
+	public void testLabelPaintDisabledText(){
+		JLabel label = createLabel();
+		label.setEnabled(false);
+		TadukooLabelUI ui = (TadukooLabelUI) label.getUI();
+		assertAllocationFree(() -> ui.paintDisabledText(label, g, label.getText(), 10, 30));
+	}
+	
+	/*
+	 * These tests go through update (the entry point Swing calls), with the Slow Paint event, the paint watchdog,
+	 * and the repaint heatmap all off. The UIs skip Swing's own painting (which allocates, see above), so they
+	 * measure update's own timing hooks plus the background.
+	 */
+	
+	/** A button UI that only paints the background in update */
+	private static class BackgroundOnlyButtonUI extends TadukooButtonUI{
+		@Override
+		public void paint(Graphics g, JComponent c){ }
+	}
+	
+	/** A label UI that only paints the background in update */
+	private static class BackgroundOnlyLabelUI extends TadukooLabelUI{
+		@Override
+		public void paint(Graphics g, JComponent c){ }
+	}
+	
+	private void assertTimingHooksOff(){
+		assertFalse(EventType.getEventType(SlowPaintEvent.class).isEnabled());
+		assertFalse(TadukooPaintWatchdog.isEnabled());
+		assertFalse(TadukooRepaintHeatmap.isEnabled());
+	}
+	
+	@Test
+	public void testButtonUpdate(){
+		assertTimingHooksOff();
+		JButton button = createButton();
+		TadukooButtonUI ui = new BackgroundOnlyButtonUI();
+		assertAllocationFree(() -> ui.update(g, button));
+	}
+	
+	@Test
+	public void testLabelUpdate(){
+		assertTimingHooksOff();
+		JLabel label = createLabel();
+		TadukooLabelUI ui = new BackgroundOnlyLabelUI();
+		assertAllocationFree(() -> ui.update(g, label));
+	}
+}
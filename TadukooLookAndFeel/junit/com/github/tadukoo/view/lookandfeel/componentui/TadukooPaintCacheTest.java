@@ -0,0 +1,153 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TadukooPaintCacheTest{
+	
+	/** A gradient paint that counts how many times it's been built */
+	private static class CountingPaint extends ColorPaintUIResource{
+		private int builds = 0;
+		
+		public CountingPaint(){
+			super(Color.RED);
+		}
+		
+		@Override
+		public Paint getPaint(Dimension size){
+			builds++;
+			return new GradientPaint(0, 0, Color.RED, size.width, size.height, Color.BLUE);
+		}
+	}
+	
+	@BeforeEach
+	public void setup(){
+		TadukooPaintCache.setCapacity(TadukooPaintCache.DEFAULT_CAPACITY);
+		TadukooPaintCache.resetStats();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		TadukooPaintCache.setCapacity(TadukooPaintCache.DEFAULT_CAPACITY);
+		TadukooPaintCache.resetStats();
+	}
+	
+	@Test
+	public void testSameSizeReusesPaint(){
+		CountingPaint paint = new CountingPaint();
+		Paint first = TadukooPaintCache.getPaint(paint, 100, 30);
+		assertSame(first, TadukooPaintCache.getPaint(paint, 100, 30));
+		assertEquals(1, paint.builds);
+		assertEquals(1, TadukooPaintCache.getHits());
+		assertEquals(1, TadukooPaintCache.getMisses());
+		assertEquals(0.5, TadukooPaintCache.getHitRate());
+	}
+	
+	@Test
+	public void testDifferentSizeBuildsPaint(){
+		CountingPaint paint = new CountingPaint();
+		Paint first = TadukooPaintCache.getPaint(paint, 100, 30);
+		assertNotSame(first, TadukooPaintCache.getPaint(paint, 100, 31));
+		assertNotSame(first, TadukooPaintCache.getPaint(paint, 101, 30));
+		assertEquals(3, paint.builds);
+	}
+	
+	@Test
+	public void testDifferentSizablePaintsNotShared(){
+		CountingPaint paint1 = new CountingPaint();
+		CountingPaint paint2 = new CountingPaint();
+		assertNotSame(TadukooPaintCache.getPaint(paint1, 100, 30), TadukooPaintCache.getPaint(paint2, 100, 30));
+		assertEquals(1, paint1.builds);
+		assertEquals(1, paint2.builds);
+	}
+	
+	@Test
+	public void testNullSizablePaint(){
+		assertNull(TadukooPaintCache.getPaint(null, 100, 30));
+	}
+	
+	@Test
+	public void testEviction(){
+		TadukooPaintCache.setCapacity(4);
+		CountingPaint paint = new CountingPaint();
+		for(int width = 0; width < 10; width++){
+			TadukooPaintCache.getPaint(paint, width, 30);
+		}
+		assertEquals(4, TadukooPaintCache.size());
+		assertEquals(6, TadukooPaintCache.getEvictions());
+		
+		// The most recent paint is still there, while the first one was evicted
+		TadukooPaintCache.getPaint(paint, 9, 30);
+		assertEquals(10, paint.builds);
+		TadukooPaintCache.getPaint(paint, 0, 30);
+		assertEquals(11, paint.builds);
+	}
+	
+	@Test
+	public void testLeastRecentlyUsedEviction(){
+		TadukooPaintCache.setCapacity(4);
+		CountingPaint paint = new CountingPaint();
+		for(int width = 0; width < 4; width++){
+			TadukooPaintCache.getPaint(paint, width, 30);
+		}
+		// Use the first paint again, so the second one is the least recently used
+		TadukooPaintCache.getPaint(paint, 0, 30);
+		TadukooPaintCache.getPaint(paint, 4, 30);
+		assertEquals(5, paint.builds);
+		
+		TadukooPaintCache.getPaint(paint, 0, 30);
+		assertEquals(5, paint.builds);
+		TadukooPaintCache.getPaint(paint, 1, 30);
+		assertEquals(6, paint.builds);
+	}
+	
+	@Test
+	public void testCapacityRoundedUp(){
+		TadukooPaintCache.setCapacity(1);
+		assertEquals(4, TadukooPaintCache.getCapacity());
+		TadukooPaintCache.setCapacity(100);
+		assertEquals(128, TadukooPaintCache.getCapacity());
+		TadukooPaintCache.setCapacity(1024);
+		assertEquals(1024, TadukooPaintCache.getCapacity());
+	}
+	
+	@Test
+	public void testCacheDisabled(){
+		TadukooPaintCache.setCapacity(0);
+		CountingPaint paint = new CountingPaint();
+		TadukooPaintCache.getPaint(paint, 100, 30);
+		TadukooPaintCache.getPaint(paint, 100, 30);
+		assertEquals(2, paint.builds);
+		assertEquals(0, TadukooPaintCache.size());
+	}
+	
+	@Test
+	public void testNegativeCapacity(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooPaintCache.setCapacity(-1));
+		assertEquals("Paint cache capacity must not be negative: -1", e.getMessage());
+	}
+	
+	@Test
+	public void testClear(){
+		CountingPaint paint = new CountingPaint();
+		TadukooPaintCache.getPaint(paint, 100, 30);
+		TadukooPaintCache.clear();
+		assertEquals(0, TadukooPaintCache.size());
+		TadukooPaintCache.getPaint(paint, 100, 30);
+		assertEquals(2, paint.builds);
+	}
+}
@@ -0,0 +1,160 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooPaintMetricsTest{
+	private LookAndFeel previousLookAndFeel;
+	
+	@BeforeEach
+	public void setup() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		previousLookAndFeel = UIManager.getLookAndFeel();
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder().build()));
+		TadukooPaintMetrics.setEnabled(false);
+		TadukooPaintMetrics.reset();
+	}
+	
+	@AfterEach
+	public void tearDown() throws UnsupportedLookAndFeelException, JMException{
+		TadukooPaintMetrics.setEnabled(false);
+		TadukooPaintMetrics.reset();
+		TadukooPaintMetrics.unregisterMBean();
+		UIManager.setLookAndFeel(previousLookAndFeel);
+	}
+	
+	/**
+	 * Paints a button and a label into an image
+	 */
+	private void paintComponents(){
+		BufferedImage image = new BufferedImage(200, 50, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		try{
+			JButton button = new JButton("Test Button");
+			button.setSize(200, 50);
+			button.paint(g);
+			JLabel label = new JLabel("Test Label");
+			label.setSize(200, 50);
+			label.paint(g);
+		}finally{
+			g.dispose();
+		}
+	}
+	
+	@Test
+	public void testDisabledByDefault(){
+		TadukooPaintMetrics.setEnabled(false);
+		paintComponents();
+		assertTrue(TadukooPaintMetrics.getStageMetrics().isEmpty());
+		assertNull(TadukooPaintMetrics.getStageMetrics(TadukooButtonUI.class, PaintStage.TEXT));
+	}
+	
+	@Test
+	public void testRecordsPaintStages(){
+		TadukooPaintMetrics.setEnabled(true);
+		paintComponents();
+		
+		PaintStageMetrics buttonText = TadukooPaintMetrics.getStageMetrics(TadukooButtonUI.class, PaintStage.TEXT);
+		assertNotNull(buttonText);
+		assertEquals(TadukooButtonUI.class.getName(), buttonText.getUiClassName());
+		assertEquals("TEXT", buttonText.getStage());
+		assertEquals(1, buttonText.getCount());
+		assertEquals(1, TadukooPaintMetrics.getStageMetrics(TadukooButtonUI.class, PaintStage.BACKGROUND).getCount());
+		assertEquals(1, TadukooPaintMetrics.getStageMetrics(TadukooLabelUI.class, PaintStage.TEXT).getCount());
+		assertEquals(0, TadukooPaintMetrics.getStageMetrics(TadukooButtonUI.class, PaintStage.PRESSED).getCount());
+		
+		// Only the recorded stages are listed, by class name and stage
+		List<PaintStageMetrics> metrics = TadukooPaintMetrics.getStageMetrics();
+		assertEquals(TadukooButtonUI.class.getName(), metrics.get(0).getUiClassName());
+		assertEquals(TadukooLabelUI.class.getName(), metrics.get(metrics.size() - 1).getUiClassName());
+		for(PaintStageMetrics stageMetrics: metrics){
+			assertTrue(stageMetrics.getCount() > 0);
+		}
+	}
+	
+	@Test
+	public void testPercentiles(){
+		TadukooPaintMetrics.setEnabled(true);
+		long now = System.nanoTime();
+		for(int i = 1; i <= 1000; i++){
+			TadukooPaintMetrics.record(TadukooButtonUI.class, PaintStage.FOCUS, now - i*1000L);
+		}
+		PaintStageMetrics focus = TadukooPaintMetrics.getStageMetrics(TadukooButtonUI.class, PaintStage.FOCUS);
+		assertEquals(1000, focus.getCount());
+		assertTrue(focus.getMaxNanos() >= 1000000);
+		assertTrue(focus.getTotalNanos() >= 500500000);
+		// Percentiles are accurate to within 1/8 (and the times include some time taken to record them)
+		assertTrue(focus.getP50Nanos() >= 500000 && focus.getP50Nanos() <= 500000*9/8 + 100000,
+				"p50 = " + focus.getP50Nanos());
+		assertTrue(focus.getP90Nanos() >= 900000 && focus.getP90Nanos() <= 900000*9/8 + 100000,
+				"p90 = " + focus.getP90Nanos());
+		assertTrue(focus.getP99Nanos() <= focus.getMaxNanos());
+	}
+	
+	@Test
+	public void testReset(){
+		TadukooPaintMetrics.setEnabled(true);
+		paintComponents();
+		TadukooPaintMetrics.reset();
+		assertTrue(TadukooPaintMetrics.getStageMetrics().isEmpty());
+	}
+	
+	@Test
+	public void testCacheHitRates(){
+		assertEquals(List.of("paint", "shape", "raster", "text", "textAtlas"),
+				List.copyOf(TadukooPaintMetrics.getCacheHitRates().keySet()));
+		for(double hitRate: TadukooPaintMetrics.getCacheHitRates().values()){
+			assertTrue(hitRate >= 0 && hitRate <= 1);
+		}
+	}
+	
+	@Test
+	public void testMBean() throws JMException{
+		TadukooPaintMetrics.registerMBean();
+		// Registering again does nothing
+		TadukooPaintMetrics.registerMBean();
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(TadukooPaintMetrics.OBJECT_NAME);
+		assertTrue(server.isRegistered(name));
+		
+		assertEquals(false, server.getAttribute(name, "Enabled"));
+		server.setAttribute(name, new Attribute("Enabled", true));
+		assertTrue(TadukooPaintMetrics.isEnabled());
+		
+		paintComponents();
+		CompositeData[] metrics = (CompositeData[]) server.getAttribute(name, "StageMetrics");
+		assertEquals(TadukooPaintMetrics.getStageMetrics().size(), metrics.length);
+		assertEquals(TadukooButtonUI.class.getName(), metrics[0].get("uiClassName"));
+		
+		server.invoke(name, "reset", null, null);
+		assertTrue(TadukooPaintMetrics.getStageMetrics().isEmpty());
+		
+		TadukooPaintMetrics.unregisterMBean();
+		assertFalse(server.isRegistered(name));
+	}
+}
@@ -0,0 +1,150 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.LookAndFeel;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.Color;
+import java.awt.FontFormatException;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooPaintWatchdogTest{
+	private final List<PaintBudgetReport> reports = new CopyOnWriteArrayList<>();
+	private final Consumer<PaintBudgetReport> listener = reports::add;
+	private LookAndFeel previousLookAndFeel;
+	
+	@BeforeEach
+	public void setup() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		previousLookAndFeel = UIManager.getLookAndFeel();
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder().build()));
+		TadukooPaintWatchdog.addListener(listener);
+	}
+	
+	@AfterEach
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		TadukooPaintWatchdog.setEnabled(false);
+		TadukooPaintWatchdog.setBudgetNanos(TadukooPaintWatchdog.DEFAULT_BUDGET_NANOS);
+		TadukooPaintWatchdog.removeListener(listener);
+		UIManager.setLookAndFeel(previousLookAndFeel);
+	}
+	
+	/**
+	 * Paints a panel with a button and a label into an image in one frame on the Event Dispatch Thread, then waits
+	 * for the frame to end
+	 */
+	private void paintFrame() throws InterruptedException, InvocationTargetException{
+		SwingUtilities.invokeAndWait(() -> {
+			JPanel panel = new JPanel();
+			JButton button = new JButton("Test Button");
+			button.setName("testButton");
+			JLabel label = new JLabel("Test Label");
+			panel.add(button);
+			panel.add(label);
+			button.setSize(200, 50);
+			label.setSize(200, 50);
+			
+			BufferedImage image = new BufferedImage(200, 50, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D g = image.createGraphics();
+			try{
+				button.paint(g);
+				label.paint(g);
+			}finally{
+				g.dispose();
+			}
+		});
+		// The end of the frame was queued after the paints
+		SwingUtilities.invokeAndWait(() -> { });
+	}
+	
+	@Test
+	public void testDisabledByDefault() throws InterruptedException, InvocationTargetException{
+		TadukooPaintWatchdog.setBudgetNanos(0);
+		paintFrame();
+		assertTrue(reports.isEmpty());
+	}
+	
+	@Test
+	public void testUnderBudget() throws InterruptedException, InvocationTargetException{
+		TadukooPaintWatchdog.setBudgetNanos(Long.MAX_VALUE);
+		TadukooPaintWatchdog.setEnabled(true);
+		paintFrame();
+		assertTrue(reports.isEmpty());
+	}
+	
+	@Test
+	public void testOverBudget() throws InterruptedException, InvocationTargetException{
+		TadukooPaintWatchdog.setBudgetNanos(0);
+		TadukooPaintWatchdog.setEnabled(true);
+		paintFrame();
+		assertEquals(1, reports.size());
+		PaintBudgetReport report = reports.get(0);
+		assertEquals(0, report.getBudgetNanos());
+		assertEquals(2, report.getPaintCount());
+		assertTrue(report.getFrameNanos() > 0);
+		
+		List<PaintBudgetReport.ComponentPaint> componentPaints = report.getComponentPaints();
+		assertEquals(2, componentPaints.size());
+		assertTrue(componentPaints.get(0).getNanos() >= componentPaints.get(1).getNanos());
+		long totalNanos = 0;
+		for(PaintBudgetReport.ComponentPaint componentPaint: componentPaints){
+			assertEquals(1, componentPaint.getPaintCount());
+			totalNanos += componentPaint.getNanos();
+		}
+		assertEquals(report.getFrameNanos(), totalNanos);
+		
+		PaintBudgetReport.ComponentPaint buttonPaint = componentPaints.stream()
+				.filter(componentPaint -> componentPaint.getUiClassName().equals(TadukooButtonUI.class.getName()))
+				.findFirst().orElseThrow();
+		assertEquals("JPanel > JButton[testButton]", buttonPaint.getComponentPath());
+	}
+	
+	@Test
+	public void testPaintsOffTheEventDispatchThreadAreNotWatched(){
+		TadukooPaintWatchdog.setEnabled(true);
+		assertEquals(Long.MIN_VALUE, TadukooPaintWatchdog.start());
+	}
+	
+	@Test
+	public void testSetBudgetNanos(){
+		TadukooPaintWatchdog.setBudgetNanos(1000);
+		assertEquals(1000, TadukooPaintWatchdog.getBudgetNanos());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooPaintWatchdog.setBudgetNanos(-1));
+		assertEquals("Paint budget must not be negative: -1", e.getMessage());
+	}
+	
+	@Test
+	public void testGetPaintType(){
+		assertEquals("none", TadukooPaintWatchdog.getPaintType(null));
+		assertEquals("solid", TadukooPaintWatchdog.getPaintType(Color.RED));
+		assertEquals("gradient", TadukooPaintWatchdog.getPaintType(new GradientPaint(0, 0, Color.RED, 10, 10,
+				Color.BLUE)));
+	}
+	
+	@Test
+	public void testGetShapeName(){
+		assertEquals("ROUNDED_RECTANGLE", TadukooPaintWatchdog.getShapeName(Shapes.ROUNDED_RECTANGLE.getShapeInfo()));
+		assertEquals("custom", TadukooPaintWatchdog.getShapeName(null));
+	}
+}
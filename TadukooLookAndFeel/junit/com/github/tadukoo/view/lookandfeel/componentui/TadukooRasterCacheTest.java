@@ -0,0 +1,503 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeFunction;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooRasterCacheTest{
+	private final ShapeFunction rectangle = Shapes.RECTANGLE.getShapeInfo().getShapeFunc();
+	private final ShapeFunction circle = Shapes.CIRCLE.getShapeInfo().getShapeFunc();
+	
+	/** A sizable gradient paint that builds a new gradient every time it's sized */
+	private static class GradientSizablePaint extends ColorPaintUIResource{
+		public GradientSizablePaint(){
+			super(Color.RED);
+		}
+		
+		@Override
+		public Paint getPaint(Dimension size){
+			return new GradientPaint(0, 0, Color.RED, 0, size.height, Color.BLUE);
+		}
+	}
+	
+	@BeforeEach
+	public void setup(){
+		TadukooRasterCache.setBudget(TadukooRasterCache.DEFAULT_BUDGET);
+		TadukooRasterCache.clear();
+		TadukooRasterCache.resetStats();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		TadukooRasterCache.unregisterNineSlice(Shapes.RECTANGLE.getShapeInfo());
+		TadukooRasterCache.unregisterNineSlice(Shapes.CIRCLE.getShapeInfo());
+		TadukooRasterCache.setBudget(TadukooRasterCache.DEFAULT_BUDGET);
+		TadukooRasterCache.clear();
+		TadukooRasterCache.resetStats();
+	}
+	
+	@Test
+	public void testDefaultBudget(){
+		assertEquals(16L*1024*1024, TadukooRasterCache.DEFAULT_BUDGET);
+		assertEquals(TadukooRasterCache.DEFAULT_BUDGET, TadukooRasterCache.getBudget());
+	}
+	
+	@Test
+	public void testSameKeySharesImage(){
+		BufferedImage image = TadukooRasterCache.getImage(null, Color.RED, rectangle, 100, 30);
+		assertSame(image, TadukooRasterCache.getImage(null, Color.RED, rectangle, 100, 30));
+		assertEquals(1, TadukooRasterCache.getHits());
+		assertEquals(1, TadukooRasterCache.getMisses());
+		assertEquals(100*30*4, TadukooRasterCache.getUsedBytes());
+	}
+	
+	@Test
+	public void testEqualColorsShareImage(){
+		BufferedImage image = TadukooRasterCache.getImage(null, new Color(10, 20, 30), rectangle, 100, 30);
+		assertSame(image, TadukooRasterCache.getImage(null, new Color(10, 20, 30), rectangle, 100, 30));
+	}
+	
+	@Test
+	public void testOtherPaintsAreComparedByIdentity(){
+		GradientPaint paint1 = new GradientPaint(0, 0, Color.RED, 0, 30, Color.BLUE);
+		GradientPaint paint2 = new GradientPaint(0, 0, Color.RED, 0, 30, Color.BLUE);
+		BufferedImage image = TadukooRasterCache.getImage(null, paint1, rectangle, 100, 30);
+		assertSame(image, TadukooRasterCache.getImage(null, paint1, rectangle, 100, 30));
+		assertNotSame(image, TadukooRasterCache.getImage(null, paint2, rectangle, 100, 30));
+	}
+	
+	@Test
+	public void testDifferentKeysRenderNewImages(){
+		BufferedImage image = TadukooRasterCache.getImage(null, Color.RED, rectangle, 100, 30);
+		assertNotSame(image, TadukooRasterCache.getImage(null, Color.RED, rectangle, 120, 30));
+		assertNotSame(image, TadukooRasterCache.getImage(null, Color.RED, circle, 100, 30));
+		assertNotSame(image, TadukooRasterCache.getImage(null, Color.BLUE, rectangle, 100, 30));
+		assertEquals(4, TadukooRasterCache.size());
+	}
+	
+	@Test
+	public void testImageIsRendered(){
+		BufferedImage image = TadukooRasterCache.getImage(null, Color.RED, rectangle, 100, 30);
+		assertEquals(100, image.getWidth());
+		assertEquals(30, image.getHeight());
+		assertEquals(Color.RED.getRGB(), image.getRGB(50, 15));
+	}
+	
+	@Test
+	public void testBudgetEvictsLeastRecentlyUsed(){
+		TadukooRasterCache.setBudget(2*10*10*4);
+		BufferedImage red = TadukooRasterCache.getImage(null, Color.RED, rectangle, 10, 10);
+		BufferedImage blue = TadukooRasterCache.getImage(null, Color.BLUE, rectangle, 10, 10);
+		// Use the red image again, so the blue one is the least recently used
+		TadukooRasterCache.getImage(null, Color.RED, rectangle, 10, 10);
+		TadukooRasterCache.getImage(null, Color.GREEN, rectangle, 10, 10);
+		
+		assertEquals(2, TadukooRasterCache.size());
+		assertEquals(2*10*10*4, TadukooRasterCache.getUsedBytes());
+		assertEquals(1, TadukooRasterCache.getEvictions());
+		assertSame(red, TadukooRasterCache.getImage(null, Color.RED, rectangle, 10, 10));
+		assertNotSame(blue, TadukooRasterCache.getImage(null, Color.BLUE, rectangle, 10, 10));
+	}
+	
+	@Test
+	public void testShrinkBudget(){
+		TadukooRasterCache.getImage(null, Color.RED, rectangle, 10, 10);
+		TadukooRasterCache.getImage(null, Color.BLUE, rectangle, 10, 10);
+		TadukooRasterCache.setBudget(10*10*4);
+		assertEquals(1, TadukooRasterCache.size());
+		assertEquals(10*10*4, TadukooRasterCache.getUsedBytes());
+	}
+	
+	@Test
+	public void testImageBiggerThanBudget(){
+		TadukooRasterCache.setBudget(10*10*4);
+		assertNull(TadukooRasterCache.getImage(null, Color.RED, rectangle, 11, 10));
+		assertEquals(0, TadukooRasterCache.size());
+	}
+	
+	@Test
+	public void testEmptyImage(){
+		assertNull(TadukooRasterCache.getImage(null, Color.RED, rectangle, 0, 10));
+		assertNull(TadukooRasterCache.getImage(null, Color.RED, rectangle, 10, 0));
+	}
+	
+	@Test
+	public void testClear(){
+		TadukooRasterCache.getImage(null, Color.RED, rectangle, 10, 10);
+		TadukooRasterCache.clear();
+		assertEquals(0, TadukooRasterCache.size());
+		assertEquals(0, TadukooRasterCache.getUsedBytes());
+	}
+	
+	@Test
+	public void testCacheDisabled(){
+		assertTrue(TadukooRasterCache.isEnabled());
+		TadukooRasterCache.setBudget(0);
+		assertFalse(TadukooRasterCache.isEnabled());
+		assertNull(TadukooRasterCache.getImage(null, Color.RED, rectangle, 10, 10));
+	}
+	
+	@Test
+	public void testImageRenderedAtDeviceScale(){
+		BufferedImage image = TadukooRasterCache.getImage(new ScaledConfiguration(2), Color.RED, rectangle, 100, 30);
+		assertEquals(200, image.getWidth());
+		assertEquals(60, image.getHeight());
+		assertEquals(Color.RED.getRGB(), image.getRGB(199, 59));
+		assertEquals(200*60*4, TadukooRasterCache.getUsedBytes());
+	}
+	
+	@Test
+	public void testFractionalDeviceScaleNeedsWholePixels(){
+		ScaledConfiguration config = new ScaledConfiguration(1.5);
+		assertNull(TadukooRasterCache.getImage(config, Color.RED, rectangle, 15, 6));
+		assertNull(TadukooRasterCache.getImage(config, Color.RED, rectangle, 16, 5));
+		assertEquals(0, TadukooRasterCache.size());
+		
+		BufferedImage image = TadukooRasterCache.getImage(config, Color.RED, rectangle, 16, 6);
+		assertEquals(24, image.getWidth());
+		assertEquals(9, image.getHeight());
+	}
+	
+	@Test
+	public void testDrawShapeNotAlignedWithPixels(){
+		GradientPaint paint = new GradientPaint(0, 0, Color.RED, 0, 10, Color.BLUE);
+		Graphics2D g2d = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB).createGraphics();
+		try{
+			// The origin isn't on a pixel
+			g2d.setTransform(AffineTransform.getTranslateInstance(0.5, 0));
+			assertFalse(TadukooRasterCache.drawShape(g2d, paint, circle, 10, 10));
+			
+			// The graphics is scaled beyond the device scale
+			g2d.setTransform(AffineTransform.getScaleInstance(1.5, 1.5));
+			assertFalse(TadukooRasterCache.drawShape(g2d, paint, circle, 10, 10));
+			assertEquals(0, TadukooRasterCache.size());
+			
+			// A whole pixel translation is fine
+			g2d.setTransform(AffineTransform.getTranslateInstance(3, 4));
+			assertTrue(TadukooRasterCache.drawShape(g2d, paint, circle, 10, 10));
+		}finally{
+			g2d.dispose();
+		}
+	}
+	
+	@Test
+	public void testImagesPerConfiguration(){
+		ScaledConfiguration unscaled = new ScaledConfiguration(1);
+		ScaledConfiguration scaled = new ScaledConfiguration(2);
+		BufferedImage unscaledImage = TadukooRasterCache.getImage(unscaled, Color.RED, rectangle, 100, 30);
+		BufferedImage scaledImage = TadukooRasterCache.getImage(scaled, Color.RED, rectangle, 100, 30);
+		assertNotSame(unscaledImage, scaledImage);
+		assertEquals(100, unscaledImage.getWidth());
+		assertEquals(200, scaledImage.getWidth());
+		
+		// Moving back to the first configuration uses its image again
+		assertSame(unscaledImage, TadukooRasterCache.getImage(unscaled, Color.RED, rectangle, 100, 30));
+		assertSame(scaledImage, TadukooRasterCache.getImage(scaled, Color.RED, rectangle, 100, 30));
+	}
+	
+	@Test
+	public void testScaledImageBiggerThanBudget(){
+		TadukooRasterCache.setBudget(10*10*4);
+		assertNull(TadukooRasterCache.getImage(new ScaledConfiguration(2), Color.RED, rectangle, 10, 10));
+	}
+	
+	/**
+	 * Draws the shape using the cache onto a new image
+	 *
+	 * @param paint The paint to fill the shape with
+	 * @param shapeFunc The shape function to use
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @return The image the shape was drawn onto
+	 */
+	private BufferedImage drawShape(Paint paint, ShapeFunction shapeFunc, int width, int height){
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			assertTrue(TadukooRasterCache.drawShape(g2d, paint, shapeFunc, width, height));
+		}finally{
+			g2d.dispose();
+		}
+		return image;
+	}
+	
+	private BufferedImage fillShape(Paint paint, ShapeFunction shapeFunc, int width, int height){
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			g2d.setPaint(paint);
+			g2d.fill(shapeFunc.apply(0, 0, width, height));
+		}finally{
+			g2d.dispose();
+		}
+		return image;
+	}
+	
+	private void assertSamePixels(BufferedImage expected, BufferedImage actual){
+		for(int x = 0; x < expected.getWidth(); x++){
+			for(int y = 0; y < expected.getHeight(); y++){
+				assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "Pixel (" + x + ", " + y + ") differs");
+			}
+		}
+	}
+	
+	private void drawShape(SizablePaint paint, ShapeFunction shapeFunc, int width, int height){
+		Graphics2D g2d = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB).createGraphics();
+		try{
+			assertTrue(TadukooRasterCache.drawShape(g2d, paint, shapeFunc, width, height));
+		}finally{
+			g2d.dispose();
+		}
+	}
+	
+	@Test
+	public void testFixedArcShapesRegisteredForNineSlice(){
+		assertEquals(-1, TadukooRasterCache.getNineSliceCornerSize(Shapes.RECTANGLE.getShapeInfo()));
+		assertEquals(-1, TadukooRasterCache.getNineSliceCornerSize(Shapes.CIRCLE.getShapeInfo()));
+		for(Shapes shape: Shapes.values()){
+			if(shape != Shapes.RECTANGLE && shape != Shapes.CIRCLE){
+				int corner = TadukooRasterCache.getFixedCornerSize(shape.getShapeInfo().getShapeFunc());
+				assertEquals(corner > 0?corner:-1, TadukooRasterCache.getNineSliceCornerSize(shape.getShapeInfo()),
+						shape.name());
+			}
+		}
+	}
+	
+	@Test
+	public void testFixedCornerSize(){
+		assertEquals(5, TadukooRasterCache.getFixedCornerSize(
+				(x, y, width, height) -> new RoundRectangle2D.Double(x, y, width, height, 10, 10)));
+		assertEquals(4, TadukooRasterCache.getFixedCornerSize(
+				(x, y, width, height) -> new RoundRectangle2D.Double(x, y, width, height, 7, 4)));
+		assertEquals(-1, TadukooRasterCache.getFixedCornerSize(
+				(x, y, width, height) -> new RoundRectangle2D.Double(x, y, width, height, width/4.0, height/4.0)));
+		assertEquals(-1, TadukooRasterCache.getFixedCornerSize(
+				(x, y, width, height) -> new RoundRectangle2D.Double(x, y, width, height, 0, 0)));
+		assertEquals(-1, TadukooRasterCache.getFixedCornerSize(rectangle));
+		assertEquals(-1, TadukooRasterCache.getFixedCornerSize(circle));
+	}
+	
+	@Test
+	public void testRegisterNineSlice(){
+		TadukooRasterCache.registerNineSlice(Shapes.CIRCLE.getShapeInfo(), 5);
+		assertEquals(5, TadukooRasterCache.getNineSliceCornerSize(Shapes.CIRCLE.getShapeInfo()));
+		TadukooRasterCache.unregisterNineSlice(Shapes.CIRCLE.getShapeInfo());
+		assertEquals(-1, TadukooRasterCache.getNineSliceCornerSize(Shapes.CIRCLE.getShapeInfo()));
+	}
+	
+	@Test
+	public void testNegativeNineSliceCornerSize(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooRasterCache.registerNineSlice(Shapes.CIRCLE.getShapeInfo(), -1));
+		assertEquals("Nine-slice corner size must be positive: -1", e.getMessage());
+	}
+	
+	@Test
+	public void testZeroNineSliceCornerSize(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooRasterCache.registerNineSlice(Shapes.RECTANGLE.getShapeInfo(), 0));
+		assertEquals("Nine-slice corner size must be positive: 0", e.getMessage());
+	}
+	
+	@Test
+	public void testNineSliceServesEverySize(){
+		TadukooRasterCache.registerNineSlice(Shapes.RECTANGLE.getShapeInfo(), 2);
+		drawShape(Color.RED, rectangle, 100, 30);
+		drawShape(Color.RED, rectangle, 120, 30);
+		drawShape(Color.RED, rectangle, 57, 83);
+		assertEquals(1, TadukooRasterCache.size());
+		assertEquals(1, TadukooRasterCache.getMisses());
+	}
+	
+	@Test
+	public void testNineSliceMatchesWholeShape(){
+		TadukooRasterCache.registerNineSlice(Shapes.RECTANGLE.getShapeInfo(), 3);
+		assertSamePixels(fillShape(Color.RED, rectangle, 40, 20), drawShape(Color.RED, rectangle, 40, 20));
+	}
+	
+	@Test
+	public void testNineSliceNotUsedForGradients(){
+		TadukooRasterCache.registerNineSlice(Shapes.RECTANGLE.getShapeInfo(), 2);
+		GradientPaint paint = new GradientPaint(0, 0, Color.RED, 0, 30, Color.BLUE);
+		drawShape(paint, rectangle, 100, 30);
+		drawShape(paint, rectangle, 120, 30);
+		assertEquals(2, TadukooRasterCache.size());
+	}
+	
+	@Test
+	public void testSizablePaintKeysImageWhenPaintIsRebuilt(){
+		// With the paint cache disabled, every sized paint is a new gradient
+		TadukooPaintCache.setCapacity(0);
+		try{
+			SizablePaint paint = new GradientSizablePaint();
+			drawShape(paint, rectangle, 100, 30);
+			drawShape(paint, rectangle, 100, 30);
+			assertEquals(1, TadukooRasterCache.size());
+			assertEquals(1, TadukooRasterCache.getHits());
+			assertEquals(1, TadukooRasterCache.getMisses());
+			
+			// Other sizes and other sizable paints still get their own images
+			drawShape(paint, rectangle, 120, 30);
+			drawShape(new GradientSizablePaint(), rectangle, 100, 30);
+			assertEquals(3, TadukooRasterCache.size());
+		}finally{
+			TadukooPaintCache.setCapacity(TadukooPaintCache.DEFAULT_CAPACITY);
+		}
+	}
+	
+	/**
+	 * @return Whether the shape was drawn from the cache
+	 */
+	private boolean tryDrawShape(Paint paint, ShapeFunction shapeFunc, int width, int height){
+		Graphics2D g2d = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB).createGraphics();
+		try{
+			return TadukooRasterCache.drawShape(g2d, paint, shapeFunc, width, height);
+		}finally{
+			g2d.dispose();
+		}
+	}
+	
+	/**
+	 * @param cached Whether to draw the shape from the cache (otherwise it's filled directly)
+	 * @return The image with the shape drawn in it with antialiasing on
+	 */
+	private BufferedImage drawAntialiased(Paint paint, ShapeFunction shapeFunc, int width, int height,
+	                                      boolean cached){
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			if(cached){
+				assertTrue(TadukooRasterCache.drawShape(g2d, paint, shapeFunc, width, height));
+			}else{
+				g2d.setPaint(paint);
+				g2d.fill(shapeFunc.apply(0, 0, width, height));
+			}
+		}finally{
+			g2d.dispose();
+		}
+		return image;
+	}
+	
+	@Test
+	public void testAntialiasedImageMatchesDirectFill(){
+		ShapeFunction roundedRectangle = (x, y, width, height) ->
+				new RoundRectangle2D.Double(x, y, width, height, 12, 12);
+		GradientPaint paint = new GradientPaint(0, 0, Color.RED, 0, 30, Color.BLUE);
+		assertSamePixels(drawAntialiased(paint, roundedRectangle, 40, 30, false),
+				drawAntialiased(paint, roundedRectangle, 40, 30, true));
+		assertSamePixels(drawAntialiased(paint, circle, 40, 30, false),
+				drawAntialiased(paint, circle, 40, 30, true));
+	}
+	
+	@Test
+	public void testAntialiasingKeysImages(){
+		GradientPaint paint = new GradientPaint(0, 0, Color.RED, 0, 30, Color.BLUE);
+		drawShape(paint, circle, 40, 30);
+		drawAntialiased(paint, circle, 40, 30, true);
+		assertEquals(2, TadukooRasterCache.size());
+		drawAntialiased(paint, circle, 40, 30, true);
+		assertEquals(2, TadukooRasterCache.size());
+		assertEquals(1, TadukooRasterCache.getHits());
+	}
+	
+	@Test
+	public void testSolidColorsNotCachedForUnregisteredShapes(){
+		assertFalse(tryDrawShape(Color.RED, circle, 100, 30));
+		assertFalse(tryDrawShape(Color.RED, rectangle, 120, 30));
+		assertEquals(0, TadukooRasterCache.size());
+		assertEquals(0, TadukooRasterCache.getMisses());
+	}
+	
+	@Test
+	public void testSolidColorsNotCachedWhenTooSmallForCorners(){
+		TadukooRasterCache.registerNineSlice(Shapes.RECTANGLE.getShapeInfo(), 10);
+		assertFalse(tryDrawShape(Color.RED, rectangle, 15, 30));
+		assertEquals(0, TadukooRasterCache.size());
+	}
+	
+	@Test
+	public void testDrawShapeWhenDisabled(){
+		TadukooRasterCache.setBudget(0);
+		Graphics2D g2d = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB).createGraphics();
+		try{
+			assertFalse(TadukooRasterCache.drawShape(g2d, Color.RED, rectangle, 10, 10));
+		}finally{
+			g2d.dispose();
+		}
+	}
+	
+	@Test
+	public void testNegativeBudget(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooRasterCache.setBudget(-1));
+		assertEquals("Raster cache budget must not be negative: -1", e.getMessage());
+	}
+	
+	/**
+	 * A {@link GraphicsConfiguration} with the given device scale, like the configuration of a HiDPI screen
+	 */
+	private static class ScaledConfiguration extends GraphicsConfiguration{
+		private final double scale;
+		
+		private ScaledConfiguration(double scale){
+			this.scale = scale;
+		}
+		
+		@Override
+		public GraphicsDevice getDevice(){
+			return null;
+		}
+		
+		@Override
+		public ColorModel getColorModel(){
+			return ColorModel.getRGBdefault();
+		}
+		
+		@Override
+		public ColorModel getColorModel(int transparency){
+			return ColorModel.getRGBdefault();
+		}
+		
+		@Override
+		public AffineTransform getDefaultTransform(){
+			return AffineTransform.getScaleInstance(scale, scale);
+		}
+		
+		@Override
+		public AffineTransform getNormalizingTransform(){
+			return new AffineTransform();
+		}
+		
+		@Override
+		public Rectangle getBounds(){
+			return new Rectangle(0, 0, 1920, 1080);
+		}
+	}
+}
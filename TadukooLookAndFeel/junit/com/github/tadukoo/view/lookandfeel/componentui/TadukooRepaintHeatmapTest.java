@@ -0,0 +1,228 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JLayer;
+import javax.swing.JPanel;
+import javax.swing.LookAndFeel;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.Component;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooRepaintHeatmapTest{
+	private LookAndFeel previousLookAndFeel;
+	private JPanel panel;
+	private JButton button;
+	private JLayer<JComponent> layer;
+	
+	@BeforeEach
+	public void setup() throws IOException, FontFormatException, UnsupportedLookAndFeelException,
+			InterruptedException, InvocationTargetException{
+		previousLookAndFeel = UIManager.getLookAndFeel();
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder().build()));
+		TadukooRepaintHeatmap.clear();
+		SwingUtilities.invokeAndWait(() -> {
+			panel = new JPanel(null);
+			button = new JButton("Test");
+			button.setBounds(10, 10, 100, 30);
+			panel.add(button);
+			panel.setSize(200, 50);
+		});
+	}
+	
+	@AfterEach
+	public void tearDown() throws UnsupportedLookAndFeelException, InterruptedException, InvocationTargetException{
+		SwingUtilities.invokeAndWait(() -> {
+			if(layer != null){
+				layer.setUI(null);
+			}
+		});
+		TadukooRepaintHeatmap.setWindowMillis(TadukooRepaintHeatmap.DEFAULT_WINDOW_MILLIS);
+		UIManager.setLookAndFeel(previousLookAndFeel);
+	}
+	
+	/**
+	 * Installs the heatmap overlay around the panel
+	 */
+	private void installOverlay() throws InterruptedException, InvocationTargetException{
+		SwingUtilities.invokeAndWait(() -> {
+			layer = new JLayer<>(panel, TadukooRepaintHeatmap.createLayerUI());
+			layer.setSize(200, 50);
+		});
+	}
+	
+	/**
+	 * Paints the given component into an image on the Event Dispatch Thread
+	 *
+	 * @param c The component to paint
+	 * @param times The number of times to paint it
+	 * @return The image with the component painted in it
+	 */
+	private BufferedImage paint(Component c, int times) throws InterruptedException, InvocationTargetException{
+		BufferedImage image = new BufferedImage(200, 50, BufferedImage.TYPE_INT_ARGB);
+		SwingUtilities.invokeAndWait(() -> {
+			for(int i = 0; i < times; i++){
+				Graphics2D g = image.createGraphics();
+				try{
+					c.paint(g);
+				}finally{
+					g.dispose();
+				}
+			}
+		});
+		return image;
+	}
+	
+	/**
+	 * @param c A component
+	 * @return The number of times the component was repainted in the current window
+	 */
+	private int getRepaintCount(Component c) throws InterruptedException, InvocationTargetException{
+		int[] count = new int[1];
+		SwingUtilities.invokeAndWait(() -> count[0] = TadukooRepaintHeatmap.getRepaintCount(c));
+		return count[0];
+	}
+	
+	@Test
+	public void testNotCountingWithoutOverlay() throws InterruptedException, InvocationTargetException{
+		assertFalse(TadukooRepaintHeatmap.isEnabled());
+		paint(button, 3);
+		assertEquals(0, getRepaintCount(button));
+	}
+	
+	@Test
+	public void testCountsRepaints() throws InterruptedException, InvocationTargetException{
+		installOverlay();
+		assertTrue(TadukooRepaintHeatmap.isEnabled());
+		paint(button, 3);
+		assertEquals(3, getRepaintCount(button));
+		
+		long[] paintNanos = new long[1];
+		SwingUtilities.invokeAndWait(() -> paintNanos[0] = TadukooRepaintHeatmap.getPaintNanos(button));
+		assertTrue(paintNanos[0] > 0);
+		
+		// Uninstalling the overlay stops counting
+		SwingUtilities.invokeAndWait(() -> layer.setUI(null));
+		assertFalse(TadukooRepaintHeatmap.isEnabled());
+		paint(button, 3);
+		assertEquals(3, getRepaintCount(button));
+	}
+	
+	@Test
+	public void testCountsOverTheWindow() throws InterruptedException, InvocationTargetException{
+		TadukooRepaintHeatmap.setWindowMillis(100);
+		assertEquals(100, TadukooRepaintHeatmap.getWindowMillis());
+		installOverlay();
+		paint(button, 3);
+		assertEquals(3, getRepaintCount(button));
+		Thread.sleep(150);
+		assertEquals(0, getRepaintCount(button));
+	}
+	
+	@Test
+	public void testCountsManyComponents() throws InterruptedException, InvocationTargetException{
+		installOverlay();
+		List<JLabel> labels = new ArrayList<>();
+		for(int i = 0; i < 500; i++){
+			JLabel label = new JLabel("Label " + i);
+			label.setSize(50, 20);
+			labels.add(label);
+		}
+		
+		// Paint and check them in one go, so none of the repaints leave the window
+		int[] counts = new int[labels.size()];
+		SwingUtilities.invokeAndWait(() -> {
+			BufferedImage image = new BufferedImage(50, 20, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D g = image.createGraphics();
+			try{
+				for(int i = 0; i < labels.size(); i++){
+					for(int j = 0; j <= i%3; j++){
+						labels.get(i).paint(g);
+					}
+				}
+			}finally{
+				g.dispose();
+			}
+			for(int i = 0; i < labels.size(); i++){
+				counts[i] = TadukooRepaintHeatmap.getRepaintCount(labels.get(i));
+			}
+		});
+		for(int i = 0; i < labels.size(); i++){
+			assertEquals(i%3 + 1, counts[i]);
+		}
+	}
+	
+	@Test
+	public void testPaintsHeatmap() throws InterruptedException, InvocationTargetException{
+		installOverlay();
+		BufferedImage withoutOverlay = paint(panel, 1);
+		paint(button, 30);
+		BufferedImage withOverlay = paint(layer, 1);
+		assertNotEquals(withoutOverlay.getRGB(60, 25), withOverlay.getRGB(60, 25));
+		// Nothing is drawn outside the button
+		assertEquals(withoutOverlay.getRGB(150, 5), withOverlay.getRGB(150, 5));
+	}
+	
+	/**
+	 * @return Whether the overlay is refreshing
+	 */
+	private boolean isRefreshing() throws InterruptedException, InvocationTargetException{
+		boolean[] refreshing = new boolean[1];
+		SwingUtilities.invokeAndWait(
+				() -> refreshing[0] = ((TadukooRepaintHeatmap.HeatmapLayerUI) layer.getUI()).isRefreshing());
+		return refreshing[0];
+	}
+	
+	/**
+	 * Waits for the overlay to stop refreshing, failing if it takes too long
+	 */
+	private void waitUntilNotRefreshing() throws InterruptedException, InvocationTargetException{
+		long deadline = System.currentTimeMillis() + 5000;
+		while(isRefreshing()){
+			assertTrue(System.currentTimeMillis() < deadline, "The overlay didn't stop refreshing");
+			Thread.sleep(50);
+		}
+	}
+	
+	@Test
+	public void testStopsRefreshingWithoutHeat() throws InterruptedException, InvocationTargetException{
+		TadukooRepaintHeatmap.setWindowMillis(100);
+		installOverlay();
+		assertTrue(isRefreshing());
+		waitUntilNotRefreshing();
+		
+		// Repainting a component starts refreshing again, until its heat is gone
+		paint(button, 3);
+		assertTrue(isRefreshing());
+		waitUntilNotRefreshing();
+		assertEquals(0, getRepaintCount(button));
+	}
+	
+	@Test
+	public void testSetWindowMillisNotPositive(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooRepaintHeatmap.setWindowMillis(0));
+		assertEquals("Repaint window must be positive: 0", e.getMessage());
+	}
+}
@@ -0,0 +1,124 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JPanel;
+import java.awt.Component;
+import java.awt.Shape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooShapeCacheTest{
+	private final ShapeInfo rectangle = Shapes.RECTANGLE.getShapeInfo();
+	private final ShapeInfo circle = Shapes.CIRCLE.getShapeInfo();
+	
+	@BeforeEach
+	public void setup(){
+		TadukooShapeCache.setMaxSize(TadukooShapeCache.DEFAULT_MAX_SIZE);
+		TadukooShapeCache.clear();
+		TadukooShapeCache.resetStats();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		TadukooShapeCache.setMaxSize(TadukooShapeCache.DEFAULT_MAX_SIZE);
+		TadukooShapeCache.clear();
+		TadukooShapeCache.resetStats();
+	}
+	
+	@Test
+	public void testSameSizeReusesShape(){
+		Component c = new JPanel();
+		Shape shape = TadukooShapeCache.getShape(c, rectangle, 100, 30);
+		assertSame(shape, TadukooShapeCache.getShape(c, rectangle, 100, 30));
+		assertEquals(1, TadukooShapeCache.getHits());
+		assertEquals(1, TadukooShapeCache.getMisses());
+	}
+	
+	@Test
+	public void testSizeChangeRebuildsShape(){
+		Component c = new JPanel();
+		Shape shape = TadukooShapeCache.getShape(c, rectangle, 100, 30);
+		Shape resized = TadukooShapeCache.getShape(c, rectangle, 120, 30);
+		assertNotSame(shape, resized);
+		assertEquals(120, resized.getBounds().width);
+		assertEquals(1, TadukooShapeCache.size());
+	}
+	
+	@Test
+	public void testShapeInfoChangeRebuildsShape(){
+		Component c = new JPanel();
+		Shape shape = TadukooShapeCache.getShape(c, rectangle, 100, 30);
+		assertNotSame(shape, TadukooShapeCache.getShape(c, circle, 100, 30));
+		assertEquals(2, TadukooShapeCache.getMisses());
+	}
+	
+	@Test
+	public void testShapesArePerComponent(){
+		Shape shape1 = TadukooShapeCache.getShape(new JPanel(), rectangle, 100, 30);
+		Shape shape2 = TadukooShapeCache.getShape(new JPanel(), rectangle, 100, 30);
+		assertNotSame(shape1, shape2);
+	}
+	
+	@Test
+	public void testInvalidate(){
+		Component c = new JPanel();
+		Shape shape = TadukooShapeCache.getShape(c, rectangle, 100, 30);
+		TadukooShapeCache.invalidate(c);
+		assertEquals(0, TadukooShapeCache.size());
+		assertNotSame(shape, TadukooShapeCache.getShape(c, rectangle, 100, 30));
+	}
+	
+	@Test
+	public void testMaxSizeEvictsLeastRecentlyUsed(){
+		TadukooShapeCache.setMaxSize(4);
+		Component[] components = new Component[4];
+		Shape[] shapes = new Shape[4];
+		for(int i = 0; i < 4; i++){
+			components[i] = new JPanel();
+			shapes[i] = TadukooShapeCache.getShape(components[i], rectangle, 100, 30);
+		}
+		// Use the first component again, so the second one is the least recently used
+		TadukooShapeCache.getShape(components[0], rectangle, 100, 30);
+		TadukooShapeCache.getShape(new JPanel(), rectangle, 100, 30);
+		
+		assertEquals(4, TadukooShapeCache.size());
+		assertEquals(1, TadukooShapeCache.getEvictions());
+		assertSame(shapes[0], TadukooShapeCache.getShape(components[0], rectangle, 100, 30));
+		assertNotSame(shapes[1], TadukooShapeCache.getShape(components[1], rectangle, 100, 30));
+	}
+	
+	@Test
+	public void testShrinkMaxSize(){
+		for(int i = 0; i < 10; i++){
+			TadukooShapeCache.getShape(new JPanel(), rectangle, 100, 30);
+		}
+		TadukooShapeCache.setMaxSize(5);
+		assertEquals(5, TadukooShapeCache.getMaxSize());
+		assertTrue(TadukooShapeCache.size() <= 5);
+	}
+	
+	@Test
+	public void testCacheDisabled(){
+		TadukooShapeCache.setMaxSize(0);
+		Component c = new JPanel();
+		Shape shape = TadukooShapeCache.getShape(c, rectangle, 100, 30);
+		assertNotSame(shape, TadukooShapeCache.getShape(c, rectangle, 100, 30));
+		assertEquals(0, TadukooShapeCache.size());
+	}
+	
+	@Test
+	public void testNegativeMaxSize(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooShapeCache.setMaxSize(-1));
+		assertEquals("Shape cache max size must not be negative: -1", e.getMessage());
+	}
+}
@@ -0,0 +1,108 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooSharedUIDelegateTest{
+	/** The number of labels to create for checking how many Component UIs they use */
+	private static final int LABEL_COUNT = 100;
+	
+	private LookAndFeel previousLookAndFeel;
+	
+	@BeforeEach
+	public void setup(){
+		previousLookAndFeel = UIManager.getLookAndFeel();
+	}
+	
+	@AfterEach
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(previousLookAndFeel);
+	}
+	
+	private void setLookAndFeel(boolean sharedUIDelegates)
+			throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder()
+				.componentDefault(TadukooLookAndFeel.SHARED_UI_DELEGATES, sharedUIDelegates)
+				.build()));
+	}
+	
+	/**
+	 * @return The number of distinct Component UIs used by {@link #LABEL_COUNT} labels created under the current
+	 * Look &amp; Feel
+	 */
+	private int distinctUIsForLabels(){
+		Set<Object> uis = Collections.newSetFromMap(new IdentityHashMap<>());
+		for(int i = 0; i < LABEL_COUNT; i++){
+			uis.add(new JLabel("Label " + i).getUI());
+		}
+		return uis.size();
+	}
+	
+	@Test
+	public void testNotSharedByDefault() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder().build()));
+		assertNotSame(new JButton().getUI(), new JButton().getUI());
+		assertNotSame(new JLabel().getUI(), new JLabel().getUI());
+	}
+	
+	@Test
+	public void testSharedButtonUI() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		setLookAndFeel(true);
+		JButton button1 = new JButton();
+		JButton button2 = new JButton();
+		assertTrue(button1.getUI() instanceof TadukooButtonUI);
+		assertSame(button1.getUI(), button2.getUI());
+	}
+	
+	@Test
+	public void testSharedLabelUI() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		setLookAndFeel(true);
+		JLabel label1 = new JLabel();
+		JLabel label2 = new JLabel();
+		assertTrue(label1.getUI() instanceof TadukooLabelUI);
+		assertSame(label1.getUI(), label2.getUI());
+	}
+	
+	@Test
+	public void testSharedUIKeepsComponentsSeparate() throws IOException, FontFormatException,
+			UnsupportedLookAndFeelException{
+		setLookAndFeel(true);
+		JButton button1 = new JButton("Button 1");
+		JButton button2 = new JButton("Button 2");
+		button1.setSize(100, 30);
+		button2.setSize(50, 20);
+		TadukooButtonUI ui = (TadukooButtonUI) button1.getUI();
+		assertEquals(100, ui.getSizedShape(button1, 100, 30).getBounds().width);
+		assertEquals(50, ui.getSizedShape(button2, 50, 20).getBounds().width);
+		assertEquals(100, ui.getSizedShape(button1, 100, 30).getBounds().width);
+	}
+	
+	@Test
+	public void testSharedLabelsUseOneUI() throws IOException, FontFormatException,
+			UnsupportedLookAndFeelException{
+		// The memory this saves is measured by SharedUIDelegateBenchmark
+		setLookAndFeel(false);
+		assertEquals(LABEL_COUNT, distinctUIsForLabels());
+		setLookAndFeel(true);
+		assertEquals(1, distinctUIsForLabels());
+	}
+}
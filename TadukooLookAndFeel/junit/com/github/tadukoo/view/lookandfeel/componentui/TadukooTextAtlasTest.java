@@ -0,0 +1,179 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooTextAtlasTest{
+	private final Font font = new Font(Font.DIALOG, Font.ITALIC, 16);
+	
+	@BeforeEach
+	public void setup(){
+		TadukooTextAtlas.setAtlasSize(TadukooTextAtlas.DEFAULT_ATLAS_SIZE);
+		TadukooTextAtlas.resetStats();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		TadukooTextAtlas.setAtlasSize(TadukooTextAtlas.DEFAULT_ATLAS_SIZE);
+		TadukooTextAtlas.resetStats();
+	}
+	
+	/**
+	 * Draws the given text twice (so that the atlas is hit) into a new image
+	 *
+	 * @param atlas Whether to draw the text from the atlas (or directly)
+	 * @param paint The paint to draw the text with
+	 * @param antialiasing The text antialiasing hint to use
+	 * @return The image the text was drawn into
+	 */
+	private BufferedImage drawText(boolean atlas, Paint paint, Object antialiasing){
+		BufferedImage image = new BufferedImage(250, 50, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			g2d.setPaint(Color.WHITE);
+			g2d.fillRect(0, 0, 250, 50);
+			g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, antialiasing);
+			g2d.setFont(font);
+			g2d.setPaint(paint);
+			g2d.translate(7, 3);
+			TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "Test Text, fjq!");
+			for(int i = 0; i < 2; i++){
+				if(atlas){
+					TadukooTextAtlas.draw(g2d, text, 5, 30);
+				}else{
+					text.draw(g2d, 5, 30);
+				}
+			}
+		}finally{
+			g2d.dispose();
+		}
+		return image;
+	}
+	
+	private void assertSamePixels(BufferedImage expected, BufferedImage actual){
+		for(int x = 0; x < expected.getWidth(); x++){
+			for(int y = 0; y < expected.getHeight(); y++){
+				assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "Pixel at " + x + ", " + y);
+			}
+		}
+	}
+	
+	@Test
+	public void testDefaultAtlasSize(){
+		assertEquals(1024, TadukooTextAtlas.DEFAULT_ATLAS_SIZE);
+		assertEquals(TadukooTextAtlas.DEFAULT_ATLAS_SIZE, TadukooTextAtlas.getAtlasSize());
+	}
+	
+	@Test
+	public void testSameTextIsRasterizedOnce(){
+		drawText(true, Color.BLUE, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+		assertEquals(1, TadukooTextAtlas.getHits());
+		assertEquals(1, TadukooTextAtlas.getMisses());
+		assertEquals(1, TadukooTextAtlas.size());
+	}
+	
+	@Test
+	public void testAtlasMatchesDirectDrawingColor(){
+		Paint paint = new Color(20, 80, 200);
+		assertSamePixels(drawText(false, paint, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF),
+				drawText(true, paint, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF));
+	}
+	
+	@Test
+	public void testAtlasMatchesDirectDrawingAntialiased(){
+		Paint paint = new Color(20, 80, 200, 200);
+		assertSamePixels(drawText(false, paint, RenderingHints.VALUE_TEXT_ANTIALIAS_ON),
+				drawText(true, paint, RenderingHints.VALUE_TEXT_ANTIALIAS_ON));
+	}
+	
+	@Test
+	public void testAtlasMatchesDirectDrawingGradient(){
+		Paint paint = new GradientPaint(0, 0, Color.RED, 0, 40, new Color(0, 0, 255, 128));
+		assertSamePixels(drawText(false, paint, RenderingHints.VALUE_TEXT_ANTIALIAS_ON),
+				drawText(true, paint, RenderingHints.VALUE_TEXT_ANTIALIAS_ON));
+	}
+	
+	@Test
+	public void testColorTextIsSharedAcrossPositions(){
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			g2d.setFont(font);
+			g2d.setPaint(Color.BLACK);
+			TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "Test");
+			TadukooTextAtlas.draw(g2d, text, 5, 20);
+			TadukooTextAtlas.draw(g2d, text, 5, 60);
+			assertEquals(1, TadukooTextAtlas.size());
+			
+			// Other paints give different parts of the paint at different positions
+			g2d.setPaint(new GradientPaint(0, 0, Color.RED, 0, 100, Color.BLUE));
+			TadukooTextAtlas.draw(g2d, text, 5, 20);
+			TadukooTextAtlas.draw(g2d, text, 5, 60);
+			assertEquals(3, TadukooTextAtlas.size());
+		}finally{
+			g2d.dispose();
+		}
+	}
+	
+	@Test
+	public void testScaledGraphicsDrawsDirectly(){
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			g2d.scale(2, 2);
+			g2d.setFont(font);
+			g2d.setPaint(Color.BLACK);
+			TadukooTextAtlas.draw(g2d, TadukooTextCache.getText(g2d, font, "Test"), 5, 20);
+			assertEquals(0, TadukooTextAtlas.size());
+			assertEquals(0, TadukooTextAtlas.getMisses());
+		}finally{
+			g2d.dispose();
+		}
+	}
+	
+	@Test
+	public void testFullAtlasIsReset(){
+		TadukooTextAtlas.setAtlasSize(40);
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			g2d.setFont(font);
+			g2d.setPaint(Color.BLACK);
+			for(int i = 0; i < 20; i++){
+				TadukooTextAtlas.draw(g2d, TadukooTextCache.getText(g2d, font, "T" + i), 5, 20);
+			}
+			assertEquals(20, TadukooTextAtlas.getMisses());
+			assertTrue(TadukooTextAtlas.getResets() > 0);
+			assertTrue(TadukooTextAtlas.size() < 20);
+		}finally{
+			g2d.dispose();
+		}
+	}
+	
+	@Test
+	public void testClear(){
+		drawText(true, Color.BLUE, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+		TadukooTextAtlas.clear();
+		assertEquals(0, TadukooTextAtlas.size());
+	}
+	
+	@Test
+	public void testNonPositiveAtlasSize(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooTextAtlas.setAtlasSize(0));
+		assertEquals("Text atlas size must be positive: 0", e.getMessage());
+	}
+}
@@ -0,0 +1,142 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooTextCacheTest{
+	private final Font font = new Font(Font.DIALOG, Font.PLAIN, 12);
+	private BufferedImage image;
+	private Graphics2D g2d;
+	
+	@BeforeEach
+	public void setup(){
+		TadukooTextCache.setMaxSize(TadukooTextCache.DEFAULT_MAX_SIZE);
+		TadukooTextCache.clear();
+		TadukooTextCache.resetStats();
+		image = new BufferedImage(200, 50, BufferedImage.TYPE_INT_ARGB);
+		g2d = image.createGraphics();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		g2d.dispose();
+		TadukooTextCache.setMaxSize(TadukooTextCache.DEFAULT_MAX_SIZE);
+		TadukooTextCache.clear();
+		TadukooTextCache.resetStats();
+	}
+	
+	@Test
+	public void testSameTextIsShared(){
+		TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "Test Text");
+		assertSame(text, TadukooTextCache.getText(g2d, font, new String("Test Text")));
+		assertEquals(1, TadukooTextCache.getHits());
+		assertEquals(1, TadukooTextCache.getMisses());
+	}
+	
+	@Test
+	public void testDifferentKeysLayOutNewText(){
+		TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "Test Text");
+		assertNotSame(text, TadukooTextCache.getText(g2d, font, "Other Text"));
+		assertNotSame(text, TadukooTextCache.getText(g2d, font.deriveFont(Font.BOLD), "Test Text"));
+		g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		assertNotSame(text, TadukooTextCache.getText(g2d, font, "Test Text"));
+		assertEquals(4, TadukooTextCache.size());
+	}
+	
+	@Test
+	public void testMeasurementsMatchFontMetrics(){
+		TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "Test Text");
+		FontMetrics fm = g2d.getFontMetrics(font);
+		assertEquals(fm.stringWidth("Test Text"), text.getWidth());
+		assertEquals(fm.getHeight(), text.getHeight());
+		assertEquals(fm.getAscent(), text.getAscent());
+	}
+	
+	@Test
+	public void testDrawText(){
+		TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "Test Text");
+		g2d.setPaint(Color.BLACK);
+		text.draw(g2d, 10, 10 + text.getAscent());
+		
+		// Some pixel of the text should have been drawn
+		boolean drawn = false;
+		for(int x = 0; x < image.getWidth() && !drawn; x++){
+			for(int y = 0; y < image.getHeight() && !drawn; y++){
+				drawn = image.getRGB(x, y) != 0;
+			}
+		}
+		assertTrue(drawn);
+	}
+	
+	@Test
+	public void testComplexText(){
+		// Combining marks and right-to-left text need text layout
+		for(String complexText: new String[]{"Cafe\u0301", "\u05E9\u05DC\u05D5\u05DD"}){
+			TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, complexText);
+			assertEquals(g2d.getFontMetrics(font).stringWidth(complexText), text.getWidth());
+			text.draw(g2d, 10, 20);
+		}
+	}
+	
+	@Test
+	public void testEmptyText(){
+		TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "");
+		assertEquals(0, text.getWidth());
+		// Nothing to draw, but drawing shouldn't fail
+		text.draw(g2d, 10, 20);
+	}
+	
+	@Test
+	public void testMaxSizeEvictsLeastRecentlyUsed(){
+		TadukooTextCache.setMaxSize(2);
+		TadukooTextCache.CachedText text1 = TadukooTextCache.getText(g2d, font, "Text 1");
+		TadukooTextCache.CachedText text2 = TadukooTextCache.getText(g2d, font, "Text 2");
+		// Use the first text again, so the second is the least recently used
+		TadukooTextCache.getText(g2d, font, "Text 1");
+		TadukooTextCache.getText(g2d, font, "Text 3");
+		
+		assertEquals(2, TadukooTextCache.size());
+		assertEquals(1, TadukooTextCache.getEvictions());
+		assertSame(text1, TadukooTextCache.getText(g2d, font, "Text 1"));
+		assertNotSame(text2, TadukooTextCache.getText(g2d, font, "Text 2"));
+	}
+	
+	@Test
+	public void testShrinkMaxSize(){
+		TadukooTextCache.getText(g2d, font, "Text 1");
+		TadukooTextCache.getText(g2d, font, "Text 2");
+		TadukooTextCache.getText(g2d, font, "Text 3");
+		TadukooTextCache.setMaxSize(1);
+		assertEquals(1, TadukooTextCache.size());
+		assertEquals(1, TadukooTextCache.getMaxSize());
+	}
+	
+	@Test
+	public void testCacheDisabled(){
+		TadukooTextCache.setMaxSize(0);
+		TadukooTextCache.CachedText text = TadukooTextCache.getText(g2d, font, "Test Text");
+		assertNotSame(text, TadukooTextCache.getText(g2d, font, "Test Text"));
+		assertEquals(0, TadukooTextCache.size());
+	}
+	
+	@Test
+	public void testNegativeMaxSize(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> TadukooTextCache.setMaxSize(-1));
+		assertEquals("Text cache max size must not be negative: -1", e.getMessage());
+	}
+}
@@ -0,0 +1,137 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.uimanager.ButtonThemeProperties;
+import com.github.tadukoo.view.uimanager.LabelThemeProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.Color;
+import java.awt.FontFormatException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TadukooThemeDefaultsTest{
+	private final ColorPaintUIResource redPaint = new ColorPaintUIResource(Color.RED);
+	private final ColorPaintUIResource bluePaint = new ColorPaintUIResource(Color.BLUE);
+	private LookAndFeel previousLookAndFeel;
+	
+	@BeforeEach
+	public void setup() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		previousLookAndFeel = UIManager.getLookAndFeel();
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder()
+				.buttonForegroundPaint(redPaint)
+				.labelBackgroundPaint(redPaint)
+				.build()));
+	}
+	
+	@AfterEach
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		UIManager.put(TadukooLookAndFeel.BUTTON_FOREGROUND_PAINT, null);
+		UIManager.put(TadukooLookAndFeel.TEXT_ATLAS, null);
+		UIManager.setLookAndFeel(previousLookAndFeel);
+	}
+	
+	@Test
+	public void testGetPropertyPrefix(){
+		assertEquals(ButtonThemeProperties.PROPERTY_PREFIX,
+				new TadukooThemeDefaults(ButtonThemeProperties.PROPERTY_PREFIX).getPropertyPrefix());
+	}
+	
+	@Test
+	public void testResolvesFromLookAndFeel(){
+		TadukooThemeDefaults buttonDefaults = new TadukooThemeDefaults(ButtonThemeProperties.PROPERTY_PREFIX);
+		TadukooThemeDefaults labelDefaults = new TadukooThemeDefaults(LabelThemeProperties.PROPERTY_PREFIX);
+		assertEquals(redPaint, buttonDefaults.getForegroundPaint());
+		assertEquals(redPaint, labelDefaults.getBackgroundPaint());
+		assertEquals(UIManager.get(TadukooLookAndFeel.BUTTON_SHAPE), buttonDefaults.getShapeInfo());
+	}
+	
+	@Test
+	public void testPutRefreshesValues(){
+		TadukooThemeDefaults buttonDefaults = new TadukooThemeDefaults(ButtonThemeProperties.PROPERTY_PREFIX);
+		buttonDefaults.resolve();
+		UIManager.put(TadukooLookAndFeel.BUTTON_FOREGROUND_PAINT, bluePaint);
+		assertEquals(bluePaint, buttonDefaults.getForegroundPaint());
+	}
+	
+	@Test
+	public void testOnlyRelatedChangesAffectValues(){
+		new TadukooThemeDefaults(ButtonThemeProperties.PROPERTY_PREFIX);
+		assertTrue(TadukooThemeDefaults.affectsValues(TadukooLookAndFeel.BUTTON_FOREGROUND_PAINT));
+		assertTrue(TadukooThemeDefaults.affectsValues(TadukooLookAndFeel.TEXT_ATLAS));
+		assertTrue(TadukooThemeDefaults.affectsValues("lookAndFeel"));
+		assertTrue(TadukooThemeDefaults.affectsValues("UIDefaults"));
+		assertTrue(TadukooThemeDefaults.affectsValues(null));
+		assertFalse(TadukooThemeDefaults.affectsValues("SomeApp.windowState"));
+		assertFalse(TadukooThemeDefaults.affectsValues(TadukooLookAndFeel.SHARED_UI_DELEGATES));
+	}
+	
+	@Test
+	public void testTextAtlasOffByDefault(){
+		TadukooThemeDefaults buttonDefaults = new TadukooThemeDefaults(ButtonThemeProperties.PROPERTY_PREFIX);
+		assertFalse(buttonDefaults.isTextAtlasEnabled());
+		UIManager.put(TadukooLookAndFeel.TEXT_ATLAS, Boolean.TRUE);
+		assertTrue(buttonDefaults.isTextAtlasEnabled());
+	}
+	
+	@Test
+	public void testLookAndFeelChangeRefreshesValues()
+			throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		TadukooThemeDefaults buttonDefaults = new TadukooThemeDefaults(ButtonThemeProperties.PROPERTY_PREFIX);
+		assertEquals(redPaint, buttonDefaults.getForegroundPaint());
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder()
+				.buttonForegroundPaint(bluePaint)
+				.build()));
+		assertEquals(bluePaint, buttonDefaults.getForegroundPaint());
+	}
+	
+	@Test
+	public void testUIsKeepTheirThemeDefaults(){
+		JButton button = new JButton();
+		TadukooButtonUI buttonUI = (TadukooButtonUI) button.getUI();
+		assertSame(buttonUI.getThemeDefaults(), buttonUI.getThemeDefaults());
+		assertEquals(ButtonThemeProperties.PROPERTY_PREFIX, buttonUI.getThemeDefaults().getPropertyPrefix());
+		
+		JLabel label = new JLabel();
+		TadukooLabelUI labelUI = (TadukooLabelUI) label.getUI();
+		assertSame(labelUI.getThemeDefaults(), labelUI.getThemeDefaults());
+		assertEquals(LabelThemeProperties.PROPERTY_PREFIX, labelUI.getThemeDefaults().getPropertyPrefix());
+	}
+	
+	@Test
+	public void testForPrefixIsShared(){
+		assertSame(TadukooThemeDefaults.forPrefix(ButtonThemeProperties.PROPERTY_PREFIX),
+				TadukooThemeDefaults.forPrefix(ButtonThemeProperties.PROPERTY_PREFIX));
+		assertNotSame(TadukooThemeDefaults.forPrefix(ButtonThemeProperties.PROPERTY_PREFIX),
+				TadukooThemeDefaults.forPrefix(LabelThemeProperties.PROPERTY_PREFIX));
+		assertEquals(LabelThemeProperties.PROPERTY_PREFIX,
+				TadukooThemeDefaults.forPrefix(LabelThemeProperties.PROPERTY_PREFIX).getPropertyPrefix());
+	}
+	
+	@Test
+	public void testDefaultThemeDefaultsAreShared(){
+		TComponentUIUtil util = () -> ButtonThemeProperties.PROPERTY_PREFIX;
+		TComponentUIUtil otherUtil = () -> ButtonThemeProperties.PROPERTY_PREFIX;
+		assertSame(util.getThemeDefaults(), util.getThemeDefaults());
+		assertSame(util.getThemeDefaults(), otherUtil.getThemeDefaults());
+		assertEquals(redPaint, util.getThemeDefaults().getForegroundPaint());
+		
+		// Changes to the defaults are still picked up
+		UIManager.put(TadukooLookAndFeel.BUTTON_FOREGROUND_PAINT, bluePaint);
+		assertEquals(bluePaint, util.getThemeDefaults().getForegroundPaint());
+	}
+}
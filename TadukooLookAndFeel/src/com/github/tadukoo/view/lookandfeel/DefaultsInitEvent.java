@@ -0,0 +1,32 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Defaults Init Event is a Java Flight Recorder event for one of the {@link TadukooLookAndFeel}'s methods that
+ * populate the {@link javax.swing.UIDefaults} table (initClassDefaults, initSystemColorDefaults, and
+ * initComponentDefaults), including the time spent in the Metal Look &amp; Feel's version of the method.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@Name("com.github.tadukoo.view.lookandfeel.DefaultsInit")
+@Label("Defaults Init")
+@Category({"Tadukoo", "Look & Feel"})
+@Description("Population of the UIDefaults table by the Tadukoo Look & Feel")
+final class DefaultsInitEvent extends Event{
+	/** The name of the method */
+	@Label("Method")
+	String method;
+	/** The number of entries in the {@link javax.swing.UIDefaults} table afterwards */
+	@Label("Table Size")
+	int tableSize;
+	/** The {@link TadukooTheme#getFingerprint() fingerprint} of the Look &amp; Feel's theme */
+	@Label("Theme Fingerprint")
+	long themeFingerprint;
+}
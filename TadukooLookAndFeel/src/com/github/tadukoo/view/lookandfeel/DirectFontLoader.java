@@ -0,0 +1,294 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontResourceLoader;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Direct Font Loader is an alternative to {@link FontResourceLoader} that avoids extra copies of font files where
+ * it can. Font families that are already available in the {@link GraphicsEnvironment} are used as-is. Otherwise,
+ * the font folder is searched for font files whose names start with the family name (ignoring case, spaces, and
+ * punctuation) followed by something other than a letter or digit (so {@code Dialog} matches
+ * {@code Dialog-Bold.ttf}, but not {@code DialogInput-Bold.ttf}), and those are loaded and registered with the
+ * {@link GraphicsEnvironment}:
+ * <ul>
+ *     <li>If the font folder exists on the filesystem (or is a classpath directory), the font files are given
+ *     straight to {@link Font#createFont(int, java.io.File)}, so the font rasterizer reads them from the file
+ *     itself instead of from a copy on the heap or in a temp file</li>
+ *     <li>If the font folder is inside a jar on the classpath, the jar is opened once and only the matching
+ *     entries are read. Java can only create fonts from files though, so
+ *     {@link Font#createFont(int, InputStream)} still copies each of those entries to a temp file - to avoid
+ *     that copy, put the fonts in a folder on the filesystem instead</li>
+ * </ul>
+ * If no font files are found for a family, its name is returned as-is, so Java will fall back to its default
+ * font when the family is used.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public class DirectFontLoader{
+	/** The {@link GraphicsEnvironment} to register fonts with */
+	private final GraphicsEnvironment graphEnv;
+	/** The path to the fonts folder to find font files in */
+	private final String fontFolder;
+	/** The {@link ClassLoader} to find the font folder in if it's not on the filesystem */
+	private final ClassLoader classLoader;
+	/** The number of bytes of font files that have been loaded */
+	private long bytesRead = 0;
+	/** The names of the {@link FontFamily FontFamilies} that were available or found in the font folder */
+	private final Set<String> foundFamilies = new HashSet<>();
+	
+	/**
+	 * Constructs a new Direct Font Loader with the given settings
+	 *
+	 * @param graphEnv The {@link GraphicsEnvironment} to register fonts with
+	 * @param fontFolder The path to the fonts folder to find font files in (on the filesystem or the classpath)
+	 */
+	public DirectFontLoader(GraphicsEnvironment graphEnv, String fontFolder){
+		this(graphEnv, fontFolder, DirectFontLoader.class.getClassLoader());
+	}
+	
+	/**
+	 * Constructs a new Direct Font Loader with the given settings
+	 *
+	 * @param graphEnv The {@link GraphicsEnvironment} to register fonts with
+	 * @param fontFolder The path to the fonts folder to find font files in (on the filesystem or the classpath)
+	 * @param classLoader The {@link ClassLoader} to find the font folder in if it's not on the filesystem
+	 */
+	DirectFontLoader(GraphicsEnvironment graphEnv, String fontFolder, ClassLoader classLoader){
+		this.graphEnv = graphEnv;
+		this.fontFolder = fontFolder;
+		this.classLoader = classLoader;
+	}
+	
+	/**
+	 * @return The {@link GraphicsEnvironment} to register fonts with
+	 */
+	public GraphicsEnvironment getGraphEnv(){
+		return graphEnv;
+	}
+	
+	/**
+	 * @return The path to the fonts folder to find font files in
+	 */
+	public String getFontFolder(){
+		return fontFolder;
+	}
+	
+	/**
+	 * @return The number of bytes of font files that have been loaded by this loader
+	 */
+	public long getBytesRead(){
+		return bytesRead;
+	}
+	
+	/**
+	 * @param fontFamily A {@link FontFamily} that was given to {@link #loadFonts(List)}
+	 * @return Whether the font family was already available in the {@link GraphicsEnvironment} or was loaded from
+	 * the font folder (if not, its name was returned as-is, and Java will fall back to its default font)
+	 */
+	public boolean wasFound(FontFamily fontFamily){
+		return foundFamilies.contains(fontFamily.getName());
+	}
+	
+	/**
+	 * Loads the given {@link FontFamily FontFamilies} if they aren't already available in the
+	 * {@link GraphicsEnvironment}.
+	 *
+	 * @param fontFamilies The {@link FontFamily FontFamilies} to load
+	 * @return The font names for the given font families, in the same order
+	 * @throws IOException If something goes wrong in reading font files
+	 * @throws FontFormatException If a font file isn't a valid font
+	 */
+	public List<String> loadFonts(List<FontFamily> fontFamilies) throws IOException, FontFormatException{
+		Set<String> availableFamilies = new HashSet<>(List.of(graphEnv.getAvailableFontFamilyNames()));
+		
+		List<String> fontNames = new ArrayList<>(fontFamilies.size());
+		for(FontFamily fontFamily: fontFamilies){
+			String familyName = fontFamily.getName();
+			if(availableFamilies.contains(familyName)){
+				foundFamilies.add(fontFamily.getName());
+			}else{
+				FontLoadEvent event = new FontLoadEvent();
+				event.begin();
+				long bytesBefore = bytesRead;
+				String loadedName = loadFamily(familyName);
+				FontLoadEvent.commit(event, List.of(fontFamily), "DirectFontLoader", bytesRead - bytesBefore);
+				if(loadedName != null){
+					availableFamilies.add(loadedName);
+					foundFamilies.add(fontFamily.getName());
+					familyName = loadedName;
+				}
+			}
+			fontNames.add(familyName);
+		}
+		return fontNames;
+	}
+	
+	/**
+	 * Loads the font files for the given family name from the font folder
+	 *
+	 * @param familyName The name of the font family to load
+	 * @return The family name of the first font that was loaded, or {@code null} if no font files were found
+	 * @throws IOException If something goes wrong in reading font files
+	 * @throws FontFormatException If a font file isn't a valid font
+	 */
+	private String loadFamily(String familyName) throws IOException, FontFormatException{
+		String filePrefix = normalize(familyName);
+		
+		// Check the filesystem first
+		Path folder = Paths.get(fontFolder);
+		if(Files.isDirectory(folder)){
+			return loadFromDirectory(folder, filePrefix);
+		}
+		
+		// Check the classpath
+		URL folderURL = classLoader.getResource(fontFolder);
+		if(folderURL == null){
+			return null;
+		}
+		if(folderURL.openConnection() instanceof JarURLConnection jarConnection){
+			return loadFromJar(jarConnection.getJarFile(), jarConnection.getEntryName(), filePrefix);
+		}
+		try{
+			return loadFromDirectory(Paths.get(folderURL.toURI()), filePrefix);
+		}catch(URISyntaxException | IllegalArgumentException e){
+			throw new IOException("Failed to find font folder " + folderURL, e);
+		}
+	}
+	
+	/**
+	 * Loads the font files starting with the given prefix from the given directory
+	 *
+	 * @param folder The directory to find font files in
+	 * @param filePrefix The normalized prefix the font file names start with
+	 * @return The family name of the first font that was loaded, or {@code null} if no font files were found
+	 * @throws IOException If something goes wrong in reading font files
+	 * @throws FontFormatException If a font file isn't a valid font
+	 */
+	private String loadFromDirectory(Path folder, String filePrefix) throws IOException, FontFormatException{
+		List<Path> fontFiles;
+		try(Stream<Path> files = Files.list(folder)){
+			fontFiles = files.filter(file -> isFontFile(file.getFileName().toString(), filePrefix)).sorted().toList();
+		}
+		
+		String loadedName = null;
+		for(Path fontFile: fontFiles){
+			Font font = Font.createFont(Font.TRUETYPE_FONT, fontFile.toFile());
+			bytesRead += Files.size(fontFile);
+			graphEnv.registerFont(font);
+			if(loadedName == null){
+				loadedName = font.getFamily();
+			}
+		}
+		return loadedName;
+	}
+	
+	/**
+	 * Loads the font files starting with the given prefix from the given folder in a jar. Each matching entry is
+	 * copied to a temp file by {@link Font#createFont(int, InputStream)}, since fonts can only be created from
+	 * files.
+	 *
+	 * @param jarFile The {@link JarFile} to find font files in
+	 * @param folderEntry The name of the folder's entry in the jar
+	 * @param filePrefix The normalized prefix the font file names start with
+	 * @return The family name of the first font that was loaded, or {@code null} if no font files were found
+	 * @throws IOException If something goes wrong in reading font files
+	 * @throws FontFormatException If a font file isn't a valid font
+	 */
+	private String loadFromJar(JarFile jarFile, String folderEntry, String filePrefix)
+			throws IOException, FontFormatException{
+		String entryPrefix = folderEntry == null || folderEntry.isEmpty() || folderEntry.endsWith("/")?
+				folderEntry:folderEntry + "/";
+		
+		String loadedName = null;
+		Enumeration<JarEntry> entries = jarFile.entries();
+		while(entries.hasMoreElements()){
+			JarEntry entry = entries.nextElement();
+			String entryName = entry.getName();
+			if(entry.isDirectory() || (entryPrefix != null && !entryName.startsWith(entryPrefix))){
+				continue;
+			}
+			String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+			if(!isFontFile(fileName, filePrefix)){
+				continue;
+			}
+			try(InputStream entryStream = jarFile.getInputStream(entry)){
+				// This copies the entry to a temp file
+				Font font = Font.createFont(Font.TRUETYPE_FONT, entryStream);
+				bytesRead += Math.max(entry.getSize(), 0);
+				graphEnv.registerFont(font);
+				if(loadedName == null){
+					loadedName = font.getFamily();
+				}
+			}
+		}
+		return loadedName;
+	}
+	
+	/**
+	 * @param fileName The name of a file
+	 * @param filePrefix The normalized prefix the font file names start with
+	 * @return Whether the file is a font file starting with the given prefix, followed by something other than a
+	 * letter or digit (e.g. a dash or the file extension)
+	 */
+	static boolean isFontFile(String fileName, String filePrefix){
+		String lowerName = fileName.toLowerCase(Locale.ROOT);
+		if(!lowerName.endsWith(".ttf") && !lowerName.endsWith(".otf") && !lowerName.endsWith(".ttc")){
+			return false;
+		}
+		
+		// Match the prefix against the letters and digits at the start of the file name
+		int matched = 0;
+		int index = 0;
+		while(index < fileName.length() && matched < filePrefix.length()){
+			char c = fileName.charAt(index);
+			if(Character.isLetterOrDigit(c)){
+				if(Character.toLowerCase(c) != filePrefix.charAt(matched)){
+					return false;
+				}
+				matched++;
+			}
+			index++;
+		}
+		
+		// The family name has to end at a boundary, so e.g. Dialog doesn't match DialogInput
+		return matched == filePrefix.length() && index < fileName.length() &&
+				!Character.isLetterOrDigit(fileName.charAt(index));
+	}
+	
+	/**
+	 * @param name A family or file name
+	 * @return The name in lowercase with only its letters and digits
+	 */
+	private static String normalize(String name){
+		StringBuilder normalized = new StringBuilder(name.length());
+		for(char c: name.toCharArray()){
+			if(Character.isLetterOrDigit(c)){
+				normalized.append(Character.toLowerCase(c));
+			}
+		}
+		return normalized.toString();
+	}
+}
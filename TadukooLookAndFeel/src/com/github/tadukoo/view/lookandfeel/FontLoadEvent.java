@@ -0,0 +1,55 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamily;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Font Load Event is a Java Flight Recorder event for loading font families that weren't already cached or
+ * registered, using a {@link DirectFontLoader} (one event for each family) or a
+ * {@link com.github.tadukoo.view.font.FontResourceLoader FontResourceLoader} (one event for each call to it).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@Name("com.github.tadukoo.view.lookandfeel.FontLoad")
+@Label("Font Load")
+@Category({"Tadukoo", "Look & Feel"})
+@Description("Loading of Tadukoo theme font families")
+final class FontLoadEvent extends Event{
+	/** The names of the font families that were loaded (comma separated) */
+	@Label("Font Families")
+	String fontFamilies;
+	/** How the font families were loaded */
+	@Label("Loader")
+	String loader;
+	/** The number of bytes of font files read, or -1 if the loader doesn't report it */
+	@Label("Bytes Read")
+	@DataAmount
+	long bytesRead;
+	
+	/**
+	 * Commits the given event (if it's being recorded) for loading the given font families
+	 *
+	 * @param event The event, begun before the font families were loaded
+	 * @param fontFamilies The {@link FontFamily FontFamilies} that were loaded
+	 * @param loader How the font families were loaded
+	 * @param bytesRead The number of bytes of font files read, or -1 if the loader doesn't report it
+	 */
+	static void commit(FontLoadEvent event, List<FontFamily> fontFamilies, String loader, long bytesRead){
+		if(event.shouldCommit()){
+			event.fontFamilies = fontFamilies.stream().map(FontFamily::getName).collect(Collectors.joining(", "));
+			event.loader = loader;
+			event.bytesRead = bytesRead;
+			event.commit();
+		}
+	}
+}
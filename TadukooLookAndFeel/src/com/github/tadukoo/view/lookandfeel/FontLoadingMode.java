@@ -0,0 +1,21 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontResourceLoader;
+
+/**
+ * Font Loading Mode is used to specify how {@link TadukooTheme.TadukooThemeBuilder TadukooThemeBuilder} loads
+ * fonts from the font folder when no custom {@link FontResourceLoader} is specified.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public enum FontLoadingMode{
+	/** Fonts are loaded using a {@link FontResourceLoader}, which reads font files through streams */
+	RESOURCE_LOADER,
+	/**
+	 * Fonts are loaded using a {@link DirectFontLoader}, which hands font files on the filesystem straight to the
+	 * font rasterizer and reads font files in jars directly from the jar entries
+	 */
+	DIRECT
+}
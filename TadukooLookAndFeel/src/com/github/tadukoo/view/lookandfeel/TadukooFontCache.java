@@ -0,0 +1,262 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.util.logger.EasyLogger;
+import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontResourceLoader;
+
+import java.awt.FontFormatException;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tadukoo Font Cache is a JVM-wide cache of the font names resolved for {@link FontFamily FontFamilies} by
+ * {@link FontResourceLoader}. Results are keyed by the {@link GraphicsEnvironment} and font folder that were used
+ * to resolve them, so that repeated {@link TadukooTheme.TadukooThemeBuilder#build() theme builds} with the same
+ * settings can skip the {@link FontResourceLoader} completely.
+ * <br><br>
+ * The cache is only used when no custom {@link FontResourceLoader} was specified on the
+ * {@link TadukooTheme.TadukooThemeBuilder TadukooThemeBuilder}, since there's no way to know what a custom
+ * loader would do. All methods are thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooFontCache{
+	
+	/**
+	 * The key used for the cache - a {@link GraphicsEnvironment} (compared by identity) and a font folder
+	 *
+	 * @param graphEnv The {@link GraphicsEnvironment} fonts were loaded to
+	 * @param fontFolder The path to the fonts folder that font files were found in
+	 */
+	private record CacheKey(GraphicsEnvironment graphEnv, String fontFolder){ }
+	
+	/** The resolved font names, by {@link CacheKey} and then by {@link FontFamily} name */
+	private static final Map<CacheKey, Map<String, String>> cache = new ConcurrentHashMap<>();
+	/** The number of font families that were found in the cache */
+	private static final AtomicLong hits = new AtomicLong();
+	/**
+	 * The number of font families that were not found in the cache (whether they were then found in the
+	 * {@link TadukooFontRegistry} or had to be loaded)
+	 */
+	private static final AtomicLong misses = new AtomicLong();
+	/** The number of font families that weren't in the cache, but were found in the {@link TadukooFontRegistry} */
+	private static final AtomicLong registryHits = new AtomicLong();
+	
+	/** Not allowed to create a Tadukoo Font Cache */
+	private TadukooFontCache(){ }
+	
+	/**
+	 * Resolves the font names for the given {@link FontFamily FontFamilies}, using the cached names where
+	 * possible. Any families that aren't cached yet are looked up in the {@link TadukooFontRegistry}, and any
+	 * that haven't been registered either are loaded using a new {@link FontResourceLoader} (created with the
+	 * given settings), registered, and then added to the cache.
+	 *
+	 * @param fontFamilies The {@link FontFamily FontFamilies} to resolve font names for
+	 * @param logFontResourceLoaderWarnings Whether to log warnings generated by the FontResourceLoader
+	 * @param logger An {@link EasyLogger} to send to the FontResourceLoader
+	 * @param graphEnv The {@link GraphicsEnvironment} to load fonts to
+	 * @param fontFolder The path to the fonts folder to find font files in
+	 * @return The resolved font names, in the same order as the given font families
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 */
+	public static List<String> loadFonts(List<FontFamily> fontFamilies, boolean logFontResourceLoaderWarnings,
+	                                     EasyLogger logger, GraphicsEnvironment graphEnv, String fontFolder)
+			throws IOException, FontFormatException{
+		return loadFonts(fontFamilies, FontLoadingMode.RESOURCE_LOADER, logFontResourceLoaderWarnings, logger,
+				graphEnv, fontFolder);
+	}
+	
+	/**
+	 * Resolves the font names for the given {@link FontFamily FontFamilies}, using the cached names where
+	 * possible. Any families that aren't cached yet are looked up in the {@link TadukooFontRegistry}, and any
+	 * that haven't been registered either are loaded using the given {@link FontLoadingMode} and then added to
+	 * the cache. Loaded families are only registered if they were really found (and not replaced with a fallback
+	 * font), since another font folder may have the font files.
+	 *
+	 * @param fontFamilies The {@link FontFamily FontFamilies} to resolve font names for
+	 * @param fontLoadingMode The {@link FontLoadingMode} to use for loading any missing font families
+	 * @param logFontResourceLoaderWarnings Whether to log warnings generated by the FontResourceLoader
+	 * @param logger An {@link EasyLogger} to send to the FontResourceLoader
+	 * @param graphEnv The {@link GraphicsEnvironment} to load fonts to
+	 * @param fontFolder The path to the fonts folder to find font files in
+	 * @return The resolved font names, in the same order as the given font families
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 */
+	public static List<String> loadFonts(List<FontFamily> fontFamilies, FontLoadingMode fontLoadingMode,
+	                                     boolean logFontResourceLoaderWarnings, EasyLogger logger,
+	                                     GraphicsEnvironment graphEnv, String fontFolder)
+			throws IOException, FontFormatException{
+		return loadFonts(fontFamilies, fontLoadingMode, logFontResourceLoaderWarnings, logger, graphEnv, fontFolder,
+				null);
+	}
+	
+	/**
+	 * Resolves the font names for the given {@link FontFamily FontFamilies} like
+	 * {@link #loadFonts(List, FontLoadingMode, boolean, EasyLogger, GraphicsEnvironment, String)}, recording how
+	 * they were resolved in the given {@link ThemeBuildReport}
+	 *
+	 * @param fontFamilies The {@link FontFamily FontFamilies} to resolve font names for
+	 * @param fontLoadingMode The {@link FontLoadingMode} to use for loading any missing font families
+	 * @param logFontResourceLoaderWarnings Whether to log warnings generated by the FontResourceLoader
+	 * @param logger An {@link EasyLogger} to send to the FontResourceLoader
+	 * @param graphEnv The {@link GraphicsEnvironment} to load fonts to
+	 * @param fontFolder The path to the fonts folder to find font files in
+	 * @param report The {@link ThemeBuildReport} to record font cache hits and bytes read in (can be {@code null})
+	 * @return The resolved font names, in the same order as the given font families
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 */
+	static List<String> loadFonts(List<FontFamily> fontFamilies, FontLoadingMode fontLoadingMode,
+	                              boolean logFontResourceLoaderWarnings, EasyLogger logger,
+	                              GraphicsEnvironment graphEnv, String fontFolder, ThemeBuildReport report)
+			throws IOException, FontFormatException{
+		Map<String, String> fontNames = cache.computeIfAbsent(new CacheKey(graphEnv, fontFolder),
+				key -> new ConcurrentHashMap<>());
+		
+		// Grab what we can from the cache, keeping track of what's missing
+		List<String> foundFonts = new ArrayList<>(fontFamilies.size());
+		List<FontFamily> missingFamilies = new ArrayList<>();
+		List<Integer> missingIndices = new ArrayList<>();
+		int cacheHits = 0;
+		int foundInRegistry = 0;
+		for(int i = 0; i < fontFamilies.size(); i++){
+			FontFamily fontFamily = fontFamilies.get(i);
+			String fontName = fontNames.get(fontFamily.getName());
+			if(fontName != null){
+				hits.incrementAndGet();
+				cacheHits++;
+			}else{
+				misses.incrementAndGet();
+				
+				// If the family was already loaded into the graphics environment, there's no need to load it again
+				fontName = TadukooFontRegistry.getFontName(graphEnv, fontFamily);
+				if(fontName != null){
+					fontNames.put(fontFamily.getName(), fontName);
+					registryHits.incrementAndGet();
+					foundInRegistry++;
+				}else{
+					missingFamilies.add(fontFamily);
+					missingIndices.add(i);
+				}
+			}
+			foundFonts.add(fontName);
+		}
+		
+		// Load any missing font families and add them to the cache
+		if(!missingFamilies.isEmpty()){
+			List<String> loadedFonts;
+			DirectFontLoader directFontLoader = null;
+			if(fontLoadingMode == FontLoadingMode.DIRECT){
+				directFontLoader = new DirectFontLoader(graphEnv, fontFolder);
+				loadedFonts = directFontLoader.loadFonts(missingFamilies);
+				if(report != null){
+					report.fontBytesRead(directFontLoader.getBytesRead());
+				}
+			}else{
+				FontLoadEvent event = new FontLoadEvent();
+				event.begin();
+				FontResourceLoader fontResourceLoader = new FontResourceLoader(logFontResourceLoaderWarnings, logger,
+						graphEnv, fontFolder);
+				loadedFonts = fontResourceLoader.loadFonts(missingFamilies, true);
+				FontLoadEvent.commit(event, missingFamilies, "FontResourceLoader", -1);
+				if(report != null){
+					report.fontBytesRead(-1);
+				}
+			}
+			for(int i = 0; i < missingFamilies.size(); i++){
+				FontFamily fontFamily = missingFamilies.get(i);
+				String fontName = loadedFonts.get(i);
+				
+				// Only register families that were really found, so that a fallback name for this font folder
+				// isn't reused for other font folders that may have the font files
+				boolean found = directFontLoader != null?directFontLoader.wasFound(fontFamily):
+						fontFamily.getName().equals(fontName);
+				if(found){
+					TadukooFontRegistry.register(graphEnv, fontFamily, fontName);
+				}
+				fontNames.put(fontFamily.getName(), fontName);
+				foundFonts.set(missingIndices.get(i), fontName);
+			}
+		}
+		
+		if(report != null){
+			report.fontCacheLookups(cacheHits, foundInRegistry, missingFamilies.size());
+		}
+		return foundFonts;
+	}
+	
+	/**
+	 * @param graphEnv The {@link GraphicsEnvironment} fonts were loaded to
+	 * @param fontFolder The path to the fonts folder that font files were found in
+	 * @param fontFamily The {@link FontFamily} to check for
+	 * @return The cached font name for the given {@link FontFamily}, or {@code null} if it's not cached
+	 */
+	public static String getFontName(GraphicsEnvironment graphEnv, String fontFolder, FontFamily fontFamily){
+		Map<String, String> fontNames = cache.get(new CacheKey(graphEnv, fontFolder));
+		return fontNames == null?null:fontNames.get(fontFamily.getName());
+	}
+	
+	/**
+	 * @return The number of font families that were found in the cache
+	 */
+	public static long getHits(){
+		return hits.get();
+	}
+	
+	/**
+	 * @return The number of font families that were not found in the cache, including those that were then found
+	 * in the {@link TadukooFontRegistry} (see {@link #getRegistryHits()}) instead of being loaded
+	 */
+	public static long getMisses(){
+		return misses.get();
+	}
+	
+	/**
+	 * @return The number of font families that were not found in the cache, but were found in the
+	 * {@link TadukooFontRegistry}, so they didn't have to be loaded
+	 */
+	public static long getRegistryHits(){
+		return registryHits.get();
+	}
+	
+	/**
+	 * Resets the hit, miss, and registry hit counters to 0
+	 */
+	public static void resetStats(){
+		hits.set(0);
+		misses.set(0);
+		registryHits.set(0);
+	}
+	
+	/**
+	 * Removes all resolved font names from the cache, causing the next theme builds to load fonts again. The
+	 * {@link TadukooThemeFactory#clearThemeCache() theme factory's cache} is cleared too, so it doesn't keep
+	 * handing out themes built with the old fonts.
+	 */
+	public static void invalidate(){
+		cache.clear();
+		TadukooThemeFactory.clearThemeCache();
+	}
+	
+	/**
+	 * Removes the resolved font names for the given {@link GraphicsEnvironment} and font folder from the cache. The
+	 * {@link TadukooThemeFactory#clearThemeCache() theme factory's cache} is cleared too, since its themes may have
+	 * been built with those fonts.
+	 *
+	 * @param graphEnv The {@link GraphicsEnvironment} fonts were loaded to
+	 * @param fontFolder The path to the fonts folder that font files were found in
+	 */
+	public static void invalidate(GraphicsEnvironment graphEnv, String fontFolder){
+		cache.remove(new CacheKey(graphEnv, fontFolder));
+		TadukooThemeFactory.clearThemeCache();
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontResourceLoader;
+
+import java.awt.GraphicsEnvironment;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tadukoo Font Registry keeps a JVM-wide record of which {@link FontFamily FontFamilies} have been loaded into
+ * which {@link GraphicsEnvironment} (and the font name each one resolved to). Once a family is in the registry,
+ * {@link TadukooTheme.TadukooThemeBuilder#build() theme builds} for that {@link GraphicsEnvironment} won't ask a
+ * {@link FontResourceLoader} to load it again, even if a different font folder is used, so the font files are
+ * only read and registered once per JVM. Only families that were really found are registered - if a family fell
+ * back to another font (e.g. because its files weren't in the font folder), it's left out, so that a build with a
+ * font folder that does have the files will still load it.
+ * <br><br>
+ * Like the {@link TadukooFontCache}, the registry is only used when no custom {@link FontResourceLoader} was
+ * specified on the {@link TadukooTheme.TadukooThemeBuilder TadukooThemeBuilder}. All methods are thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooFontRegistry{
+	
+	/** The registered font names, by {@link GraphicsEnvironment} and then by {@link FontFamily} name */
+	private static final Map<GraphicsEnvironment, Map<String, String>> registeredFonts = new ConcurrentHashMap<>();
+	
+	/** Not allowed to create a Tadukoo Font Registry */
+	private TadukooFontRegistry(){ }
+	
+	/**
+	 * Records that the given {@link FontFamily} has been loaded into the given {@link GraphicsEnvironment}
+	 *
+	 * @param graphEnv The {@link GraphicsEnvironment} the font family was loaded into
+	 * @param fontFamily The {@link FontFamily} that was loaded
+	 * @param fontName The font name that the {@link FontFamily} resolved to
+	 */
+	public static void register(GraphicsEnvironment graphEnv, FontFamily fontFamily, String fontName){
+		registeredFonts.computeIfAbsent(graphEnv, key -> new ConcurrentHashMap<>())
+				.put(fontFamily.getName(), fontName);
+	}
+	
+	/**
+	 * @param graphEnv The {@link GraphicsEnvironment} to check in
+	 * @param fontFamily The {@link FontFamily} to check for
+	 * @return Whether the given {@link FontFamily} has been loaded into the given {@link GraphicsEnvironment}
+	 */
+	public static boolean isRegistered(GraphicsEnvironment graphEnv, FontFamily fontFamily){
+		return getFontName(graphEnv, fontFamily) != null;
+	}
+	
+	/**
+	 * @param graphEnv The {@link GraphicsEnvironment} to check in
+	 * @param fontFamily The {@link FontFamily} to check for
+	 * @return The font name the {@link FontFamily} resolved to when it was loaded into the given
+	 * {@link GraphicsEnvironment}, or {@code null} if it hasn't been loaded
+	 */
+	public static String getFontName(GraphicsEnvironment graphEnv, FontFamily fontFamily){
+		Map<String, String> fontNames = registeredFonts.get(graphEnv);
+		return fontNames == null?null:fontNames.get(fontFamily.getName());
+	}
+	
+	/**
+	 * @param graphEnv The {@link GraphicsEnvironment} to check in
+	 * @return An unmodifiable copy of the font family names that have been loaded into the given
+	 * {@link GraphicsEnvironment}, mapped to the font names they resolved to
+	 */
+	public static Map<String, String> getRegisteredFonts(GraphicsEnvironment graphEnv){
+		Map<String, String> fontNames = registeredFonts.get(graphEnv);
+		return fontNames == null?Collections.emptyMap():Collections.unmodifiableMap(new HashMap<>(fontNames));
+	}
+	
+	/**
+	 * Clears the registry, causing the next theme builds to load font families again. Note that the
+	 * {@link TadukooFontCache} should also be {@link TadukooFontCache#invalidate() invalidated} to make sure
+	 * font families are actually loaded again.
+	 */
+	public static void clear(){
+		registeredFonts.clear();
+	}
+}
@@ -10,6 +10,7 @@ import javax.swing.UIDefaults;
 import javax.swing.plaf.metal.MetalLookAndFeel;
 import java.awt.FontFormatException;
 import java.io.IOException;
+import java.util.function.Supplier;
 
 /**
  * Tadukoo Look &amp; Feel is a Look &amp; Feel currently extending {@link MetalLookAndFeel} that allows for easier
@@ -23,6 +24,23 @@ import java.io.IOException;
  */
 public class TadukooLookAndFeel extends MetalLookAndFeel
 		implements UIClassProperties, ButtonThemeProperties, LabelThemeProperties, TitledBorderThemeProperties{
+	/**
+	 * The {@link UIDefaults} key for whether the Tadukoo Component UIs should share a single UI delegate between all
+	 * components, like the Metal and Basic Component UIs do, rather than creating one for each component. This saves
+	 * memory when there are many components (e.g. hundreds of thousands of labels in tables and forms). It's off by
+	 * default, and can be turned on by adding {@link Boolean#TRUE} for it as a component default on the
+	 * {@link TadukooTheme theme}, or by putting it in the {@link javax.swing.UIManager}.
+	 */
+	public static final String SHARED_UI_DELEGATES = "Tadukoo.sharedUIDelegates";
+	/**
+	 * The {@link UIDefaults} key for whether the Tadukoo Component UIs should draw text from the shared
+	 * {@link com.github.tadukoo.view.lookandfeel.componentui.TadukooTextAtlas text atlas}, which rasterizes each text
+	 * once and then draws it as an image. This speeds up repeated text on pipelines that don't accelerate text (e.g.
+	 * remote X11 or software rendering). It's off by default, and can be turned on like
+	 * {@link #SHARED_UI_DELEGATES}.
+	 */
+	public static final String TEXT_ATLAS = "Tadukoo.textAtlas";
+	
 	/** The {@link TadukooTheme theme} to use in the Look &amp; Feel */
 	private final TadukooTheme theme;
 	
@@ -102,6 +120,8 @@ public class TadukooLookAndFeel extends MetalLookAndFeel
 	 */
 	@Override
 	protected void initClassDefaults(UIDefaults table){
+		DefaultsInitEvent event = new DefaultsInitEvent();
+		event.begin();
 		super.initClassDefaults(table);
 		
 		// Setup Array of the Class Defaults
@@ -114,8 +134,9 @@ public class TadukooLookAndFeel extends MetalLookAndFeel
 		// Add any other class defaults from the theme
 		Object[] otherClassDefaults = theme.getClassDefaults();
 		if(otherClassDefaults.length != 0){
-			table.putDefaults(theme.getClassDefaults());
+			table.putDefaults(otherClassDefaults);
 		}
+		commitDefaultsInitEvent(event, "initClassDefaults", table);
 	}
 	
 	/**
@@ -127,24 +148,30 @@ public class TadukooLookAndFeel extends MetalLookAndFeel
 	 */
 	@Override
 	protected void initSystemColorDefaults(UIDefaults table){
+		DefaultsInitEvent event = new DefaultsInitEvent();
+		event.begin();
 		super.initSystemColorDefaults(table);
 		
 		// Add any other system color defaults from the theme
 		Object[] otherSystemColorDefaults = theme.getSystemColorDefaults();
 		if(otherSystemColorDefaults.length != 0){
-			table.putDefaults(theme.getSystemColorDefaults());
+			table.putDefaults(otherSystemColorDefaults);
 		}
+		commitDefaultsInitEvent(event, "initSystemColorDefaults", table);
 	}
 	
 	/**
 	 * Populates the {@link UIDefaults} table with mappings for defaults on the Components themselves.
 	 * This includes anything that can be customized on the {@link TadukooTheme theme}, such as
-	 * paints and fonts.
+	 * paints and fonts. The colors and gradients derived from the paints are added as
+	 * {@link UIDefaults.LazyValue LazyValues}, so that they're not computed for Components that are never used.
 	 *
 	 * @param table The {@link UIDefaults} table to add the mappings to
 	 */
 	@Override
 	protected void initComponentDefaults(UIDefaults table){
+		DefaultsInitEvent event = new DefaultsInitEvent();
+		event.begin();
 		super.initComponentDefaults(table);
 		
 		// Grab the Button Paints, as they're used in multiple ways
@@ -159,30 +186,31 @@ public class TadukooLookAndFeel extends MetalLookAndFeel
 		PaintUIResource labelBackgroundPaint = theme.getLabelBackgroundPaint();
 		PaintUIResource labelDisabledForegroundPaint = theme.getLabelDisabledForegroundPaint();
 		
-		// Setup Array of the Defaults to add
+		// Setup Array of the Defaults to add - values derived from the paints are lazy, so they're only computed on
+		// first lookup, while values the theme already has are added directly
 		Object[] defaults = new Object[]{
 				// Button Customizations
-				BUTTON_FOREGROUND_COLOR, buttonForegroundPaint.getColorUIResource(),
+				BUTTON_FOREGROUND_COLOR, lazy(() -> buttonForegroundPaint.getColorUIResource()),
 				BUTTON_FOREGROUND_PAINT, buttonForegroundPaint,
-				BUTTON_BACKGROUND_COLOR, buttonBackgroundPaint.getColorUIResource(),
-				BUTTON_GRADIENT, buttonBackgroundPaint.getMetalGradientList(),
+				BUTTON_BACKGROUND_COLOR, lazy(() -> buttonBackgroundPaint.getColorUIResource()),
+				BUTTON_GRADIENT, lazy(() -> buttonBackgroundPaint.getMetalGradientList()),
 				BUTTON_BACKGROUND_PAINT, buttonBackgroundPaint,
-				BUTTON_FOCUS_COLOR, buttonFocusPaint.getColorUIResource(),
+				BUTTON_FOCUS_COLOR, lazy(() -> buttonFocusPaint.getColorUIResource()),
 				BUTTON_FOCUS_PAINT, buttonFocusPaint,
-				BUTTON_SELECT_COLOR, buttonSelectPaint.getColorUIResource(),
+				BUTTON_SELECT_COLOR, lazy(() -> buttonSelectPaint.getColorUIResource()),
 				BUTTON_SELECT_PAINT, buttonSelectPaint,
-				BUTTON_DISABLED_TEXT_COLOR, buttonDisabledTextPaint.getColorUIResource(),
+				BUTTON_DISABLED_TEXT_COLOR, lazy(() -> buttonDisabledTextPaint.getColorUIResource()),
 				BUTTON_DISABLED_TEXT_PAINT, buttonDisabledTextPaint,
 				BUTTON_FONT, theme.getButtonFont(),
 				BUTTON_BORDER, theme.getButtonBorder(),
 				BUTTON_SHAPE, theme.getButtonShapeInfo(),
 				
 				// Label Customizations
-				LABEL_FOREGROUND_COLOR, labelForegroundPaint.getColorUIResource(),
+				LABEL_FOREGROUND_COLOR, lazy(() -> labelForegroundPaint.getColorUIResource()),
 				LABEL_FOREGROUND_PAINT, labelForegroundPaint,
-				LABEL_BACKGROUND_COLOR, labelBackgroundPaint.getColorUIResource(),
+				LABEL_BACKGROUND_COLOR, lazy(() -> labelBackgroundPaint.getColorUIResource()),
 				LABEL_BACKGROUND_PAINT, labelBackgroundPaint,
-				LABEL_DISABLED_FOREGROUND_COLOR, labelDisabledForegroundPaint.getColorUIResource(),
+				LABEL_DISABLED_FOREGROUND_COLOR, lazy(() -> labelDisabledForegroundPaint.getColorUIResource()),
 				LABEL_DISABLED_FOREGROUND_PAINT, labelDisabledForegroundPaint,
 				LABEL_FONT, theme.getLabelFont(),
 				LABEL_BORDER, theme.getLabelBorder(),
@@ -199,7 +227,36 @@ public class TadukooLookAndFeel extends MetalLookAndFeel
 		// Add in Other Component Defaults from the Theme
 		Object[] otherComponentDefaults = theme.getComponentDefaults();
 		if(otherComponentDefaults.length != 0){
-			table.putDefaults(theme.getComponentDefaults());
+			table.putDefaults(otherComponentDefaults);
+		}
+		commitDefaultsInitEvent(event, "initComponentDefaults", table);
+	}
+	
+	/**
+	 * Commits the given {@link DefaultsInitEvent} for Java Flight Recorder (if it's being recorded)
+	 *
+	 * @param event The event, begun at the start of the method
+	 * @param method The name of the method
+	 * @param table The {@link UIDefaults} table the method populated
+	 */
+	private void commitDefaultsInitEvent(DefaultsInitEvent event, String method, UIDefaults table){
+		if(event.shouldCommit()){
+			event.method = method;
+			event.tableSize = table.size();
+			event.themeFingerprint = theme.getFingerprint();
+			event.commit();
 		}
 	}
+	
+	/**
+	 * Wraps the given {@link Supplier} in a {@link UIDefaults.LazyValue}, so that the value is only computed
+	 * the first time it's looked up in the {@link UIDefaults} table. Subclasses adding their own Component
+	 * defaults should use this for values that need to be computed, and add values they already have directly.
+	 *
+	 * @param supplier The {@link Supplier} that computes the value
+	 * @return A {@link UIDefaults.LazyValue} for the value
+	 */
+	protected static UIDefaults.LazyValue lazy(Supplier<Object> supplier){
+		return table -> supplier.get();
+	}
 }
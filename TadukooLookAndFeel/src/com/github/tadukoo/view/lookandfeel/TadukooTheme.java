@@ -9,7 +9,6 @@ import com.github.tadukoo.view.lookandfeel.componentui.TadukooLabelUI;
 import com.github.tadukoo.view.paint.ColorPaintUIResource;
 import com.github.tadukoo.view.paint.NoPaintUIResource;
 import com.github.tadukoo.view.paint.PaintUIResource;
-import com.github.tadukoo.view.border.ShapedLineBorder;
 import com.github.tadukoo.view.font.FontFamilies;
 import com.github.tadukoo.view.font.FontFamily;
 import com.github.tadukoo.view.font.FontResourceLoader;
@@ -27,17 +26,24 @@ import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.GraphicsEnvironment;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * Theme class for {@link TadukooLookAndFeel}. You can use the {@link TadukooThemeBuilder builder} via the
  * {@link #builder()} method to construct it and specify whatever customizations you want.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.4
  * @since Alpha v.0.2
  */
 public class TadukooTheme{
@@ -203,10 +209,17 @@ public class TadukooTheme{
 	 *         <td>"fonts/"</td>
 	 *     </tr>
 	 *     <tr>
+	 *         <td>fontLoadingMode</td>
+	 *         <td>The {@link FontLoadingMode} to use in loading fonts from the font folder
+	 *         - can be ignored if you specify your own FontResourceLoader</td>
+	 *         <td>{@link FontLoadingMode#RESOURCE_LOADER}</td>
+	 *     </tr>
+	 *     <tr>
 	 *         <td>fontResourceLoader</td>
 	 *        <td>The {@link FontResourceLoader} to use in loading fonts and/or ensuring they're in the system</td>
 	 *        <td>a new FontResourceLoader with the specified values for {@link #logFontResourceLoaderWarnings},
-	 *         {@link #logger}, {@link #graphEnv}, and {@link #fontFolder}</td>
+	 *         {@link #logger}, {@link #graphEnv}, and {@link #fontFolder} - only created when the fonts aren't
+	 *         already in the {@link TadukooFontCache}</td>
 	 *     </tr>
 	 * </table>
 	 * <br>
@@ -312,7 +325,7 @@ public class TadukooTheme{
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.3
+	 * @version Alpha v.0.4
 	 * @since Alpha v.0.2
 	 */
 	public static class TadukooThemeBuilder{
@@ -415,6 +428,9 @@ public class TadukooTheme{
 		/** The path to the fonts folder to find font files in if needed in the FontResourceLoader
 		 *  - can be ignored if you specify your own FontResourceLoader */
 		private String fontFolder = "fonts/";
+		/** The {@link FontLoadingMode} to use in loading fonts from the font folder
+		 *  - can be ignored if you specify your own FontResourceLoader */
+		private FontLoadingMode fontLoadingMode = FontLoadingMode.RESOURCE_LOADER;
 		/** The {@link FontResourceLoader} to use in loading fonts and/or ensuring they're in the system */
 		private FontResourceLoader fontResourceLoader = null;
 		
@@ -434,7 +450,7 @@ public class TadukooTheme{
 		 * Borders
 		 */
 		/** The {@link BorderUIResource} to use for all unspecified borders */
-		private BorderUIResource defaultBorder = new BorderUIResource(ShapedLineBorder.builder().build());
+		private BorderUIResource defaultBorder = TadukooThemeValues.DEFAULT_BORDER;
 		/** The {@link BorderUIResource} to use on Buttons */
 		private BorderUIResource buttonBorder = null;
 		/** The {@link BorderUIResource} to use on Labels */
@@ -471,6 +487,74 @@ public class TadukooTheme{
 		/** Cannot create TadukooThemeBuilder outside of TadukooTheme */
 		private TadukooThemeBuilder(){ }
 		
+		/**
+		 * Creates a new TadukooThemeBuilder with the same customizations as the given one (the maps of other
+		 * customizations are copied too), so that changes to either builder don't affect the other
+		 *
+		 * @param builder The TadukooThemeBuilder to copy the customizations of
+		 */
+		private TadukooThemeBuilder(TadukooThemeBuilder builder){
+			// Component UIs
+			buttonUI = builder.buttonUI;
+			labelUI = builder.labelUI;
+			
+			// Paints
+			defaultForegroundPaint = builder.defaultForegroundPaint;
+			buttonForegroundPaint = builder.buttonForegroundPaint;
+			labelForegroundPaint = builder.labelForegroundPaint;
+			defaultBackgroundPaint = builder.defaultBackgroundPaint;
+			buttonBackgroundPaint = builder.buttonBackgroundPaint;
+			labelBackgroundPaint = builder.labelBackgroundPaint;
+			defaultFocusPaint = builder.defaultFocusPaint;
+			buttonFocusPaint = builder.buttonFocusPaint;
+			defaultSelectPaint = builder.defaultSelectPaint;
+			buttonSelectPaint = builder.buttonSelectPaint;
+			defaultDisabledTextPaint = builder.defaultDisabledTextPaint;
+			buttonDisabledTextPaint = builder.buttonDisabledTextPaint;
+			defaultDisabledForegroundPaint = builder.defaultDisabledForegroundPaint;
+			labelDisabledForegroundPaint = builder.labelDisabledForegroundPaint;
+			
+			// Fonts
+			defaultFontFamily = builder.defaultFontFamily;
+			defaultFontStyle = builder.defaultFontStyle;
+			defaultFontSize = builder.defaultFontSize;
+			buttonFontFamily = builder.buttonFontFamily;
+			buttonFontStyle = builder.buttonFontStyle;
+			buttonFontSize = builder.buttonFontSize;
+			labelFontFamily = builder.labelFontFamily;
+			labelFontStyle = builder.labelFontStyle;
+			labelFontSize = builder.labelFontSize;
+			
+			// Font Resource Loading
+			logFontResourceLoaderWarnings = builder.logFontResourceLoaderWarnings;
+			logger = builder.logger;
+			graphEnv = builder.graphEnv;
+			fontFolder = builder.fontFolder;
+			fontLoadingMode = builder.fontLoadingMode;
+			fontResourceLoader = builder.fontResourceLoader;
+			
+			// Shapes and Borders
+			defaultShapeInfo = builder.defaultShapeInfo;
+			buttonShapeInfo = builder.buttonShapeInfo;
+			labelShapeInfo = builder.labelShapeInfo;
+			defaultBorder = builder.defaultBorder;
+			buttonBorder = builder.buttonBorder;
+			labelBorder = builder.labelBorder;
+			
+			// Titled Border Parameters
+			titledBorderBorder = builder.titledBorderBorder;
+			titledBorderFontFamily = builder.titledBorderFontFamily;
+			titledBorderFontStyle = builder.titledBorderFontStyle;
+			titledBorderFontSize = builder.titledBorderFontSize;
+			titledBorderColor = builder.titledBorderColor;
+			titledBorderPosition = builder.titledBorderPosition;
+			
+			// Other Customizations
+			classDefaults = new HashMap<>(builder.classDefaults);
+			systemColorDefaults = new HashMap<>(builder.systemColorDefaults);
+			componentDefaults = new HashMap<>(builder.componentDefaults);
+		}
+		
 		/*
 		 * Component UI Classes
 		 */
@@ -737,6 +821,16 @@ public class TadukooTheme{
 			return this;
 		}
 		
+		/**
+		 * @param fontLoadingMode The {@link FontLoadingMode} to use in loading fonts from the font folder
+		 *  - can be ignored if you specify your own FontResourceLoader
+		 * @return this, to continue building
+		 */
+		public TadukooThemeBuilder fontLoadingMode(FontLoadingMode fontLoadingMode){
+			this.fontLoadingMode = fontLoadingMode;
+			return this;
+		}
+		
 		/**
 		 * @param fontResourceLoader The {@link FontResourceLoader} to use in loading fonts and/or ensuring
 		 *  they're in the system
@@ -933,21 +1027,299 @@ public class TadukooTheme{
 			// TODO: Check for errors
 		}
 		
+		/**
+		 * Computes a 64-bit fingerprint of the customizations in this builder, without building the theme. Builders
+		 * with the same customizations (after defaults are applied) have the same fingerprint, which is also
+		 * available on the built theme as {@link TadukooTheme#getFingerprint()}. This makes it cheap to check
+		 * whether a theme would actually change before building it. Fingerprints are only the same across JVM runs
+		 * if all the customizations are standard values (colors, fonts, standard shapes, etc. - see
+		 * {@link TadukooThemeValues}). Custom values like borders contribute their hash code or identity, so
+		 * fingerprints of themes that use them should only be compared within the same JVM run.
+		 * <br><br>
+		 * The font loading settings (font folder, graphics environment, etc.) are not part of the fingerprint.
+		 *
+		 * @return The fingerprint of this builder's customizations
+		 */
+		public long fingerprint(){
+			long fingerprint = TadukooThemeValues.FINGERPRINT_SEED;
+			
+			// Component UI Classes
+			fingerprint = TadukooThemeValues.fingerprintValue(fingerprint, buttonUI);
+			fingerprint = TadukooThemeValues.fingerprintValue(fingerprint, labelUI);
+			
+			// Button Customizations
+			fingerprint = fingerprintDefaulted(fingerprint, buttonForegroundPaint, defaultForegroundPaint);
+			fingerprint = fingerprintDefaulted(fingerprint, buttonBackgroundPaint, defaultBackgroundPaint);
+			fingerprint = fingerprintDefaulted(fingerprint, buttonFocusPaint, defaultFocusPaint);
+			fingerprint = fingerprintDefaulted(fingerprint, buttonSelectPaint, defaultSelectPaint);
+			fingerprint = fingerprintDefaulted(fingerprint, buttonDisabledTextPaint, defaultDisabledTextPaint);
+			fingerprint = fingerprintFont(fingerprint, buttonFontFamily, buttonFontStyle, buttonFontSize);
+			fingerprint = fingerprintDefaulted(fingerprint, buttonShapeInfo, defaultShapeInfo);
+			fingerprint = fingerprintDefaulted(fingerprint, buttonBorder, defaultBorder);
+			
+			// Label Customizations
+			fingerprint = fingerprintDefaulted(fingerprint, labelForegroundPaint, defaultForegroundPaint);
+			fingerprint = fingerprintDefaulted(fingerprint, labelBackgroundPaint, defaultBackgroundPaint);
+			fingerprint = fingerprintDefaulted(fingerprint, labelDisabledForegroundPaint,
+					defaultDisabledForegroundPaint);
+			fingerprint = fingerprintFont(fingerprint, labelFontFamily, labelFontStyle, labelFontSize);
+			fingerprint = fingerprintDefaulted(fingerprint, labelShapeInfo, defaultShapeInfo);
+			fingerprint = fingerprintDefaulted(fingerprint, labelBorder, defaultBorder);
+			
+			// Titled Border Customizations
+			fingerprint = fingerprintDefaulted(fingerprint, titledBorderBorder, defaultBorder);
+			fingerprint = fingerprintFont(fingerprint, titledBorderFontFamily, titledBorderFontStyle,
+					titledBorderFontSize);
+			fingerprint = TadukooThemeValues.fingerprintValue(fingerprint, titledBorderColor);
+			fingerprint = TadukooThemeValues.fingerprintValue(fingerprint,
+					titledBorderPosition == null?null:titledBorderPosition.getValue());
+			
+			// Other Defaults (sorted by key, so the order they were added in doesn't matter)
+			fingerprint = fingerprintDefaults(fingerprint, classDefaults);
+			fingerprint = fingerprintDefaults(fingerprint, systemColorDefaults);
+			fingerprint = fingerprintDefaults(fingerprint, componentDefaults);
+			return fingerprint;
+		}
+		
+		/**
+		 * Adds a customization to the given fingerprint, using the default value if the customization is null
+		 * (the same as building does)
+		 *
+		 * @param fingerprint The fingerprint so far
+		 * @param value The customization
+		 * @param defaultValue The default value for the customization
+		 * @return The new fingerprint
+		 */
+		private static long fingerprintDefaulted(long fingerprint, Object value, Object defaultValue){
+			return TadukooThemeValues.fingerprintValue(fingerprint, value != null?value:defaultValue);
+		}
+		
+		/**
+		 * Adds a font to the given fingerprint, using the default font if the family is null (the same as
+		 * {@link #handleDefaultFonts()} does)
+		 *
+		 * @param fingerprint The fingerprint so far
+		 * @param fontFamily The {@link FontFamily} of the font
+		 * @param fontStyle The style of the font
+		 * @param fontSize The size of the font
+		 * @return The new fingerprint
+		 */
+		private long fingerprintFont(long fingerprint, FontFamily fontFamily, int fontStyle, int fontSize){
+			if(fontFamily == null){
+				fontFamily = defaultFontFamily;
+				fontStyle = defaultFontStyle;
+				fontSize = defaultFontSize;
+			}
+			fingerprint = TadukooThemeValues.fingerprint(fingerprint, fontFamily == null?"null":fontFamily.getName());
+			fingerprint = TadukooThemeValues.fingerprintValue(fingerprint, fontStyle);
+			return TadukooThemeValues.fingerprintValue(fingerprint, fontSize);
+		}
+		
+		/**
+		 * Adds a map of defaults to the given fingerprint, sorted by key
+		 *
+		 * @param fingerprint The fingerprint so far
+		 * @param defaults The map of defaults
+		 * @return The new fingerprint
+		 */
+		private static long fingerprintDefaults(long fingerprint, Map<String, ?> defaults){
+			fingerprint = TadukooThemeValues.fingerprintValue(fingerprint, defaults.size());
+			for(Map.Entry<String, ?> entry: new TreeMap<>(defaults).entrySet()){
+				fingerprint = TadukooThemeValues.fingerprint(fingerprint, entry.getKey());
+				fingerprint = TadukooThemeValues.fingerprintValue(fingerprint, entry.getValue());
+			}
+			return fingerprint;
+		}
+		
 		/**
 		 * Builds a {@link TadukooTheme} using the given customizations (or default customizations for unspecified
-		 * parameters).
+		 * parameters). Each distinct {@link FontFamily} is only loaded once, and if no {@link FontResourceLoader}
+		 * was specified, fonts are resolved using the {@link TadukooFontCache} and {@link TadukooFontRegistry}.
 		 *
 		 * @return A new {@link TadukooTheme}
 		 * @throws IOException If something goes wrong in loading fonts
 		 * @throws FontFormatException If something goes wrong in loading fonts
 		 */
 		public TadukooTheme build() throws IOException, FontFormatException{
+			return build(null);
+		}
+		
+		/**
+		 * Builds a {@link TadukooTheme} like {@link #build()}, filling in the given {@link ThemeBuildReport} with
+		 * the time and allocations of each {@link ThemeBuildPhase phase} of the build, and how the fonts were
+		 * resolved.
+		 *
+		 * @param report The {@link ThemeBuildReport} to fill in (can be {@code null} to skip reporting)
+		 * @return A new {@link TadukooTheme}
+		 * @throws IOException If something goes wrong in loading fonts
+		 * @throws FontFormatException If something goes wrong in loading fonts
+		 */
+		public TadukooTheme build(ThemeBuildReport report) throws IOException, FontFormatException{
+			// Time each stage for Java Flight Recorder, using the same phases as the report
+			ThemeBuildEvent event = new ThemeBuildEvent();
+			event.begin();
+			long start = System.nanoTime();
+			event.startPhases(start);
+			if(report != null){
+				report.start(start);
+			}
+			
 			checkForErrors();
+			endPhase(report, event, ThemeBuildPhase.VALIDATION);
+			handleDefaultPaints();
+			endPhase(report, event, ThemeBuildPhase.DEFAULT_PAINTS);
+			handleDefaultFonts();
+			List<FontFamily> fontFamilies = getFontFamilies();
+			endPhase(report, event, ThemeBuildPhase.FONT_FAMILIES);
+			handleDefaultShapesAndBorders();
+			endPhase(report, event, ThemeBuildPhase.SHAPES_AND_BORDERS);
 			
-			/*
-			 * Handle Default Paints
-			 */
+			// Load fonts
+			List<String> foundFonts = loadFonts(fontFamilies, report);
+			endPhase(report, event, ThemeBuildPhase.FONT_LOADING);
+			TadukooTheme theme = createTheme(foundFonts, report, event);
+			if(report != null){
+				report.finish(theme.getFingerprint());
+			}
+			
+			commitEvent(event, theme, fontFamilies);
+			return theme;
+		}
+		
+		/**
+		 * Builds a {@link TadukooTheme} asynchronously using the given customizations (or default customizations
+		 * for unspecified parameters). Each distinct {@link FontFamily} is loaded as its own task on the given
+		 * {@link Executor}, so font families can be loaded in parallel while the application continues on
+		 * (e.g. showing a splash window). A bounded executor is recommended, since font loading is mostly file I/O.
+		 * If a {@link FontResourceLoader} was specified, all the font families are loaded in a single task instead,
+		 * since the loader may not be safe to use from multiple threads at once.
+		 * <br><br>
+		 * If font loading fails, the returned future completes exceptionally with the {@link IOException} or
+		 * {@link FontFormatException} as the cause of a {@link CompletionException}.
+		 * <br><br>
+		 * The customizations are copied before this returns, so the builder can be changed or reused right away
+		 * without affecting the theme being built.
+		 *
+		 * @param executor The {@link Executor} to load fonts and create the theme on
+		 * @return A {@link CompletableFuture} that will complete with the new {@link TadukooTheme}
+		 */
+		public CompletableFuture<TadukooTheme> buildAsync(Executor executor){
+			// Time each stage for Java Flight Recorder
+			ThemeBuildEvent event = new ThemeBuildEvent();
+			event.begin();
+			event.startPhases(System.nanoTime());
 			
+			checkForErrors();
+			endPhase(null, event, ThemeBuildPhase.VALIDATION);
+			
+			// Copy the customizations on this thread, so later changes to this builder can't race with the build
+			TadukooThemeBuilder builder = new TadukooThemeBuilder(this);
+			builder.handleDefaultPaints();
+			endPhase(null, event, ThemeBuildPhase.DEFAULT_PAINTS);
+			builder.handleDefaultFonts();
+			List<FontFamily> fontFamilies = builder.getFontFamilies();
+			endPhase(null, event, ThemeBuildPhase.FONT_FAMILIES);
+			builder.handleDefaultShapesAndBorders();
+			endPhase(null, event, ThemeBuildPhase.SHAPES_AND_BORDERS);
+			
+			// Load the fonts
+			CompletableFuture<List<String>> fontLoading = builder.fontResourceLoader == null?
+					loadFontsAsync(builder, fontFamilies, executor):
+					CompletableFuture.supplyAsync(() -> loadFontsNow(builder, fontFamilies), executor);
+			
+			// Once all the fonts are loaded, create the theme
+			return fontLoading.thenApplyAsync(foundFonts -> {
+				endPhase(null, event, ThemeBuildPhase.FONT_LOADING);
+				TadukooTheme theme = builder.createTheme(foundFonts, null, event);
+				commitEvent(event, theme, fontFamilies);
+				return theme;
+			}, executor);
+		}
+		
+		/**
+		 * Loads each distinct {@link FontFamily} as its own task on the given {@link Executor}
+		 *
+		 * @param builder The (already defaulted) TadukooThemeBuilder to load the fonts with
+		 * @param fontFamilies The {@link FontFamily FontFamilies} to load
+		 * @param executor The {@link Executor} to load the fonts on
+		 * @return A {@link CompletableFuture} that will complete with the resolved font names, in the same order as
+		 * the given font families
+		 */
+		private static CompletableFuture<List<String>> loadFontsAsync(
+				TadukooThemeBuilder builder, List<FontFamily> fontFamilies, Executor executor){
+			// Start loading each distinct font family
+			Map<String, CompletableFuture<String>> fontLoads = new HashMap<>();
+			for(FontFamily fontFamily: fontFamilies){
+				fontLoads.computeIfAbsent(fontFamily.getName(), name -> CompletableFuture.supplyAsync(
+						() -> loadFontsNow(builder, ListUtil.createList(fontFamily)).get(0), executor));
+			}
+			
+			// Match the loaded fonts back up with the requested font families
+			return CompletableFuture.allOf(fontLoads.values().toArray(new CompletableFuture<?>[0]))
+					.thenApply(ignored -> {
+						List<String> foundFonts = new ArrayList<>(fontFamilies.size());
+						for(FontFamily fontFamily: fontFamilies){
+							foundFonts.add(fontLoads.get(fontFamily.getName()).join());
+						}
+						return foundFonts;
+					});
+		}
+		
+		/**
+		 * Loads the given {@link FontFamily FontFamilies} on the current thread, for use in a
+		 * {@link CompletableFuture} task
+		 *
+		 * @param builder The (already defaulted) TadukooThemeBuilder to load the fonts with
+		 * @param fontFamilies The {@link FontFamily FontFamilies} to load
+		 * @return The resolved font names, in the same order as the given font families
+		 * @throws CompletionException Wrapping the {@link IOException} or {@link FontFormatException} if
+		 * something goes wrong in loading fonts
+		 */
+		private static List<String> loadFontsNow(TadukooThemeBuilder builder, List<FontFamily> fontFamilies){
+			try{
+				return builder.loadFonts(fontFamilies, null);
+			}catch(IOException | FontFormatException e){
+				throw new CompletionException(e);
+			}
+		}
+		
+		/**
+		 * Ends a phase of the build in the given {@link ThemeBuildEvent} and {@link ThemeBuildReport} (if there is
+		 * one), using the same time for both so that they agree on where each phase ends
+		 *
+		 * @param report The {@link ThemeBuildReport} being filled in (can be {@code null})
+		 * @param event The {@link ThemeBuildEvent} for the build
+		 * @param phase The {@link ThemeBuildPhase} that ended
+		 */
+		private static void endPhase(ThemeBuildReport report, ThemeBuildEvent event, ThemeBuildPhase phase){
+			long now = System.nanoTime();
+			event.endPhase(phase, now);
+			if(report != null){
+				report.endPhase(phase, now);
+			}
+		}
+		
+		/**
+		 * Ends the given {@link ThemeBuildEvent} and commits it if it's being recorded
+		 *
+		 * @param event The {@link ThemeBuildEvent} for the build
+		 * @param theme The built {@link TadukooTheme}
+		 * @param fontFamilies The {@link FontFamily FontFamilies} used in the theme
+		 */
+		private static void commitEvent(ThemeBuildEvent event, TadukooTheme theme, List<FontFamily> fontFamilies){
+			event.end();
+			if(event.shouldCommit()){
+				event.themeFingerprint = theme.getFingerprint();
+				event.fontFamilies = fontFamilies.stream().map(FontFamily::getName).distinct()
+						.collect(Collectors.joining(", "));
+				event.commit();
+			}
+		}
+		
+		/**
+		 * Fills in any unspecified paints with the default paints
+		 */
+		private void handleDefaultPaints(){
 			// Foreground Paints
 			if(buttonForegroundPaint == null){
 				buttonForegroundPaint = defaultForegroundPaint;
@@ -983,10 +1355,12 @@ public class TadukooTheme{
 			if(labelDisabledForegroundPaint == null){
 				labelDisabledForegroundPaint = defaultDisabledForegroundPaint;
 			}
-			
-			/*
-			 * Handle Default Fonts
-			 */
+		}
+		
+		/**
+		 * Fills in any unspecified fonts with the default font
+		 */
+		private void handleDefaultFonts(){
 			if(buttonFontFamily == null){
 				buttonFontFamily = defaultFontFamily;
 				buttonFontStyle = defaultFontStyle;
@@ -1003,24 +1377,12 @@ public class TadukooTheme{
 				titledBorderFontStyle = defaultFontStyle;
 				titledBorderFontSize = defaultFontSize;
 			}
-			
-			// Handle font resource loading
-			if(fontResourceLoader == null){
-				fontResourceLoader = new FontResourceLoader(logFontResourceLoaderWarnings, logger, graphEnv,
-						fontFolder);
-			}
-			
-			// Load fonts
-			List<FontFamily> fontFamilies = ListUtil.createList(buttonFontFamily, labelFontFamily,
-					titledBorderFontFamily);
-			List<String> foundFonts = fontResourceLoader.loadFonts(fontFamilies, true);
-			
-			// Create the FontUIResources
-			FontUIResource buttonFont = new FontUIResource(foundFonts.get(0), buttonFontStyle, buttonFontSize);
-			FontUIResource labelFont = new FontUIResource(foundFonts.get(1), labelFontStyle, labelFontSize);
-			FontUIResource titledBorderFont = new FontUIResource(foundFonts.get(2),
-					titledBorderFontStyle, titledBorderFontSize);
-			
+		}
+		
+		/**
+		 * Fills in any unspecified shapes and borders with the default shape and border
+		 */
+		private void handleDefaultShapesAndBorders(){
 			/*
 			 * Handle Default Shapes
 			 */
@@ -1044,6 +1406,81 @@ public class TadukooTheme{
 			if(titledBorderBorder == null){
 				titledBorderBorder = defaultBorder;
 			}
+		}
+		
+		/**
+		 * @return The {@link FontFamily FontFamilies} used in the theme, in the order of the Button font, the Label
+		 * font, and the Titled Border font
+		 */
+		private List<FontFamily> getFontFamilies(){
+			return ListUtil.createList(buttonFontFamily, labelFontFamily, titledBorderFontFamily);
+		}
+		
+		/**
+		 * Resolves the font names for the given {@link FontFamily FontFamilies}. Each distinct font family is only
+		 * loaded once, even if it's used for multiple fonts. If no font resource loader was specified, the
+		 * {@link TadukooFontCache} and {@link TadukooFontRegistry} are used to skip loading.
+		 *
+		 * @param fontFamilies The {@link FontFamily FontFamilies} to load
+		 * @param report The {@link ThemeBuildReport} to record how the fonts were resolved in (can be {@code null})
+		 * @return The resolved font names, in the same order as the given font families
+		 * @throws IOException If something goes wrong in loading fonts
+		 * @throws FontFormatException If something goes wrong in loading fonts
+		 */
+		private List<String> loadFonts(List<FontFamily> fontFamilies, ThemeBuildReport report)
+				throws IOException, FontFormatException{
+			// Grab the distinct font families
+			Map<String, Integer> familyIndices = new HashMap<>();
+			List<FontFamily> distinctFontFamilies = new ArrayList<>();
+			for(FontFamily fontFamily: fontFamilies){
+				if(!familyIndices.containsKey(fontFamily.getName())){
+					familyIndices.put(fontFamily.getName(), distinctFontFamilies.size());
+					distinctFontFamilies.add(fontFamily);
+				}
+			}
+			
+			// Load the distinct font families
+			List<String> loadedFonts;
+			if(fontResourceLoader == null){
+				loadedFonts = TadukooFontCache.loadFonts(distinctFontFamilies, fontLoadingMode,
+						logFontResourceLoaderWarnings, logger, graphEnv, fontFolder, report);
+			}else{
+				FontLoadEvent event = new FontLoadEvent();
+				event.begin();
+				loadedFonts = fontResourceLoader.loadFonts(distinctFontFamilies, true);
+				FontLoadEvent.commit(event, distinctFontFamilies, "Custom FontResourceLoader", -1);
+				if(report != null){
+					report.fontsLoaded(distinctFontFamilies.size());
+					report.fontBytesRead(-1);
+				}
+			}
+			
+			// Match the loaded fonts back up with the requested font families
+			List<String> foundFonts = new ArrayList<>(fontFamilies.size());
+			for(FontFamily fontFamily: fontFamilies){
+				foundFonts.add(loadedFonts.get(familyIndices.get(fontFamily.getName())));
+			}
+			return foundFonts;
+		}
+		
+		/**
+		 * Creates the {@link TadukooTheme} from the (already defaulted) customizations and the loaded fonts.
+		 *
+		 * @param foundFonts The resolved font names for the Button, Label, and Titled Border fonts (in that order)
+		 * @param report The {@link ThemeBuildReport} to record the phases in (can be {@code null})
+		 * @param event The {@link ThemeBuildEvent} to record the phases in
+		 * @return A new {@link TadukooTheme}
+		 */
+		private TadukooTheme createTheme(List<String> foundFonts, ThemeBuildReport report, ThemeBuildEvent event){
+			long fingerprint = fingerprint();
+			endPhase(report, event, ThemeBuildPhase.FINGERPRINT);
+			
+			// Create the FontUIResources
+			FontUIResource buttonFont = new FontUIResource(foundFonts.get(0), buttonFontStyle, buttonFontSize);
+			FontUIResource labelFont = new FontUIResource(foundFonts.get(1), labelFontStyle, labelFontSize);
+			FontUIResource titledBorderFont = new FontUIResource(foundFonts.get(2),
+					titledBorderFontStyle, titledBorderFontSize);
+			endPhase(report, event, ThemeBuildPhase.FONT_RESOURCES);
 			
 			/*
 			 * Handle Other Customizations
@@ -1078,15 +1515,18 @@ public class TadukooTheme{
 				componentDefaultsArray[i*2] = key;
 				componentDefaultsArray[i*2+1] = componentDefaults.get(key);
 			}
+			endPhase(report, event, ThemeBuildPhase.DEFAULTS_ARRAYS);
 			
-			return new TadukooTheme(buttonUI.getCanonicalName(), labelUI.getCanonicalName(),
+			TadukooTheme theme = new TadukooTheme(buttonUI.getCanonicalName(), labelUI.getCanonicalName(),
 					buttonForegroundPaint, buttonBackgroundPaint,
 					buttonFocusPaint, buttonSelectPaint, buttonDisabledTextPaint,
 					buttonFont, buttonShapeInfo, buttonBorder,
 					labelForegroundPaint, labelBackgroundPaint, labelDisabledForegroundPaint,
 					labelFont, labelShapeInfo, labelBorder,
 					titledBorderBorder, titledBorderFont, titledBorderColor, titledBorderPosition.getValue(),
-					classDefaultsArray, systemColorDefaultsArray, componentDefaultsArray);
+					classDefaultsArray, systemColorDefaultsArray, componentDefaultsArray, fingerprint);
+			endPhase(report, event, ThemeBuildPhase.THEME_CREATION);
+			return theme;
 		}
 	}
 	
@@ -1164,8 +1604,17 @@ public class TadukooTheme{
 	/** Component defaults beyond those specified in the other sections */
 	private final Object[] componentDefaults;
 	
+	/*
+	 * Theme Identity
+	 */
+	/** The fingerprint of the customizations the theme was built from */
+	private final long fingerprint;
+	/** The structural hash code of the theme, computed once when it's constructed */
+	private final int hashCode;
+	
 	/**
-	 * Constructs a new TadukooTheme with the given customizations.
+	 * Constructs a new TadukooTheme with the given customizations. This is used by the builder and when reading a
+	 * {@link TadukooThemeSnapshot}.
 	 *
 	 * @param buttonUI The {@link ButtonUI} class to use
 	 * @param labelUI The {@link LabelUI} class to use
@@ -1190,8 +1639,9 @@ public class TadukooTheme{
 	 * @param classDefaults Class defaults beyond those specified in the "Component UI Classes" section
 	 * @param systemColorDefaults System Color defaults
 	 * @param componentDefaults Component defaults beyond those specified in the other sections
+	 * @param fingerprint The {@link TadukooThemeBuilder#fingerprint() fingerprint} of the customizations
 	 */
-	private TadukooTheme(String buttonUI, String labelUI,
+	TadukooTheme(String buttonUI, String labelUI,
 	                     PaintUIResource buttonForegroundPaint, PaintUIResource buttonBackgroundPaint,
 	                     PaintUIResource buttonFocusPaint, PaintUIResource buttonSelectPaint,
 	                     PaintUIResource buttonDisabledTextPaint, FontUIResource buttonFont,
@@ -1201,7 +1651,8 @@ public class TadukooTheme{
 	                     FontUIResource labelFont, ShapeInfoUIResource labelShapeInfo, BorderUIResource labelBorder,
 	                     BorderUIResource titledBorderBorder, FontUIResource titledBorderFont,
 	                     ColorUIResource titledBorderColor, int titledBorderPosition,
-	                     Object[] classDefaults, Object[] systemColorDefaults, Object[] componentDefaults){
+	                     Object[] classDefaults, Object[] systemColorDefaults, Object[] componentDefaults,
+	                     long fingerprint){
 		// Set Component UI Classes
 		this.buttonUI = buttonUI;
 		this.labelUI = labelUI;
@@ -1238,6 +1689,27 @@ public class TadukooTheme{
 		this.classDefaults = classDefaults;
 		this.systemColorDefaults = systemColorDefaults;
 		this.componentDefaults = componentDefaults;
+		
+		// Set Theme Identity
+		this.fingerprint = fingerprint;
+		this.hashCode = computeHashCode();
+	}
+	
+	/**
+	 * @return The structural hash code of this theme, consistent with {@link #equals(Object)}
+	 */
+	private int computeHashCode(){
+		int hash = Objects.hash(buttonUI, labelUI, buttonFont, labelFont, titledBorderFont,
+				titledBorderColor, titledBorderPosition);
+		for(Object value: new Object[]{buttonForegroundPaint, buttonBackgroundPaint, buttonFocusPaint,
+				buttonSelectPaint, buttonDisabledTextPaint, buttonShapeInfo, buttonBorder,
+				labelForegroundPaint, labelBackgroundPaint, labelDisabledForegroundPaint, labelShapeInfo, labelBorder,
+				titledBorderBorder}){
+			hash = 31*hash + TadukooThemeValues.valueHash(value);
+		}
+		hash = 31*hash + TadukooThemeValues.pairsHash(classDefaults);
+		hash = 31*hash + TadukooThemeValues.pairsHash(systemColorDefaults);
+		return 31*hash + TadukooThemeValues.pairsHash(componentDefaults);
 	}
 	
 	/**
@@ -1416,23 +1888,89 @@ public class TadukooTheme{
 	 */
 	
 	/**
-	 * @return Class defaults beyond those specified in the "Component UI Classes" section
+	 * @return Class defaults beyond those specified in the "Component UI Classes" section (a copy, since themes
+	 * are shared and immutable)
 	 */
 	public Object[] getClassDefaults(){
-		return classDefaults;
+		return classDefaults.clone();
 	}
 	
 	/**
-	 * @return System Color defaults
+	 * @return System Color defaults (a copy, since themes are shared and immutable)
 	 */
 	public Object[] getSystemColorDefaults(){
-		return systemColorDefaults;
+		return systemColorDefaults.clone();
 	}
 	
 	/**
-	 * @return Component defaults beyond those specified in the other sections
+	 * @return Component defaults beyond those specified in the other sections (a copy, since themes are shared
+	 * and immutable)
 	 */
 	public Object[] getComponentDefaults(){
-		return componentDefaults;
+		return componentDefaults.clone();
+	}
+	
+	/*
+	 * Theme Identity
+	 */
+	
+	/**
+	 * @return The {@link TadukooThemeBuilder#fingerprint() fingerprint} of the customizations this theme was
+	 * built from
+	 */
+	public long getFingerprint(){
+		return fingerprint;
+	}
+	
+	/**
+	 * Checks whether the given object is a TadukooTheme with the same customizations. Paints, shape infos, and
+	 * borders are compared by what they describe (see {@link TadukooThemeValues}), and the defaults are compared
+	 * as key-value pairs regardless of their order.
+	 *
+	 * @param o The object to compare to
+	 * @return Whether the given object is an equal TadukooTheme
+	 */
+	@Override
+	public boolean equals(Object o){
+		if(this == o){
+			return true;
+		}
+		if(!(o instanceof TadukooTheme other) || hashCode != other.hashCode){
+			return false;
+		}
+		return titledBorderPosition == other.titledBorderPosition &&
+				Objects.equals(buttonUI, other.buttonUI) && Objects.equals(labelUI, other.labelUI) &&
+				// Button Customizations
+				TadukooThemeValues.valueEquals(buttonForegroundPaint, other.buttonForegroundPaint) &&
+				TadukooThemeValues.valueEquals(buttonBackgroundPaint, other.buttonBackgroundPaint) &&
+				TadukooThemeValues.valueEquals(buttonFocusPaint, other.buttonFocusPaint) &&
+				TadukooThemeValues.valueEquals(buttonSelectPaint, other.buttonSelectPaint) &&
+				TadukooThemeValues.valueEquals(buttonDisabledTextPaint, other.buttonDisabledTextPaint) &&
+				Objects.equals(buttonFont, other.buttonFont) &&
+				TadukooThemeValues.valueEquals(buttonShapeInfo, other.buttonShapeInfo) &&
+				TadukooThemeValues.valueEquals(buttonBorder, other.buttonBorder) &&
+				// Label Customizations
+				TadukooThemeValues.valueEquals(labelForegroundPaint, other.labelForegroundPaint) &&
+				TadukooThemeValues.valueEquals(labelBackgroundPaint, other.labelBackgroundPaint) &&
+				TadukooThemeValues.valueEquals(labelDisabledForegroundPaint, other.labelDisabledForegroundPaint) &&
+				Objects.equals(labelFont, other.labelFont) &&
+				TadukooThemeValues.valueEquals(labelShapeInfo, other.labelShapeInfo) &&
+				TadukooThemeValues.valueEquals(labelBorder, other.labelBorder) &&
+				// Titled Border Customizations
+				TadukooThemeValues.valueEquals(titledBorderBorder, other.titledBorderBorder) &&
+				Objects.equals(titledBorderFont, other.titledBorderFont) &&
+				Objects.equals(titledBorderColor, other.titledBorderColor) &&
+				// Other Defaults
+				TadukooThemeValues.pairsEquals(classDefaults, other.classDefaults) &&
+				TadukooThemeValues.pairsEquals(systemColorDefaults, other.systemColorDefaults) &&
+				TadukooThemeValues.pairsEquals(componentDefaults, other.componentDefaults);
+	}
+	
+	/**
+	 * @return The structural hash code of this theme (computed once when the theme was built)
+	 */
+	@Override
+	public int hashCode(){
+		return hashCode;
 	}
 }
@@ -5,9 +5,7 @@ import com.github.tadukoo.view.paint.ColorPaintUIResource;
 import com.github.tadukoo.view.font.FontFamilies;
 import com.github.tadukoo.view.font.FontFamily;
 
-import javax.swing.plaf.BorderUIResource;
 import javax.swing.plaf.metal.DefaultMetalTheme;
-import javax.swing.plaf.metal.MetalBorders;
 import javax.swing.plaf.metal.MetalButtonUI;
 import javax.swing.plaf.metal.MetalLabelUI;
 import javax.swing.plaf.metal.MetalLookAndFeel;
@@ -16,22 +14,143 @@ import javax.swing.plaf.metal.OceanTheme;
 import java.awt.Font;
 import java.awt.FontFormatException;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Tadukoo Theme Factory provides some standard {@link TadukooTheme}s and
  * {@link TadukooTheme.TadukooThemeBuilder TadukooThemeBuilders}, along with some util methods for making your own
  * {@link TadukooTheme}.
+ * <br><br>
+ * The {@link TadukooTheme}s created by the {@code create...Theme()} methods are kept in a thread-safe,
+ * size-bounded cache (evicting the least recently used theme when it's full), so that multiple windows or plugins
+ * that ask for the same theme share one instance instead of each building it again. By default, the cache keeps the
+ * two most recently used themes (e.g. the current theme and the one that was switched away from), so an application
+ * that toggles between two themes never rebuilds them, while any other themes it tried along the way are released.
+ * The cache size can be changed using {@link #setThemeCacheSize(int)}, and the cache can be cleared using
+ * {@link #clearThemeCache()}. The cache is also cleared whenever the {@link TadukooFontCache} is
+ * {@link TadukooFontCache#invalidate() invalidated}, since the cached themes use the fonts it resolved.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.4
  * @since Alpha v.0.2
  */
 public class TadukooThemeFactory{
 	
+	/**
+	 * The themes that can be created by the factory, used as keys in the theme cache
+	 */
+	private enum FactoryTheme{
+		DEFAULT,
+		METAL,
+		DEFAULT_METAL,
+		OCEAN
+	}
+	
+	/**
+	 * Used to build a {@link TadukooTheme} for the theme cache
+	 */
+	@FunctionalInterface
+	private interface ThemeBuilder{
+		/**
+		 * @return The built {@link TadukooTheme}
+		 * @throws IOException If something goes wrong in loading fonts
+		 * @throws FontFormatException If something goes wrong in loading fonts
+		 */
+		TadukooTheme build() throws IOException, FontFormatException;
+	}
+	
+	/** The default maximum number of {@link TadukooTheme}s kept in the theme cache */
+	public static final int DEFAULT_THEME_CACHE_SIZE = 2;
+	
+	/** The maximum number of {@link TadukooTheme}s kept in the theme cache */
+	private static int themeCacheSize = DEFAULT_THEME_CACHE_SIZE;
+	/** The cache of built {@link TadukooTheme}s, in least recently used order (guarded by itself) */
+	private static final Map<FactoryTheme, TadukooTheme> themeCache =
+			new LinkedHashMap<>(DEFAULT_THEME_CACHE_SIZE, 0.75f, true){
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<FactoryTheme, TadukooTheme> eldest){
+					return size() > themeCacheSize;
+				}
+			};
+	
 	/** Not allowed to build a Tadukoo Theme Factory */
 	private TadukooThemeFactory(){ }
 	
+	/*
+	 * Theme Cache
+	 */
+	
+	/**
+	 * @return The maximum number of {@link TadukooTheme}s kept in the theme cache
+	 */
+	public static int getThemeCacheSize(){
+		synchronized(themeCache){
+			return themeCacheSize;
+		}
+	}
+	
+	/**
+	 * Sets the maximum number of {@link TadukooTheme}s kept in the theme cache. If the cache currently holds more
+	 * themes than this, the least recently used ones are evicted. A size of 0 disables the cache.
+	 *
+	 * @param size The maximum number of {@link TadukooTheme}s to keep in the theme cache
+	 */
+	public static void setThemeCacheSize(int size){
+		if(size < 0){
+			throw new IllegalArgumentException("Theme cache size must not be negative: " + size);
+		}
+		synchronized(themeCache){
+			themeCacheSize = size;
+			Iterator<FactoryTheme> it = themeCache.keySet().iterator();
+			while(themeCache.size() > size && it.hasNext()){
+				it.next();
+				it.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Clears the theme cache, so the next {@code create...Theme()} calls build their themes again
+	 */
+	public static void clearThemeCache(){
+		synchronized(themeCache){
+			themeCache.clear();
+		}
+	}
+	
+	/**
+	 * Grabs the given theme from the theme cache, or builds it and adds it to the cache if it's not there. The
+	 * theme is built outside the lock, so slow font loading doesn't block other threads using the cache; if two
+	 * threads build the same theme at once, both get the instance that was cached first.
+	 *
+	 * @param factoryTheme The theme to grab
+	 * @param builder Used to build the theme if it's not in the cache
+	 * @return The cached or newly built {@link TadukooTheme}
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 */
+	private static TadukooTheme getCachedTheme(FactoryTheme factoryTheme, ThemeBuilder builder)
+			throws IOException, FontFormatException{
+		synchronized(themeCache){
+			TadukooTheme theme = themeCache.get(factoryTheme);
+			if(theme != null){
+				return theme;
+			}
+		}
+		
+		TadukooTheme theme = builder.build();
+		synchronized(themeCache){
+			if(themeCacheSize == 0){
+				return theme;
+			}
+			TadukooTheme cachedTheme = themeCache.putIfAbsent(factoryTheme, theme);
+			return cachedTheme != null?cachedTheme:theme;
+		}
+	}
+	
 	/*
 	 * Themes and Theme Builders
 	 */
@@ -47,9 +166,10 @@ public class TadukooThemeFactory{
 	 * @return A {@link TadukooTheme} that has the default customizations
 	 * @throws IOException If something goes wrong in loading fonts
 	 * @throws FontFormatException If something goes wrong in loading fonts
+	 * @see #setThemeCacheSize(int)
 	 */
 	public static TadukooTheme createDefaultTheme() throws IOException, FontFormatException{
-		return defaultThemeBuilder().build();
+		return getCachedTheme(FactoryTheme.DEFAULT, () -> defaultThemeBuilder().build());
 	}
 	
 	/**
@@ -60,7 +180,7 @@ public class TadukooThemeFactory{
 	public static TadukooTheme.TadukooThemeBuilder metalThemeBuilder(){
 		return TadukooTheme.builder()
 				.buttonUI(MetalButtonUI.class).labelUI(MetalLabelUI.class)
-				.buttonBorder(new BorderUIResource(MetalBorders.getButtonBorder()))
+				.buttonBorder(TadukooThemeValues.METAL_BUTTON_BORDER)
 				.labelBorder(new NoBorderUIResource());
 	}
 	
@@ -70,9 +190,10 @@ public class TadukooThemeFactory{
 	 * regular {@link TadukooLookAndFeel} colors and fonts.
 	 * @throws IOException If something goes wrong in loading fonts
 	 * @throws FontFormatException If something goes wrong in loading fonts
+	 * @see #setThemeCacheSize(int)
 	 */
 	public static TadukooTheme createMetalTheme() throws IOException, FontFormatException{
-		return metalThemeBuilder().build();
+		return getCachedTheme(FactoryTheme.METAL, () -> metalThemeBuilder().build());
 	}
 	
 	/**
@@ -90,9 +211,10 @@ public class TadukooThemeFactory{
 	 * {@link DefaultMetalTheme} for colors and fonts.
 	 * @throws IOException If something goes wrong in loading fonts
 	 * @throws FontFormatException If something goes wrong in loading fonts
+	 * @see #setThemeCacheSize(int)
 	 */
 	public static TadukooTheme createDefaultMetalTheme() throws IOException, FontFormatException{
-		return defaultMetalThemeBuilder().build();
+		return getCachedTheme(FactoryTheme.DEFAULT_METAL, () -> defaultMetalThemeBuilder().build());
 	}
 	
 	/**
@@ -110,9 +232,10 @@ public class TadukooThemeFactory{
 	 * {@link OceanTheme} for colors and fonts.
 	 * @throws IOException If something goes wrong in loading fonts
 	 * @throws FontFormatException If something goes wrong in loading fonts
+	 * @see #setThemeCacheSize(int)
 	 */
 	public static TadukooTheme createOceanTheme() throws IOException, FontFormatException{
-		return oceanThemeBuilder().build();
+		return getCachedTheme(FactoryTheme.OCEAN, () -> oceanThemeBuilder().build());
 	}
 	
 	/*
@@ -159,8 +282,7 @@ public class TadukooThemeFactory{
 				.labelDisabledForegroundPaint(inactiveSystemTextPaint)
 				.labelFont(controlTextFontFamily, controlTextFontStyle, controlTextFontSize)
 				// Titled Border Settings
-				.titledBorderBorder(new BorderUIResource(
-						new BorderUIResource.LineBorderUIResource(metalTheme.getControlShadow())))
+				.titledBorderBorder(TadukooThemeValues.lineBorder(metalTheme.getControlShadow()))
 				.titledBorderFont(controlTextFontFamily, controlTextFontStyle, controlTextFontSize)
 				.titledBorderColor(metalTheme.getSystemTextColor());
 	}
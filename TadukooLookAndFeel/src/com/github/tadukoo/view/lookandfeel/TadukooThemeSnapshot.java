@@ -0,0 +1,364 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.border.NoBorderUIResource;
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.NoPaintUIResource;
+import com.github.tadukoo.view.paint.PaintUIResource;
+import com.github.tadukoo.view.shapes.ShapeInfoUIResource;
+import com.github.tadukoo.view.shapes.Shapes;
+
+import javax.swing.plaf.BorderUIResource;
+import javax.swing.plaf.ColorUIResource;
+import javax.swing.plaf.FontUIResource;
+import java.awt.Color;
+import java.awt.GraphicsEnvironment;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tadukoo Theme Snapshot is used to save a built {@link TadukooTheme} to a compact, versioned binary format and to
+ * load it back again without running {@link TadukooTheme.TadukooThemeBuilder#build()} or probing fonts. This is
+ * useful for applications that build the same theme on every launch.
+ * <br><br>
+ * The snapshot contains the theme's {@link TadukooTheme#getFingerprint() fingerprint}, the resolved font names,
+ * paints, shape infos, borders, and the class, system color, and component defaults. Common values (color paints,
+ * no paints, no borders, colors, fonts, the {@link Shapes standard shapes}, and the shared default borders) are
+ * written in a compact form, while anything else is written using Java serialization, so it must be
+ * {@link java.io.Serializable}.
+ * <br><br>
+ * Since snapshots may come from anywhere, serialized values are only read back if they're of one of the
+ * {@link #SERIALIZED_CLASSES allowed classes} (boxed primitives, some AWT value classes, Swing borders and
+ * UI resources, and Tadukoo view classes) - anything else fails with an {@link InvalidClassException}.
+ * <br><br>
+ * Note that only the font <em>names</em> are saved - if any of the fonts were loaded from font files instead of
+ * being installed on the system, they still need to be registered with the {@link GraphicsEnvironment} before
+ * they're painted (e.g. by building the theme in the background or using a {@link DirectFontLoader}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooThemeSnapshot{
+	/** The magic number at the start of every theme snapshot ("TDKT") */
+	public static final int MAGIC = 0x54444B54;
+	/** The current version of the theme snapshot format (version 2 added the fingerprint and shared values) */
+	public static final int VERSION = 2;
+	
+	/*
+	 * Value Tags
+	 */
+	
+	/** Tag for a {@code null} value */
+	private static final byte NULL_TAG = 0;
+	/** Tag for a value that's written using Java serialization */
+	private static final byte SERIALIZED_TAG = 1;
+	/** Tag for a {@link ColorPaintUIResource} */
+	private static final byte COLOR_PAINT_TAG = 2;
+	/** Tag for a {@link NoPaintUIResource} */
+	private static final byte NO_PAINT_TAG = 3;
+	/** Tag for a {@link ShapeInfoUIResource} for one of the {@link Shapes standard shapes} */
+	private static final byte SHAPE_TAG = 4;
+	/** Tag for a {@link NoBorderUIResource} */
+	private static final byte NO_BORDER_TAG = 5;
+	/** Tag for a {@link ColorUIResource} */
+	private static final byte COLOR_TAG = 6;
+	/** Tag for a {@link FontUIResource} */
+	private static final byte FONT_TAG = 7;
+	/** Tag for a {@link String} */
+	private static final byte STRING_TAG = 8;
+	/** Tag for a shared value that's written by its name (e.g. the default border) */
+	private static final byte NAMED_TAG = 9;
+	
+	/*
+	 * Serialization Filter
+	 */
+	
+	/** The pattern of classes that are allowed to be read back from serialized values */
+	static final String SERIALIZED_CLASSES = "maxdepth=20;" +
+			"java.lang.Number;java.lang.Integer;java.lang.Long;java.lang.Short;java.lang.Byte;" +
+			"java.lang.Float;java.lang.Double;java.lang.Boolean;java.lang.Character;java.lang.Enum;" +
+			"java.awt.Color;java.awt.Insets;java.awt.Dimension;" +
+			"javax.swing.border.*;javax.swing.plaf.*;com.github.tadukoo.view.**;!*";
+	/** The {@link ObjectInputFilter} used to only allow the {@link #SERIALIZED_CLASSES} to be read */
+	private static final ObjectInputFilter SERIALIZED_FILTER =
+			ObjectInputFilter.Config.createFilter(SERIALIZED_CLASSES);
+	
+	/** Not allowed to create a Tadukoo Theme Snapshot */
+	private TadukooThemeSnapshot(){ }
+	
+	/*
+	 * Writing Snapshots
+	 */
+	
+	/**
+	 * Writes a snapshot of the given {@link TadukooTheme} to the given file
+	 *
+	 * @param theme The {@link TadukooTheme} to write
+	 * @param file The {@link Path} of the file to write the snapshot to
+	 * @throws IOException If something goes wrong in writing, or if some value in the theme can't be written
+	 */
+	public static void write(TadukooTheme theme, Path file) throws IOException{
+		try(OutputStream out = Files.newOutputStream(file)){
+			write(theme, out);
+		}
+	}
+	
+	/**
+	 * Writes a snapshot of the given {@link TadukooTheme} to the given {@link OutputStream}
+	 *
+	 * @param theme The {@link TadukooTheme} to write
+	 * @param out The {@link OutputStream} to write the snapshot to
+	 * @throws IOException If something goes wrong in writing, or if some value in the theme can't be written
+	 */
+	public static void write(TadukooTheme theme, OutputStream out) throws IOException{
+		ObjectOutputStream objOut = new ObjectOutputStream(new BufferedOutputStream(out));
+		objOut.writeInt(MAGIC);
+		objOut.writeInt(VERSION);
+		objOut.writeLong(theme.getFingerprint());
+		
+		// Component UI Classes
+		objOut.writeUTF(theme.getButtonUI());
+		objOut.writeUTF(theme.getLabelUI());
+		
+		// Button Customizations
+		writeValue(objOut, theme.getButtonForegroundPaint());
+		writeValue(objOut, theme.getButtonBackgroundPaint());
+		writeValue(objOut, theme.getButtonFocusPaint());
+		writeValue(objOut, theme.getButtonSelectPaint());
+		writeValue(objOut, theme.getButtonDisabledTextPaint());
+		writeValue(objOut, theme.getButtonFont());
+		writeValue(objOut, theme.getButtonShapeInfo());
+		writeValue(objOut, theme.getButtonBorder());
+		
+		// Label Customizations
+		writeValue(objOut, theme.getLabelForegroundPaint());
+		writeValue(objOut, theme.getLabelBackgroundPaint());
+		writeValue(objOut, theme.getLabelDisabledForegroundPaint());
+		writeValue(objOut, theme.getLabelFont());
+		writeValue(objOut, theme.getLabelShapeInfo());
+		writeValue(objOut, theme.getLabelBorder());
+		
+		// Titled Border Customizations
+		writeValue(objOut, theme.getTitledBorderBorder());
+		writeValue(objOut, theme.getTitledBorderFont());
+		writeValue(objOut, theme.getTitledBorderColor());
+		objOut.writeInt(theme.getTitledBorderPosition());
+		
+		// Other Defaults
+		writeArray(objOut, theme.getClassDefaults());
+		writeArray(objOut, theme.getSystemColorDefaults());
+		writeArray(objOut, theme.getComponentDefaults());
+		
+		objOut.flush();
+	}
+	
+	/**
+	 * Writes the given array of values to the given {@link ObjectOutputStream}
+	 *
+	 * @param out The {@link ObjectOutputStream} to write to
+	 * @param values The array of values to write
+	 * @throws IOException If something goes wrong in writing, or if a value can't be written
+	 */
+	private static void writeArray(ObjectOutputStream out, Object[] values) throws IOException{
+		out.writeInt(values.length);
+		for(Object value: values){
+			writeValue(out, value);
+		}
+	}
+	
+	/**
+	 * Writes the given value to the given {@link ObjectOutputStream}, in a compact form if possible, and using
+	 * Java serialization otherwise
+	 *
+	 * @param out The {@link ObjectOutputStream} to write to
+	 * @param value The value to write
+	 * @throws IOException If something goes wrong in writing, or if the value can't be written
+	 */
+	private static void writeValue(ObjectOutputStream out, Object value) throws IOException{
+		if(value == null){
+			out.writeByte(NULL_TAG);
+		}else if(TadukooThemeValues.getName(value) != null){
+			out.writeByte(NAMED_TAG);
+			out.writeUTF(TadukooThemeValues.getName(value));
+		}else if(value instanceof String string){
+			out.writeByte(STRING_TAG);
+			out.writeUTF(string);
+		}else if(value instanceof ColorPaintUIResource colorPaint){
+			out.writeByte(COLOR_PAINT_TAG);
+			out.writeInt(colorPaint.getColorUIResource().getRGB());
+		}else if(value instanceof NoPaintUIResource){
+			out.writeByte(NO_PAINT_TAG);
+		}else if(value instanceof NoBorderUIResource){
+			out.writeByte(NO_BORDER_TAG);
+		}else if(value instanceof ColorUIResource color){
+			out.writeByte(COLOR_TAG);
+			out.writeInt(color.getRGB());
+		}else if(value instanceof FontUIResource font){
+			out.writeByte(FONT_TAG);
+			out.writeUTF(font.getName());
+			out.writeInt(font.getStyle());
+			out.writeInt(font.getSize());
+		}else if(value instanceof ShapeInfoUIResource shapeInfo && TadukooThemeValues.findShape(shapeInfo) != null){
+			out.writeByte(SHAPE_TAG);
+			out.writeUTF(TadukooThemeValues.findShape(shapeInfo).name());
+		}else{
+			out.writeByte(SERIALIZED_TAG);
+			out.writeObject(value);
+		}
+	}
+	
+	/*
+	 * Reading Snapshots
+	 */
+	
+	/**
+	 * Reads a {@link TadukooTheme} from the snapshot in the given file
+	 *
+	 * @param file The {@link Path} of the snapshot file to read
+	 * @return The {@link TadukooTheme} from the snapshot
+	 * @throws IOException If something goes wrong in reading, or if the file isn't a supported theme snapshot
+	 * @throws InvalidClassException If a serialized value in the snapshot isn't one of the
+	 * {@link #SERIALIZED_CLASSES allowed classes}
+	 */
+	public static TadukooTheme read(Path file) throws IOException{
+		try(InputStream in = Files.newInputStream(file)){
+			return read(in);
+		}
+	}
+	
+	/**
+	 * Reads a {@link TadukooTheme} from the snapshot in the given {@link InputStream}
+	 *
+	 * @param in The {@link InputStream} to read the snapshot from
+	 * @return The {@link TadukooTheme} from the snapshot
+	 * @throws IOException If something goes wrong in reading, or if it isn't a supported theme snapshot
+	 * @throws InvalidClassException If a serialized value in the snapshot isn't one of the
+	 * {@link #SERIALIZED_CLASSES allowed classes}
+	 */
+	public static TadukooTheme read(InputStream in) throws IOException{
+		ObjectInputStream objIn = new ObjectInputStream(new BufferedInputStream(in));
+		objIn.setObjectInputFilter(SERIALIZED_FILTER);
+		if(objIn.readInt() != MAGIC){
+			throw new StreamCorruptedException("Not a Tadukoo Theme snapshot");
+		}
+		int version = objIn.readInt();
+		if(version != VERSION){
+			throw new IOException("Unsupported Tadukoo Theme snapshot version: " + version);
+		}
+		
+		long fingerprint = objIn.readLong();
+		
+		try{
+			// Component UI Classes
+			String buttonUI = objIn.readUTF();
+			String labelUI = objIn.readUTF();
+			
+			// Button Customizations
+			PaintUIResource buttonForegroundPaint = (PaintUIResource) readValue(objIn);
+			PaintUIResource buttonBackgroundPaint = (PaintUIResource) readValue(objIn);
+			PaintUIResource buttonFocusPaint = (PaintUIResource) readValue(objIn);
+			PaintUIResource buttonSelectPaint = (PaintUIResource) readValue(objIn);
+			PaintUIResource buttonDisabledTextPaint = (PaintUIResource) readValue(objIn);
+			FontUIResource buttonFont = (FontUIResource) readValue(objIn);
+			ShapeInfoUIResource buttonShapeInfo = (ShapeInfoUIResource) readValue(objIn);
+			BorderUIResource buttonBorder = (BorderUIResource) readValue(objIn);
+			
+			// Label Customizations
+			PaintUIResource labelForegroundPaint = (PaintUIResource) readValue(objIn);
+			PaintUIResource labelBackgroundPaint = (PaintUIResource) readValue(objIn);
+			PaintUIResource labelDisabledForegroundPaint = (PaintUIResource) readValue(objIn);
+			FontUIResource labelFont = (FontUIResource) readValue(objIn);
+			ShapeInfoUIResource labelShapeInfo = (ShapeInfoUIResource) readValue(objIn);
+			BorderUIResource labelBorder = (BorderUIResource) readValue(objIn);
+			
+			// Titled Border Customizations
+			BorderUIResource titledBorderBorder = (BorderUIResource) readValue(objIn);
+			FontUIResource titledBorderFont = (FontUIResource) readValue(objIn);
+			ColorUIResource titledBorderColor = (ColorUIResource) readValue(objIn);
+			int titledBorderPosition = objIn.readInt();
+			
+			// Other Defaults
+			Object[] classDefaults = readArray(objIn);
+			Object[] systemColorDefaults = readArray(objIn);
+			Object[] componentDefaults = readArray(objIn);
+			
+			return new TadukooTheme(buttonUI, labelUI,
+					buttonForegroundPaint, buttonBackgroundPaint,
+					buttonFocusPaint, buttonSelectPaint, buttonDisabledTextPaint,
+					buttonFont, buttonShapeInfo, buttonBorder,
+					labelForegroundPaint, labelBackgroundPaint, labelDisabledForegroundPaint,
+					labelFont, labelShapeInfo, labelBorder,
+					titledBorderBorder, titledBorderFont, titledBorderColor, titledBorderPosition,
+					classDefaults, systemColorDefaults, componentDefaults, fingerprint);
+		}catch(ClassCastException | IllegalArgumentException e){
+			throw new StreamCorruptedException("Invalid Tadukoo Theme snapshot: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * Reads an array of values from the given {@link ObjectInputStream}
+	 *
+	 * @param in The {@link ObjectInputStream} to read from
+	 * @return The array of values that was read
+	 * @throws IOException If something goes wrong in reading
+	 */
+	private static Object[] readArray(ObjectInputStream in) throws IOException{
+		int length = in.readInt();
+		if(length < 0){
+			throw new StreamCorruptedException("Invalid array length: " + length);
+		}
+		Object[] values = new Object[length];
+		for(int i = 0; i < length; i++){
+			values[i] = readValue(in);
+		}
+		return values;
+	}
+	
+	/**
+	 * Reads a value (written by {@link #writeValue(ObjectOutputStream, Object)}) from the given
+	 * {@link ObjectInputStream}
+	 *
+	 * @param in The {@link ObjectInputStream} to read from
+	 * @return The value that was read
+	 * @throws IOException If something goes wrong in reading
+	 */
+	private static Object readValue(ObjectInputStream in) throws IOException{
+		byte tag = in.readByte();
+		return switch(tag){
+			case NULL_TAG -> null;
+			case STRING_TAG -> in.readUTF();
+			case COLOR_PAINT_TAG -> new ColorPaintUIResource(new ColorUIResource(new Color(in.readInt(), true)));
+			case NO_PAINT_TAG -> new NoPaintUIResource();
+			case NO_BORDER_TAG -> new NoBorderUIResource();
+			case COLOR_TAG -> new ColorUIResource(new Color(in.readInt(), true));
+			case FONT_TAG -> new FontUIResource(in.readUTF(), in.readInt(), in.readInt());
+			case SHAPE_TAG -> new ShapeInfoUIResource(Shapes.valueOf(in.readUTF()).getShapeInfo());
+			case NAMED_TAG -> {
+				String name = in.readUTF();
+				Object value = TadukooThemeValues.getNamedValue(name);
+				if(value == null){
+					throw new StreamCorruptedException("Unknown shared value: " + name);
+				}
+				yield value;
+			}
+			case SERIALIZED_TAG -> {
+				try{
+					yield in.readObject();
+				}catch(ClassNotFoundException e){
+					throw new IOException("Failed to read Tadukoo Theme snapshot value", e);
+				}
+			}
+			default -> throw new StreamCorruptedException("Unknown value tag: " + tag);
+		};
+	}
+}
@@ -0,0 +1,298 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.border.NoBorderUIResource;
+import com.github.tadukoo.view.border.ShapedLineBorder;
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.NoPaintUIResource;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.shapes.ShapeInfoUIResource;
+import com.github.tadukoo.view.shapes.Shapes;
+
+import javax.swing.plaf.BorderUIResource;
+import javax.swing.plaf.BorderUIResource.LineBorderUIResource;
+import javax.swing.plaf.metal.MetalBorders;
+import java.awt.Color;
+import java.awt.Font;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tadukoo Theme Values contains the util methods used to compare {@link TadukooTheme} values structurally and to
+ * compute {@link TadukooTheme.TadukooThemeBuilder#fingerprint() fingerprints}. {@link ShapeInfoUIResource}s, custom
+ * paints (e.g. gradients), and borders don't implement {@code equals}, so theme values are compared by what they
+ * describe instead:
+ * <ul>
+ *     <li>{@link ColorPaintUIResource}s are compared by their color</li>
+ *     <li>{@link NoPaintUIResource}s and {@link NoBorderUIResource}s are all equal</li>
+ *     <li>{@link ShapeInfoUIResource}s for the {@link Shapes standard shapes} are compared by their shape</li>
+ *     <li>Values that were {@link #named(String, Object) named} (e.g. {@link #lineBorder(Color) line borders}) are
+ *     compared by their name</li>
+ *     <li>Anything else is compared using its own {@code equals} method</li>
+ * </ul>
+ * Fingerprints use the same descriptions, so they're the same across JVM runs as long as every value is one of the
+ * above, a color, a font, a class, a string, a boxed primitive, or an enum. Any other value contributes its own
+ * {@code hashCode}, or its identity if it doesn't have one (e.g. custom borders), so fingerprints of themes with
+ * those values can only be compared within the same JVM run - name or share instances of them between builders
+ * for their themes to match.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+final class TadukooThemeValues{
+	
+	/** The starting value for fingerprints (the 64-bit FNV-1a offset basis) */
+	static final long FINGERPRINT_SEED = 0xcbf29ce484222325L;
+	/** The 64-bit FNV-1a prime */
+	private static final long FINGERPRINT_PRIME = 0x100000001b3L;
+	
+	/** The names of shared values that should be compared (and fingerprinted) by name */
+	private static final Map<Object, String> namedValues = Collections.synchronizedMap(new IdentityHashMap<>());
+	/** The shared values that should be compared (and fingerprinted) by name, by their names */
+	private static final Map<String, Object> valuesByName = new ConcurrentHashMap<>();
+	/** The shared {@link #lineBorder(Color) line borders}, by the RGB value of their color */
+	private static final Map<Integer, BorderUIResource> lineBorders = new ConcurrentHashMap<>();
+	
+	/*
+	 * Shared Values - these are declared here so that they're always named before they're looked up by name
+	 */
+	
+	/** The default {@link BorderUIResource} for all unspecified borders, shared between builders */
+	static final BorderUIResource DEFAULT_BORDER = named("TadukooTheme.defaultBorder",
+			new BorderUIResource(ShapedLineBorder.builder().build()));
+	/** The {@link MetalBorders#getButtonBorder() Metal button border}, shared between metal theme builders */
+	static final BorderUIResource METAL_BUTTON_BORDER = named("TadukooThemeFactory.metalButtonBorder",
+			new BorderUIResource(MetalBorders.getButtonBorder()));
+	
+	/**
+	 * Grabs the shared {@link BorderUIResource} for a one pixel {@link LineBorderUIResource line border} of the
+	 * given color, so that themes using a line border of the same color compare (and fingerprint) as equal
+	 *
+	 * @param color The color of the line border
+	 * @return The shared, named line border of the given color
+	 */
+	static BorderUIResource lineBorder(Color color){
+		return lineBorders.computeIfAbsent(color.getRGB(), rgb -> named(
+				"TadukooThemeValues.lineBorder:" + Integer.toHexString(rgb),
+				new BorderUIResource(new LineBorderUIResource(new Color(rgb, true)))));
+	}
+	
+	/**
+	 * The key used to compare a {@link ColorPaintUIResource} by its color
+	 *
+	 * @param rgb The RGB value of the color
+	 */
+	private record ColorPaintKey(int rgb){ }
+	
+	/**
+	 * The key used to compare a value by its name
+	 *
+	 * @param name The name of the value
+	 */
+	private record NamedKey(String name){ }
+	
+	/** Not allowed to create Tadukoo Theme Values */
+	private TadukooThemeValues(){ }
+	
+	/**
+	 * Gives the given shared value a stable name to be compared and fingerprinted by
+	 *
+	 * @param name The name for the value
+	 * @param value The shared value to name
+	 * @param <T> The type of the value
+	 * @return The given value, to allow for use in field initializers
+	 */
+	static <T> T named(String name, T value){
+		namedValues.put(value, name);
+		valuesByName.put(name, value);
+		return value;
+	}
+	
+	/**
+	 * @param value A theme value
+	 * @return The name the value was {@link #named(String, Object) named} with, or {@code null} if it's not a
+	 * named shared value
+	 */
+	static String getName(Object value){
+		return namedValues.get(value);
+	}
+	
+	/**
+	 * @param name The name of a shared value
+	 * @return The shared value that was {@link #named(String, Object) named} with the given name, or {@code null}
+	 * if there isn't one
+	 */
+	static Object getNamedValue(String name){
+		return valuesByName.get(name);
+	}
+	
+	/*
+	 * Structural Comparison
+	 */
+	
+	/**
+	 * @param value A theme value
+	 * @return A key for the value that implements equals and hashCode based on what the value describes
+	 */
+	private static Object key(Object value){
+		if(value == null){
+			return null;
+		}
+		String name = namedValues.get(value);
+		if(name != null){
+			return new NamedKey(name);
+		}else if(value instanceof ColorPaintUIResource colorPaint){
+			return new ColorPaintKey(colorPaint.getColorUIResource().getRGB());
+		}else if(value instanceof NoPaintUIResource || value instanceof NoBorderUIResource){
+			return value.getClass();
+		}else if(value instanceof ShapeInfoUIResource shapeInfo){
+			Shapes shape = findShape(shapeInfo);
+			return shape != null?shape:shapeInfo;
+		}
+		return value;
+	}
+	
+	/**
+	 * @param shapeInfo The {@link ShapeInfo} to find the standard shape of
+	 * @return The {@link Shapes standard shape} that uses the same shape function as the given shape info,
+	 * or {@code null} if it's not one of the standard shapes
+	 */
+	static Shapes findShape(ShapeInfo shapeInfo){
+		for(Shapes shape: Shapes.values()){
+			if(shape.getShapeInfo().getShapeFunc() == shapeInfo.getShapeFunc()){
+				return shape;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * @param value1 A theme value
+	 * @param value2 Another theme value
+	 * @return Whether the two values describe the same thing
+	 */
+	static boolean valueEquals(Object value1, Object value2){
+		return value1 == value2 || Objects.equals(key(value1), key(value2));
+	}
+	
+	/**
+	 * @param value A theme value
+	 * @return A hash code for the value that's consistent with {@link #valueEquals(Object, Object)}
+	 */
+	static int valueHash(Object value){
+		return Objects.hashCode(key(value));
+	}
+	
+	/**
+	 * @param pairs1 An array of alternating keys and values (as used for the theme defaults)
+	 * @param pairs2 Another array of alternating keys and values
+	 * @return Whether the two arrays contain the same key-value pairs (ignoring order)
+	 */
+	static boolean pairsEquals(Object[] pairs1, Object[] pairs2){
+		if(pairs1.length != pairs2.length){
+			return false;
+		}
+		Map<Object, Object> keys1 = new HashMap<>();
+		for(int i = 0; i < pairs1.length - 1; i += 2){
+			keys1.put(pairs1[i], key(pairs1[i+1]));
+		}
+		for(int i = 0; i < pairs2.length - 1; i += 2){
+			if(!keys1.containsKey(pairs2[i]) || !Objects.equals(keys1.get(pairs2[i]), key(pairs2[i+1]))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param pairs An array of alternating keys and values (as used for the theme defaults)
+	 * @return A hash code for the pairs that's consistent with {@link #pairsEquals(Object[], Object[])}
+	 */
+	static int pairsHash(Object[] pairs){
+		int hash = 0;
+		for(int i = 0; i < pairs.length - 1; i += 2){
+			hash += Objects.hashCode(pairs[i]) ^ valueHash(pairs[i+1]);
+		}
+		return hash;
+	}
+	
+	/*
+	 * Fingerprints
+	 */
+	
+	/**
+	 * Adds the given text to the given fingerprint
+	 *
+	 * @param fingerprint The fingerprint so far
+	 * @param text The text to add
+	 * @return The new fingerprint
+	 */
+	static long fingerprint(long fingerprint, String text){
+		for(int i = 0; i < text.length(); i++){
+			char c = text.charAt(i);
+			fingerprint = (fingerprint ^ (c & 0xFF))*FINGERPRINT_PRIME;
+			fingerprint = (fingerprint ^ (c >>> 8))*FINGERPRINT_PRIME;
+		}
+		// Separator, so that e.g. "ab" + "c" doesn't match "a" + "bc"
+		return (fingerprint ^ 0xFF)*FINGERPRINT_PRIME;
+	}
+	
+	/**
+	 * Adds the given theme value to the given fingerprint
+	 *
+	 * @param fingerprint The fingerprint so far
+	 * @param value The theme value to add
+	 * @return The new fingerprint
+	 */
+	static long fingerprintValue(long fingerprint, Object value){
+		return fingerprint(fingerprint, describe(value));
+	}
+	
+	/**
+	 * @param value A theme value
+	 * @return A description of the value, which is the same across JVM runs for the values described in the
+	 * class docs (and otherwise uses the value's hash code or identity)
+	 */
+	private static String describe(Object value){
+		if(value == null){
+			return "null";
+		}
+		String name = namedValues.get(value);
+		if(name != null){
+			return "Named:" + name;
+		}else if(value instanceof ColorPaintUIResource colorPaint){
+			return "ColorPaint:" + Integer.toHexString(colorPaint.getColorUIResource().getRGB());
+		}else if(value instanceof NoPaintUIResource || value instanceof NoBorderUIResource){
+			return value.getClass().getName();
+		}else if(value instanceof ShapeInfoUIResource shapeInfo && findShape(shapeInfo) != null){
+			return "Shape:" + findShape(shapeInfo).name();
+		}else if(value instanceof Color color){
+			return "Color:" + Integer.toHexString(color.getRGB());
+		}else if(value instanceof Font font){
+			return "Font:" + font.getName() + "," + font.getStyle() + "," + font.getSize();
+		}else if(value instanceof Class<?> clazz){
+			return "Class:" + clazz.getName();
+		}else if(value instanceof String || value instanceof Number || value instanceof Boolean ||
+				value instanceof Character || value instanceof Enum<?>){
+			return value.getClass().getName() + ":" + value;
+		}
+		return value.getClass().getName() + "@" +
+				(overridesHashCode(value)?value.hashCode():System.identityHashCode(value));
+	}
+	
+	/**
+	 * @param value The value to check
+	 * @return Whether the class of the value has its own {@code hashCode} method
+	 */
+	private static boolean overridesHashCode(Object value){
+		try{
+			return value.getClass().getMethod("hashCode").getDeclaringClass() != Object.class;
+		}catch(NoSuchMethodException e){
+			return false;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Theme Build Event is a Java Flight Recorder event for a {@link TadukooTheme.TadukooThemeBuilder#build() theme
+ * build}, with how long each stage of the build took. The stages are made up of the same
+ * {@link ThemeBuildPhase phases} that a {@link ThemeBuildReport} measures, so the two always agree.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@Name("com.github.tadukoo.view.lookandfeel.ThemeBuild")
+@Label("Theme Build")
+@Category({"Tadukoo", "Look & Feel"})
+@Description("A Tadukoo theme build, with the time of each stage")
+final class ThemeBuildEvent extends Event{
+	/** The {@link TadukooTheme#getFingerprint() fingerprint} of the built theme */
+	@Label("Theme Fingerprint")
+	long themeFingerprint;
+	/** The names of the font families used in the theme */
+	@Label("Font Families")
+	String fontFamilies;
+	/** The time the current {@link ThemeBuildPhase phase} started, in nanoseconds (not recorded) */
+	private transient long phaseStartNanos;
+	
+	/** The time taken to check the customizations for errors */
+	@Label("Check Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long checkTime;
+	/** The time taken to fill in default customizations */
+	@Label("Defaults Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long defaultsTime;
+	/** The time taken to load (or find the already loaded) fonts */
+	@Label("Font Loading Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long fontLoadingTime;
+	/** The time taken to create the theme from the customizations and fonts */
+	@Label("Create Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long createTime;
+	
+	/**
+	 * Starts the first {@link ThemeBuildPhase phase} of the build
+	 *
+	 * @param now The time the first phase started, in nanoseconds
+	 */
+	void startPhases(long now){
+		phaseStartNanos = now;
+	}
+	
+	/**
+	 * Ends the given {@link ThemeBuildPhase phase}, adding its time to the stage it belongs to, and starts the
+	 * next one
+	 *
+	 * @param phase The {@link ThemeBuildPhase} that ended
+	 * @param now The time the phase ended, in nanoseconds
+	 */
+	void endPhase(ThemeBuildPhase phase, long now){
+		long phaseNanos = now - phaseStartNanos;
+		phaseStartNanos = now;
+		switch(phase){
+			case VALIDATION -> checkTime += phaseNanos;
+			case DEFAULT_PAINTS, FONT_FAMILIES, SHAPES_AND_BORDERS -> defaultsTime += phaseNanos;
+			case FONT_LOADING -> fontLoadingTime += phaseNanos;
+			case FINGERPRINT, FONT_RESOURCES, DEFAULTS_ARRAYS, THEME_CREATION -> createTime += phaseNanos;
+		}
+	}
+}
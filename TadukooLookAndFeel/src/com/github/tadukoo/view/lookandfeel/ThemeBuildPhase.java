@@ -0,0 +1,32 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import javax.swing.plaf.FontUIResource;
+
+/**
+ * Theme Build Phase is used to specify which part of {@link TadukooTheme.TadukooThemeBuilder#build(ThemeBuildReport)
+ * building a theme} is measured in a {@link ThemeBuildReport}. The phases are listed in the order they run.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public enum ThemeBuildPhase{
+	/** Checking the customizations for errors */
+	VALIDATION,
+	/** Filling in unspecified paints with the default paints */
+	DEFAULT_PAINTS,
+	/** Filling in unspecified fonts with the default font, and resolving the font families to load */
+	FONT_FAMILIES,
+	/** Filling in unspecified shapes and borders with the default shape and border */
+	SHAPES_AND_BORDERS,
+	/** Loading the font families (from the font cache, font registry, or font files) */
+	FONT_LOADING,
+	/** Computing the theme's fingerprint */
+	FINGERPRINT,
+	/** Creating the {@link FontUIResource FontUIResources} */
+	FONT_RESOURCES,
+	/** Converting the class, system color, and component defaults maps to arrays */
+	DEFAULTS_ARRAYS,
+	/** Creating the theme itself */
+	THEME_CREATION
+}
@@ -0,0 +1,244 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontResourceLoader;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Theme Build Report is filled in by {@link TadukooTheme.TadukooThemeBuilder#build(ThemeBuildReport)} with how long
+ * each {@link ThemeBuildPhase phase} of building the theme took and how much memory it allocated, along with how the
+ * fonts were resolved (from the {@link TadukooFontCache}, the {@link TadukooFontRegistry}, or by loading them) and
+ * how many bytes of font files were read. This helps find out why some themes take much longer to build than others.
+ * <pre>{@code
+ * ThemeBuildReport report = new ThemeBuildReport();
+ * TadukooTheme theme = TadukooTheme.builder().build(report);
+ * logger.logInfo(report.toString());
+ * }</pre>
+ * Allocations are measured using the JVM's per-thread allocation counter, and are -1 when the JVM doesn't support
+ * it. A report can be reused, since each build clears it first.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public class ThemeBuildReport{
+	/** The JVM's thread management bean, used to measure allocations */
+	private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+	
+	/** The time each phase took, in nanoseconds, indexed by {@link ThemeBuildPhase#ordinal()} */
+	private final long[] phaseNanos = new long[ThemeBuildPhase.values().length];
+	/** The bytes each phase allocated (or -1 if unknown), indexed by {@link ThemeBuildPhase#ordinal()} */
+	private final long[] phaseAllocatedBytes = new long[ThemeBuildPhase.values().length];
+	/** The time the current phase started, in nanoseconds */
+	private long phaseStartNanos;
+	/** The bytes allocated by the thread when the current phase started (or -1 if unknown) */
+	private long phaseStartAllocatedBytes;
+	/** The fingerprint of the built theme */
+	private long themeFingerprint;
+	/** The number of font families found in the {@link TadukooFontCache} */
+	private int fontCacheHits;
+	/** The number of font families not found in the {@link TadukooFontCache} */
+	private int fontCacheMisses;
+	/** The number of font families not in the {@link TadukooFontCache}, but found in the {@link TadukooFontRegistry} */
+	private int fontRegistryHits;
+	/** The number of font families that were loaded */
+	private int fontFamiliesLoaded;
+	/** The number of bytes of font files read (or -1 if unknown) */
+	private long fontBytesRead;
+	
+	/*
+	 * Recording - used by the Theme Builder
+	 */
+	
+	/**
+	 * Clears the report and starts the first phase
+	 *
+	 * @param now The time the first phase started, in nanoseconds
+	 */
+	void start(long now){
+		for(int i = 0; i < phaseNanos.length; i++){
+			phaseNanos[i] = 0;
+			phaseAllocatedBytes[i] = 0;
+		}
+		themeFingerprint = 0;
+		fontCacheHits = 0;
+		fontCacheMisses = 0;
+		fontRegistryHits = 0;
+		fontFamiliesLoaded = 0;
+		fontBytesRead = 0;
+		phaseStartAllocatedBytes = getAllocatedBytes();
+		phaseStartNanos = now;
+	}
+	
+	/**
+	 * Ends the given phase, and starts the next one
+	 *
+	 * @param phase The {@link ThemeBuildPhase} that ended
+	 * @param now The time the phase ended, in nanoseconds
+	 */
+	void endPhase(ThemeBuildPhase phase, long now){
+		long allocatedBytes = getAllocatedBytes();
+		phaseNanos[phase.ordinal()] += now - phaseStartNanos;
+		phaseAllocatedBytes[phase.ordinal()] = allocatedBytes < 0 || phaseAllocatedBytes[phase.ordinal()] < 0?-1:
+				phaseAllocatedBytes[phase.ordinal()] + allocatedBytes - phaseStartAllocatedBytes;
+		phaseStartAllocatedBytes = allocatedBytes;
+		phaseStartNanos = now;
+	}
+	
+	/**
+	 * @param fingerprint The fingerprint of the built theme
+	 */
+	void finish(long fingerprint){
+		themeFingerprint = fingerprint;
+	}
+	
+	/**
+	 * Records font families resolved by the {@link TadukooFontCache}
+	 *
+	 * @param cacheHits The number of font families found in the cache
+	 * @param registryHits The number of font families not in the cache, but found in the {@link TadukooFontRegistry}
+	 * @param loaded The number of font families that had to be loaded
+	 */
+	void fontCacheLookups(int cacheHits, int registryHits, int loaded){
+		fontCacheHits += cacheHits;
+		fontCacheMisses += registryHits + loaded;
+		fontRegistryHits += registryHits;
+		fontFamiliesLoaded += loaded;
+	}
+	
+	/**
+	 * Records font families loaded without the {@link TadukooFontCache} (by a custom {@link FontResourceLoader})
+	 *
+	 * @param loaded The number of font families that were loaded
+	 */
+	void fontsLoaded(int loaded){
+		fontFamiliesLoaded += loaded;
+	}
+	
+	/**
+	 * Records bytes of font files read
+	 *
+	 * @param bytes The number of bytes read (or -1 if unknown)
+	 */
+	void fontBytesRead(long bytes){
+		fontBytesRead = bytes < 0 || fontBytesRead < 0?-1:fontBytesRead + bytes;
+	}
+	
+	/**
+	 * @return The bytes allocated by the current thread so far, or -1 if the JVM can't measure it
+	 */
+	private static long getAllocatedBytes(){
+		if(threadBean instanceof com.sun.management.ThreadMXBean allocationBean &&
+				allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()){
+			return allocationBean.getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+	
+	/*
+	 * Results
+	 */
+	
+	/**
+	 * @param phase A {@link ThemeBuildPhase}
+	 * @return The time the phase took, in nanoseconds
+	 */
+	public long getPhaseNanos(ThemeBuildPhase phase){
+		return phaseNanos[phase.ordinal()];
+	}
+	
+	/**
+	 * @param phase A {@link ThemeBuildPhase}
+	 * @return The bytes the phase allocated, or -1 if the JVM can't measure allocations
+	 */
+	public long getPhaseAllocatedBytes(ThemeBuildPhase phase){
+		return phaseAllocatedBytes[phase.ordinal()];
+	}
+	
+	/**
+	 * @return The time building the theme took, in nanoseconds
+	 */
+	public long getTotalNanos(){
+		long totalNanos = 0;
+		for(long nanos: phaseNanos){
+			totalNanos += nanos;
+		}
+		return totalNanos;
+	}
+	
+	/**
+	 * @return The bytes building the theme allocated, or -1 if the JVM can't measure allocations
+	 */
+	public long getTotalAllocatedBytes(){
+		long totalAllocatedBytes = 0;
+		for(long allocatedBytes: phaseAllocatedBytes){
+			if(allocatedBytes < 0){
+				return -1;
+			}
+			totalAllocatedBytes += allocatedBytes;
+		}
+		return totalAllocatedBytes;
+	}
+	
+	/**
+	 * @return The {@link TadukooTheme#getFingerprint() fingerprint} of the built theme
+	 */
+	public long getThemeFingerprint(){
+		return themeFingerprint;
+	}
+	
+	/**
+	 * @return The number of font families found in the {@link TadukooFontCache} (always 0 when a custom
+	 * {@link FontResourceLoader} was used, since the cache is skipped then)
+	 */
+	public int getFontCacheHits(){
+		return fontCacheHits;
+	}
+	
+	/**
+	 * @return The number of font families not found in the {@link TadukooFontCache}
+	 */
+	public int getFontCacheMisses(){
+		return fontCacheMisses;
+	}
+	
+	/**
+	 * @return The number of font families not found in the {@link TadukooFontCache}, but found in the
+	 * {@link TadukooFontRegistry} (so they didn't need to be loaded)
+	 */
+	public int getFontRegistryHits(){
+		return fontRegistryHits;
+	}
+	
+	/**
+	 * @return The number of font families that were loaded
+	 */
+	public int getFontFamiliesLoaded(){
+		return fontFamiliesLoaded;
+	}
+	
+	/**
+	 * @return The number of bytes of font files read, or -1 if fonts were loaded by a {@link FontResourceLoader}
+	 * (which doesn't tell how much it read)
+	 */
+	public long getFontBytesRead(){
+		return fontBytesRead;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		StringBuilder report = new StringBuilder("Theme build took ").append(getTotalNanos()).append("ns (")
+				.append(getTotalAllocatedBytes()).append(" bytes allocated)");
+		for(ThemeBuildPhase phase: ThemeBuildPhase.values()){
+			report.append(System.lineSeparator()).append("\t").append(phase).append(": ")
+					.append(getPhaseNanos(phase)).append("ns, ").append(getPhaseAllocatedBytes(phase))
+					.append(" bytes");
+		}
+		return report.append(System.lineSeparator()).append("\tFonts: ").append(fontCacheHits)
+				.append(" cache hits, ").append(fontCacheMisses).append(" cache misses, ").append(fontRegistryHits)
+				.append(" registry hits, ").append(fontFamiliesLoaded).append(" loaded, ").append(fontBytesRead)
+				.append(" bytes read").toString();
+	}
+}
@@ -0,0 +1,174 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import java.util.List;
+
+/**
+ * Paint Budget Report is sent by the {@link TadukooPaintWatchdog} when the Tadukoo Component UIs spent longer than
+ * the paint budget painting in one frame on the Event Dispatch Thread. It has the total paint time of the frame and
+ * the components that took the longest to paint, slowest first.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public class PaintBudgetReport{
+	
+	/**
+	 * The paints of one component in a frame that went over the paint budget
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.4
+	 * @since Alpha v.0.4
+	 */
+	public static class ComponentPaint{
+		/** The path of the component in its hierarchy, from its top-level ancestor down to the component */
+		private final String componentPath;
+		/** The name of the Component UI class that painted the component */
+		private final String uiClassName;
+		/** The type of the component's background paint (e.g. solid or gradient) */
+		private final String paintType;
+		/** The name of the component's shape */
+		private final String shape;
+		/** The number of times the component was painted in the frame */
+		private final int paintCount;
+		/** The total time spent painting the component in the frame, in nanoseconds */
+		private final long nanos;
+		
+		/**
+		 * Constructs a new Component Paint with the given values
+		 *
+		 * @param componentPath The path of the component in its hierarchy, from its top-level ancestor down to the
+		 * component
+		 * @param uiClassName The name of the Component UI class that painted the component
+		 * @param paintType The type of the component's background paint (e.g. solid or gradient)
+		 * @param shape The name of the component's shape
+		 * @param paintCount The number of times the component was painted in the frame
+		 * @param nanos The total time spent painting the component in the frame, in nanoseconds
+		 */
+		public ComponentPaint(String componentPath, String uiClassName, String paintType, String shape,
+		                      int paintCount, long nanos){
+			this.componentPath = componentPath;
+			this.uiClassName = uiClassName;
+			this.paintType = paintType;
+			this.shape = shape;
+			this.paintCount = paintCount;
+			this.nanos = nanos;
+		}
+		
+		/**
+		 * @return The path of the component in its hierarchy, from its top-level ancestor down to the component
+		 * (e.g. {@code JFrame > JRootPane > JPanel > JLayeredPane > JPanel > JButton[name]})
+		 */
+		public String getComponentPath(){
+			return componentPath;
+		}
+		
+		/**
+		 * @return The name of the Component UI class that painted the component
+		 */
+		public String getUiClassName(){
+			return uiClassName;
+		}
+		
+		/**
+		 * @return The type of the component's background paint: {@code solid}, {@code gradient}, {@code none}, or the
+		 * name of the paint's class for other paints
+		 */
+		public String getPaintType(){
+			return paintType;
+		}
+		
+		/**
+		 * @return The name of the component's shape: the name of the standard shape, or {@code custom}
+		 */
+		public String getShape(){
+			return shape;
+		}
+		
+		/**
+		 * @return The number of times the component was painted in the frame
+		 */
+		public int getPaintCount(){
+			return paintCount;
+		}
+		
+		/**
+		 * @return The total time spent painting the component in the frame, in nanoseconds
+		 */
+		public long getNanos(){
+			return nanos;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public String toString(){
+			return componentPath + " (" + uiClassName + ", " + paintType + " " + shape + "): " + nanos + "ns in " +
+					paintCount + (paintCount == 1?" paint":" paints");
+		}
+	}
+	
+	/** The total time the Tadukoo Component UIs spent painting in the frame, in nanoseconds */
+	private final long frameNanos;
+	/** The paint budget that was exceeded, in nanoseconds */
+	private final long budgetNanos;
+	/** The number of paints in the frame */
+	private final int paintCount;
+	/** The components that took the longest to paint, slowest first */
+	private final List<ComponentPaint> componentPaints;
+	
+	/**
+	 * Constructs a new Paint Budget Report with the given values
+	 *
+	 * @param frameNanos The total time the Tadukoo Component UIs spent painting in the frame, in nanoseconds
+	 * @param budgetNanos The paint budget that was exceeded, in nanoseconds
+	 * @param paintCount The number of paints in the frame
+	 * @param componentPaints The components that took the longest to paint, slowest first
+	 */
+	public PaintBudgetReport(long frameNanos, long budgetNanos, int paintCount, List<ComponentPaint> componentPaints){
+		this.frameNanos = frameNanos;
+		this.budgetNanos = budgetNanos;
+		this.paintCount = paintCount;
+		this.componentPaints = List.copyOf(componentPaints);
+	}
+	
+	/**
+	 * @return The total time the Tadukoo Component UIs spent painting in the frame, in nanoseconds
+	 */
+	public long getFrameNanos(){
+		return frameNanos;
+	}
+	
+	/**
+	 * @return The paint budget that was exceeded, in nanoseconds
+	 */
+	public long getBudgetNanos(){
+		return budgetNanos;
+	}
+	
+	/**
+	 * @return The number of paints in the frame
+	 */
+	public int getPaintCount(){
+		return paintCount;
+	}
+	
+	/**
+	 * @return The components that took the longest to paint (up to
+	 * {@link TadukooPaintWatchdog#MAX_REPORTED_COMPONENTS}), slowest first
+	 */
+	public List<ComponentPaint> getComponentPaints(){
+		return componentPaints;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		StringBuilder report = new StringBuilder("Tadukoo paints took ").append(frameNanos)
+				.append("ns in one frame (budget ").append(budgetNanos).append("ns, ").append(paintCount)
+				.append(paintCount == 1?" paint)":" paints)");
+		for(ComponentPaint componentPaint: componentPaints){
+			report.append(System.lineSeparator()).append("\t").append(componentPaint);
+		}
+		return report.toString();
+	}
+}
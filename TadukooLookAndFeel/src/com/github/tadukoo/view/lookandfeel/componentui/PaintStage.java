@@ -0,0 +1,19 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+/**
+ * Paint Stage is used to specify which part of painting a component is recorded in {@link TadukooPaintMetrics}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public enum PaintStage{
+	/** Filling the component's shape with its background paint */
+	BACKGROUND,
+	/** Filling the component's shape with its select paint while it's pressed */
+	PRESSED,
+	/** Drawing the focus rectangle */
+	FOCUS,
+	/** Drawing the component's text */
+	TEXT
+}
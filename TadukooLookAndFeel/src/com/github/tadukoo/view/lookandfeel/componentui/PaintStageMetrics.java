@@ -0,0 +1,120 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Paint Stage Metrics is a snapshot of the metrics recorded by {@link TadukooPaintMetrics} for one
+ * {@link PaintStage} of one Component UI class. Percentiles are estimated from a histogram, so they're accurate to
+ * within 1/8 of their value.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public class PaintStageMetrics{
+	/** The name of the Component UI class */
+	private final String uiClassName;
+	/** The name of the {@link PaintStage} */
+	private final String stage;
+	/** The number of paints recorded */
+	private final long count;
+	/** The total time of the recorded paints, in nanoseconds */
+	private final long totalNanos;
+	/** The time of the slowest recorded paint, in nanoseconds */
+	private final long maxNanos;
+	/** The median time of the recorded paints, in nanoseconds */
+	private final long p50Nanos;
+	/** The 90th percentile time of the recorded paints, in nanoseconds */
+	private final long p90Nanos;
+	/** The 99th percentile time of the recorded paints, in nanoseconds */
+	private final long p99Nanos;
+	
+	/**
+	 * Constructs a new Paint Stage Metrics snapshot with the given values
+	 *
+	 * @param uiClassName The name of the Component UI class
+	 * @param stage The name of the {@link PaintStage}
+	 * @param count The number of paints recorded
+	 * @param totalNanos The total time of the recorded paints, in nanoseconds
+	 * @param maxNanos The time of the slowest recorded paint, in nanoseconds
+	 * @param p50Nanos The median time of the recorded paints, in nanoseconds
+	 * @param p90Nanos The 90th percentile time of the recorded paints, in nanoseconds
+	 * @param p99Nanos The 99th percentile time of the recorded paints, in nanoseconds
+	 */
+	@ConstructorProperties({"uiClassName", "stage", "count", "totalNanos", "maxNanos",
+			"p50Nanos", "p90Nanos", "p99Nanos"})
+	public PaintStageMetrics(String uiClassName, String stage, long count, long totalNanos, long maxNanos,
+	                         long p50Nanos, long p90Nanos, long p99Nanos){
+		this.uiClassName = uiClassName;
+		this.stage = stage;
+		this.count = count;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+		this.p50Nanos = p50Nanos;
+		this.p90Nanos = p90Nanos;
+		this.p99Nanos = p99Nanos;
+	}
+	
+	/**
+	 * @return The name of the Component UI class
+	 */
+	public String getUiClassName(){
+		return uiClassName;
+	}
+	
+	/**
+	 * @return The name of the {@link PaintStage}
+	 */
+	public String getStage(){
+		return stage;
+	}
+	
+	/**
+	 * @return The number of paints recorded
+	 */
+	public long getCount(){
+		return count;
+	}
+	
+	/**
+	 * @return The total time of the recorded paints, in nanoseconds
+	 */
+	public long getTotalNanos(){
+		return totalNanos;
+	}
+	
+	/**
+	 * @return The time of the slowest recorded paint, in nanoseconds
+	 */
+	public long getMaxNanos(){
+		return maxNanos;
+	}
+	
+	/**
+	 * @return The median time of the recorded paints, in nanoseconds
+	 */
+	public long getP50Nanos(){
+		return p50Nanos;
+	}
+	
+	/**
+	 * @return The 90th percentile time of the recorded paints, in nanoseconds
+	 */
+	public long getP90Nanos(){
+		return p90Nanos;
+	}
+	
+	/**
+	 * @return The 99th percentile time of the recorded paints, in nanoseconds
+	 */
+	public long getP99Nanos(){
+		return p99Nanos;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return uiClassName + " " + stage + ": count=" + count + ", total=" + totalNanos + "ns, max=" + maxNanos +
+				"ns, p50=" + p50Nanos + "ns, p90=" + p90Nanos + "ns, p99=" + p99Nanos + "ns";
+	}
+}
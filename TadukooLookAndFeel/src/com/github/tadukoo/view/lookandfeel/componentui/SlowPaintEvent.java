@@ -0,0 +1,87 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import javax.swing.UIManager;
+import javax.swing.plaf.ComponentUI;
+import java.awt.Component;
+
+/**
+ * Slow Paint Event is a Java Flight Recorder event for a Tadukoo Component UI painting a component (its background
+ * and everything else) for longer than the event's threshold. The threshold is 20 ms by default, and can be changed
+ * in the recording's settings (e.g. {@code com.github.tadukoo.view.lookandfeel.SlowPaint#threshold=5 ms} in a
+ * {@code .jfc} file, or {@code recording.enable("com.github.tadukoo.view.lookandfeel.SlowPaint").withThreshold(...)}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@Name("com.github.tadukoo.view.lookandfeel.SlowPaint")
+@Label("Slow Paint")
+@Category({"Tadukoo", "Look & Feel"})
+@Description("A Tadukoo Component UI paint that took longer than the threshold")
+@Threshold("20 ms")
+final class SlowPaintEvent extends Event{
+	/** The class of the painted component */
+	@Label("Component Class")
+	Class<?> componentClass;
+	/** The class of the Component UI that painted it */
+	@Label("UI Class")
+	Class<?> uiClass;
+	/** The width of the component */
+	@Label("Width")
+	int width;
+	/** The height of the component */
+	@Label("Height")
+	int height;
+	/** The {@link com.github.tadukoo.view.lookandfeel.TadukooTheme#getFingerprint() fingerprint} of the current
+	 * Tadukoo Look &amp; Feel's theme (0 if the current Look &amp; Feel isn't a Tadukoo Look &amp; Feel) */
+	@Label("Theme Fingerprint")
+	long themeFingerprint;
+	
+	/** An event that's never committed, used to check whether the event is being recorded without allocating */
+	private static final SlowPaintEvent probe = new SlowPaintEvent();
+	
+	/**
+	 * Begins a new event if it's being recorded, so that paints don't allocate an event when nothing is recording
+	 *
+	 * @return The begun event, or {@code null} if the event isn't being recorded
+	 */
+	static SlowPaintEvent start(){
+		if(!probe.isEnabled()){
+			return null;
+		}
+		SlowPaintEvent event = new SlowPaintEvent();
+		event.begin();
+		return event;
+	}
+	
+	/**
+	 * Commits the given event if it's being recorded and the paint took longer than the threshold
+	 *
+	 * @param event The event given by {@link #start()} before the component was painted (may be null)
+	 * @param ui The Component UI that painted the component
+	 * @param c The painted component
+	 */
+	static void commit(SlowPaintEvent event, ComponentUI ui, Component c){
+		if(event == null){
+			return;
+		}
+		event.end();
+		if(event.shouldCommit()){
+			event.componentClass = c.getClass();
+			event.uiClass = ui.getClass();
+			event.width = c.getWidth();
+			event.height = c.getHeight();
+			event.themeFingerprint = UIManager.getLookAndFeel() instanceof TadukooLookAndFeel laf?
+					laf.getTheme().getFingerprint():0;
+			event.commit();
+		}
+	}
+}
@@ -11,12 +11,14 @@ import com.github.tadukoo.view.shapes.ShapeInfo;
 import com.github.tadukoo.view.components.interfaces.Shaped;
 import com.github.tadukoo.view.uimanager.UIManagerUtil;
 
+import javax.swing.UIManager;
 import javax.swing.plaf.UIResource;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.Shape;
 
 /**
  * This interface provides utilities for {@link TComponent}s - this interface is to be implemented in
@@ -44,6 +46,19 @@ public interface TComponentUIUtil{
 	 * Accessor Methods
 	 */
 	
+	/**
+	 * Grabs the Look &amp; Feel's paints and shape for this Component UI, for use with components that don't have
+	 * their own. The default implementation uses the {@link TadukooThemeDefaults#forPrefix(String) shared}
+	 * {@link TadukooThemeDefaults} for the prefix, which only looks the values up in the {@link UIManager} again
+	 * after the defaults change. Component UIs may override this to return a {@link TadukooThemeDefaults} they keep
+	 * (and {@link TadukooThemeDefaults#resolve() resolve} in installDefaults).
+	 *
+	 * @return The {@link TadukooThemeDefaults} for this Component UI's {@link #getPropertyPrefixString() prefix}
+	 */
+	default TadukooThemeDefaults getThemeDefaults(){
+		return TadukooThemeDefaults.forPrefix(getPropertyPrefixString());
+	}
+	
 	/**
 	 * @param c A {@link Component} which may have the foreground paint on it
 	 * @param size The {@link Dimension}s of the surface to be painted
@@ -51,16 +66,28 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getForegroundPaint(Component c, Dimension size){
+		return getForegroundPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the foreground paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the foreground - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint. Sized paints are cached in the
+	 * {@link TadukooPaintCache}.
+	 */
+	default Paint getForegroundPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the foreground paint from the component if it has it
 		if(c instanceof HasSizablePaints){
 			paint = ((HasSizablePaints) c).getForegroundPaint();
 		}else{
 			// Default to the Look & Feel's setting
-			paint = UIManagerUtil.getForegroundPaint(getPropertyPrefixString());
+			paint = getThemeDefaults().getForegroundPaint();
 		}
-		// Return the paint based on the given size
-		return paint.getPaint(size);
+		// Return the paint based on the given size (cached, so it isn't built again for every paint)
+		return TadukooPaintCache.getPaint(paint, width, height);
 	}
 	
 	/**
@@ -70,16 +97,35 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getBackgroundPaint(Component c, Dimension size){
-		SizablePaint paint;
+		return getBackgroundPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the background paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the background - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint. Sized paints are cached in the
+	 * {@link TadukooPaintCache}.
+	 */
+	default Paint getBackgroundPaint(Component c, int width, int height){
+		// Return the paint based on the given size (cached, so it isn't built again for every paint)
+		return TadukooPaintCache.getPaint(getBackgroundSizablePaint(c), width, height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the background paint on it
+	 * @return The {@link SizablePaint} for the background - from the {@link Component} if it has it, or the
+	 * Look &amp; Feel's paint otherwise
+	 */
+	default SizablePaint getBackgroundSizablePaint(Component c){
 		// Grab the background paint from the component if it has it
 		if(c instanceof HasSizablePaints){
-			paint = ((HasSizablePaints) c).getBackgroundPaint();
+			return ((HasSizablePaints) c).getBackgroundPaint();
 		}else{
 			// Default to the Look & Feel's setting
-			paint = UIManagerUtil.getBackgroundPaint(getPropertyPrefixString());
+			return getThemeDefaults().getBackgroundPaint();
 		}
-		// Return the paint based on the given size
-		return paint.getPaint(size);
 	}
 	
 	/**
@@ -92,10 +138,22 @@ public interface TComponentUIUtil{
 			return ((Shaped) c).getShapeInfo();
 		}else{
 			// Default to the Look & Feel's setting
-			return UIManagerUtil.getDefaultShapeInfo(getPropertyPrefixString());
+			return getThemeDefaults().getShapeInfo();
 		}
 	}
 	
+	/**
+	 * @param c A {@link Component} which may be {@link Shaped}
+	 * @param width The width of the {@link Shape}
+	 * @param height The height of the {@link Shape}
+	 * @return The {@link Shape} for the {@link Component} at (0, 0) with the given size, built using its
+	 * {@link #getShape(Component) ShapeInfo} - the {@link Shape} is cached in the {@link TadukooShapeCache}, so
+	 * it's only built again when the size or shape changes
+	 */
+	default Shape getSizedShape(Component c, int width, int height){
+		return TadukooShapeCache.getShape(c, getShape(c), width, height);
+	}
+	
 	/**
 	 * @param c A {@link Component} which may have the select paint on it
 	 * @param size The {@link Dimension}s of the surface to be painted
@@ -103,16 +161,35 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getSelectPaint(Component c, Dimension size){
-		SizablePaint paint;
+		return getSelectPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the select paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the select - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint. Sized paints are cached in the
+	 * {@link TadukooPaintCache}.
+	 */
+	default Paint getSelectPaint(Component c, int width, int height){
+		// Return the paint based on the given size (cached, so it isn't built again for every paint)
+		return TadukooPaintCache.getPaint(getSelectSizablePaint(c), width, height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the select paint on it
+	 * @return The {@link SizablePaint} for the select - from the {@link Component} if it has it, or the
+	 * Look &amp; Feel's paint otherwise
+	 */
+	default SizablePaint getSelectSizablePaint(Component c){
 		// Grab the select paint from the component if it has it
 		if(c instanceof HasSelectAndFocusPaints){
-			paint = ((HasSelectAndFocusPaints) c).getSelectPaint();
+			return ((HasSelectAndFocusPaints) c).getSelectPaint();
 		}else{
 			// Default to the Look & Feel's setting
-			paint = UIManagerUtil.getSelectPaint(getPropertyPrefixString());
+			return getThemeDefaults().getSelectPaint();
 		}
-		// Return the paint based on the given size
-		return paint.getPaint(size);
 	}
 	
 	/**
@@ -122,16 +199,28 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getFocusPaint(Component c, Dimension size){
+		return getFocusPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the focus paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the focus - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint. Sized paints are cached in the
+	 * {@link TadukooPaintCache}.
+	 */
+	default Paint getFocusPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the focus paint from the component if it has it
 		if(c instanceof HasSelectAndFocusPaints){
 			paint = ((HasSelectAndFocusPaints) c).getFocusPaint();
 		}else{
 			// Default to the Look & Feel's setting
-			paint = UIManagerUtil.getFocusPaint(getPropertyPrefixString());
+			paint = getThemeDefaults().getFocusPaint();
 		}
-		// Return the paint based on the given size
-		return paint.getPaint(size);
+		// Return the paint based on the given size (cached, so it isn't built again for every paint)
+		return TadukooPaintCache.getPaint(paint, width, height);
 	}
 	
 	
@@ -142,16 +231,28 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getDisabledTextPaint(Component c, Dimension size){
+		return getDisabledTextPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the disabled text paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the disabled text - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint. Sized paints are cached in the
+	 * {@link TadukooPaintCache}.
+	 */
+	default Paint getDisabledTextPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the disabled text paint from the component if it has it
 		if(c instanceof HasDisabledTextPaint){
 			paint = ((HasDisabledTextPaint) c).getDisabledTextPaint();
 		}else{
 			// Default to the Look & Feel's setting
-			paint = UIManagerUtil.getDisabledTextPaint(getPropertyPrefixString());
+			paint = getThemeDefaults().getDisabledTextPaint();
 		}
-		// Return the paint based on the given size
-		return paint.getPaint(size);
+		// Return the paint based on the given size (cached, so it isn't built again for every paint)
+		return TadukooPaintCache.getPaint(paint, width, height);
 	}
 	
 	/**
@@ -161,16 +262,28 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getDisabledForegroundPaint(Component c, Dimension size){
+		return getDisabledForegroundPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the disabled foreground paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the disabled foreground - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint. Sized paints are cached in the
+	 * {@link TadukooPaintCache}.
+	 */
+	default Paint getDisabledForegroundPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the disabled foreground paint from the component if it has it
 		if(c instanceof HasDisabledForegroundPaint){
 			paint = ((HasDisabledForegroundPaint) c).getDisabledForegroundPaint();
 		}else{
 			// Default to the Look & Feel's setting
-			paint = UIManagerUtil.getDisabledForegroundPaint(getPropertyPrefixString());
+			paint = getThemeDefaults().getDisabledForegroundPaint();
 		}
-		// Return the paint based on the given size
-		return paint.getPaint(size);
+		// Return the paint based on the given size (cached, so it isn't built again for every paint)
+		return TadukooPaintCache.getPaint(paint, width, height);
 	}
 	
 	/*
@@ -443,12 +556,14 @@ public interface TComponentUIUtil{
 	 * be painted.
 	 * <br><br>
 	 * This method is to be used in the overridden update method of Component UI classes (where the background is
-	 * normally painted)
+	 * normally painted). It's recorded as the {@link PaintStage#BACKGROUND} stage in {@link TadukooPaintMetrics}.
 	 *
 	 * @param g The {@link Graphics} to use to paint
 	 * @param c The {@link Component} to use for painting its background (potentially)
 	 */
 	default void paintBackground(Graphics g, Component c){
+		long start = TadukooPaintMetrics.start();
+		
 		// Cast Graphics to Graphics2D for our purposes
 		Graphics2D g2d = (Graphics2D) g;
 		
@@ -456,14 +571,75 @@ public interface TComponentUIUtil{
 		int width = c.getWidth();
 		int height = c.getHeight();
 		
-		// Grab the background paint and set it
-		Paint backgroundPaint = getBackgroundPaint(c, new Dimension(width, height));
-		if(backgroundPaint != null){
-			g2d.setPaint(backgroundPaint);
-			
-			// Paint the background
-			g2d.fill(getShape(c).getShapeFunc().apply(0, 0, width, height));
-		}
+		// Grab the background paint and paint the background with it
+		fillShape(g2d, c, getBackgroundSizablePaint(c), width, height);
 		// If background paint is null, it signifies we don't want to paint it
+		
+		TadukooPaintMetrics.record(getClass(), PaintStage.BACKGROUND, start);
+	}
+	
+	/**
+	 * Fills the {@link Component}'s shape with the given {@link Paint}. If possible, this draws a pre-rendered image
+	 * of the filled shape from the {@link TadukooRasterCache}, otherwise it fills the shape directly.
+	 *
+	 * @param g2d The {@link Graphics2D} to use to paint
+	 * @param c The {@link Component} whose shape should be filled
+	 * @param paint The {@link Paint} to fill the shape with
+	 * @param width The width of the {@link Component}
+	 * @param height The height of the {@link Component}
+	 */
+	default void fillShape(Graphics2D g2d, Component c, Paint paint, int width, int height){
+		// Draw the pre-rendered shape if we can
+		if(paint != null && TadukooRasterCache.drawShape(g2d, paint, getShape(c).getShapeFunc(), width, height)){
+			return;
+		}
+		
+		// Otherwise fill the shape directly
+		g2d.setPaint(paint);
+		g2d.fill(getSizedShape(c, width, height));
+	}
+	
+	/**
+	 * Fills the {@link Component}'s shape with the given {@link SizablePaint}, sized using the
+	 * {@link TadukooPaintCache}. If possible, this draws a pre-rendered image of the filled shape from the
+	 * {@link TadukooRasterCache} (keyed on the {@link SizablePaint}, so it's found even when the sized paint is built
+	 * again), otherwise it fills the shape directly. If the sized paint is null, the shape isn't filled.
+	 *
+	 * @param g2d The {@link Graphics2D} to use to paint
+	 * @param c The {@link Component} whose shape should be filled
+	 * @param paint The {@link SizablePaint} to fill the shape with
+	 * @param width The width of the {@link Component}
+	 * @param height The height of the {@link Component}
+	 */
+	default void fillShape(Graphics2D g2d, Component c, SizablePaint paint, int width, int height){
+		// Draw the pre-rendered shape if we can
+		if(paint == null || TadukooRasterCache.drawShape(g2d, paint, getShape(c).getShapeFunc(), width, height)){
+			return;
+		}
+		
+		// Otherwise fill the shape directly (if there's a paint to fill it with)
+		Paint sizedPaint = TadukooPaintCache.getPaint(paint, width, height);
+		if(sizedPaint != null){
+			g2d.setPaint(sizedPaint);
+			g2d.fill(getSizedShape(c, width, height));
+		}
+	}
+	
+	/**
+	 * Draws the given text using the given {@link Graphics2D}'s current paint. If the
+	 * {@link TadukooThemeDefaults#isTextAtlasEnabled() text atlas is enabled}, this draws it from the
+	 * {@link TadukooTextAtlas}, otherwise it draws it directly.
+	 *
+	 * @param g2d The {@link Graphics2D} to use to paint
+	 * @param text The laid out text to draw
+	 * @param x The x coordinate of the start of the text
+	 * @param y The y coordinate of the baseline of the text
+	 */
+	default void drawText(Graphics2D g2d, TadukooTextCache.CachedText text, int x, int y){
+		if(getThemeDefaults().isTextAtlasEnabled()){
+			TadukooTextAtlas.draw(g2d, text, x, y);
+		}else{
+			text.draw(g2d, x, y);
+		}
 	}
 }
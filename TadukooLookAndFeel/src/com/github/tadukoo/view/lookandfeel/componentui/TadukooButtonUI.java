@@ -7,11 +7,10 @@ import com.github.tadukoo.view.uimanager.ButtonThemeProperties;
 import javax.swing.AbstractButton;
 import javax.swing.ButtonModel;
 import javax.swing.JComponent;
+import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.metal.MetalButtonUI;
 import java.awt.Button;
-import java.awt.Dimension;
-import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
@@ -25,14 +24,23 @@ import java.awt.Rectangle;
  * @since Alpha v.0.1
  */
 public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
+	/** The instance shared by all components when {@link TadukooLookAndFeel#SHARED_UI_DELEGATES} is on */
+	private static final TadukooButtonUI sharedUI = new TadukooButtonUI();
+	
+	/** The Look &amp; Feel's paints and shape, resolved at installDefaults */
+	private final TadukooThemeDefaults themeDefaults = new TadukooThemeDefaults(ButtonThemeProperties.PROPERTY_PREFIX);
 	
 	/**
-	 * Returns an instance of {@code TadukooButtonUI}.
+	 * Returns an instance of {@code TadukooButtonUI}. If {@link TadukooLookAndFeel#SHARED_UI_DELEGATES} is on, this is
+	 * the shared instance (which keeps no state for individual components), otherwise it's a new instance.
 	 *
 	 * @param c a component
 	 * @return an instance of {@code TadukooButtonUI}
 	 */
 	public static ComponentUI createUI(JComponent c){
+		if(UIManager.getBoolean(TadukooLookAndFeel.SHARED_UI_DELEGATES)){
+			return sharedUI;
+		}
 		return new TadukooButtonUI();
 	}
 	
@@ -42,6 +50,12 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 		return ButtonThemeProperties.PROPERTY_PREFIX;
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public TadukooThemeDefaults getThemeDefaults(){
+		return themeDefaults;
+	}
+	
 	/*
 	 * Install/Uninstall Defaults
 	 */
@@ -50,6 +64,7 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 	@Override
 	public void installDefaults(AbstractButton b){
 		super.installDefaults(b);
+		themeDefaults.resolve();
 		
 		// Most of the shapes do not cover the entire area, causing problems if we leave opaque set to true
 		b.setOpaque(false);
@@ -71,6 +86,7 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 	@Override
 	public void uninstallDefaults(AbstractButton b){
 		super.uninstallDefaults(b);
+		TadukooShapeCache.invalidate(b);
 		
 		// If we have a TButton, we can uninstall everything easily
 		if(b instanceof TButton t){
@@ -92,89 +108,118 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 	/** {@inheritDoc} */
 	@Override
 	public void update(Graphics g, JComponent c){
+		// Time the paint for Java Flight Recorder, the paint watchdog, and the repaint heatmap
+		SlowPaintEvent event = SlowPaintEvent.start();
+		long watchdogStart = TadukooPaintWatchdog.start();
+		long heatmapStart = TadukooRepaintHeatmap.start();
+		
 		paintBackground(g, c);
 		
 		// Do the other painting
 		paint(g, c);
+		
+		TadukooRepaintHeatmap.record(c, heatmapStart);
+		TadukooPaintWatchdog.record(this, c, watchdogStart);
+		SlowPaintEvent.commit(event, this, c);
 	}
 	
 	/** {@inheritDoc} */
 	@Override
 	protected void paintButtonPressed(Graphics g, AbstractButton b){
+		long start = TadukooPaintMetrics.start();
+		
 		// Cast Graphics to Graphics2D for our purposes
 		Graphics2D g2d = (Graphics2D) g;
 		
 		if(b.isContentAreaFilled()){
 			// Grab button size for use in paint and shape functions
-			Dimension size = b.getSize();
+			int width = b.getWidth();
+			int height = b.getHeight();
 			
-			// Grab the paint to use and set it on the graphics
-			g2d.setPaint(getSelectPaint(b, size));
-			
-			// Grab the shape and fill it
-			g2d.fill(getShape(b).getShapeFunc().apply(0, 0, size.width, size.height));
+			// Fill the shape with the select paint
+			fillShape(g2d, b, getSelectSizablePaint(b), width, height);
 		}
+		
+		TadukooPaintMetrics.record(getClass(), PaintStage.PRESSED, start);
 	}
 	
 	/** {@inheritDoc} */
 	@Override
 	protected void paintFocus(Graphics g, AbstractButton b,
 	                          Rectangle viewRect, Rectangle textRect, Rectangle iconRect){
+		long start = TadukooPaintMetrics.start();
+		
 		// Cast Graphics to Graphics2D for our purposes
 		Graphics2D g2d = (Graphics2D) g;
 		
-		Rectangle focusRect = new Rectangle();
+		// The focus rectangle bounds (computed in place rather than in a Rectangle, so painting doesn't allocate)
+		int x = 0, y = 0, width = 0, height = 0;
 		String text = b.getText();
 		boolean isIcon = b.getIcon() != null;
 		
 		// If there is text
 		if(text != null && !text.isEmpty()){
 			if(!isIcon){
-				focusRect.setBounds(textRect);
+				x = textRect.x;
+				y = textRect.y;
+				width = textRect.width;
+				height = textRect.height;
 			}else{
-				focusRect.setBounds(iconRect.union(textRect));
+				// Union of the icon and text rectangles
+				x = Math.min(iconRect.x, textRect.x);
+				y = Math.min(iconRect.y, textRect.y);
+				width = Math.max(iconRect.x + iconRect.width, textRect.x + textRect.width) - x;
+				height = Math.max(iconRect.y + iconRect.height, textRect.y + textRect.height) - y;
 			}
 		}else if(isIcon){
 			// If there is an icon and no text
-			focusRect.setBounds(iconRect);
+			x = iconRect.x;
+			y = iconRect.y;
+			width = iconRect.width;
+			height = iconRect.height;
 		}
 		
 		// Grab the paint to use and set it on the graphics
-		g2d.setPaint(getFocusPaint(b, focusRect.getSize()));
+		g2d.setPaint(getFocusPaint(b, width, height));
 		
 		// Draw the focus rectangle
-		g2d.drawRect((focusRect.x-1), (focusRect.y-1),
-				focusRect.width+1, focusRect.height+1);
+		g2d.drawRect((x-1), (y-1), width+1, height+1);
+		
+		TadukooPaintMetrics.record(getClass(), PaintStage.FOCUS, start);
 	}
 	
 	/** {@inheritDoc} */
 	@Override
 	protected void paintText(Graphics g, JComponent c, Rectangle textRect, String text){
+		long start = TadukooPaintMetrics.start();
+		
 		// Cast Graphics to Graphics2D for our purposes
 		Graphics2D g2d = (Graphics2D) g;
 		
 		AbstractButton b = (AbstractButton) c;
 		ButtonModel model = b.getModel();
-		FontMetrics fm = c.getFontMetrics(g.getFont());
 		//int mnemIndex = b.getDisplayedMnemonicIndex();
 		
-		// Determine the size to be painted
-		Dimension size = new Dimension(fm.stringWidth(text), fm.getHeight());
+		// Grab the laid out text (cached, so it isn't measured and laid out again for every paint)
+		TadukooTextCache.CachedText cachedText = TadukooTextCache.getText(g2d, g.getFont(), text);
+		int width = cachedText.getWidth();
+		int height = cachedText.getHeight();
 		
 		// Determine the paint to use
 		if(model.isEnabled()){
 			// Paint the text normally using foreground paint
-			g2d.setPaint(getForegroundPaint(b, size));
+			g2d.setPaint(getForegroundPaint(b, width, height));
 		}else{
 			// Paint the text disabled
-			g2d.setPaint(getDisabledTextPaint(b, size));
+			g2d.setPaint(getDisabledTextPaint(b, width, height));
 		}
 		
 		// Draw the actual text
-		g.drawString(text, textRect.x, textRect.y + fm.getAscent());
+		drawText(g2d, cachedText, textRect.x, textRect.y + cachedText.getAscent());
+		TadukooPaintMetrics.record(getClass(), PaintStage.TEXT, start);
 		
 		// TODO: Implement more of this string drawing method to further support stuff
 		// SwingUtilities2.drawStringUnderlineCharAt(c, g,text,mnemIndex,
-		//		textRect.x, textRect.y + fm.getAscent());
+		//		textRect.x, textRect.y + cachedText.getAscent());
 	}
 }
@@ -6,10 +6,9 @@ import com.github.tadukoo.view.uimanager.LabelThemeProperties;
 
 import javax.swing.JComponent;
 import javax.swing.JLabel;
+import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicLabelUI;
-import java.awt.Dimension;
-import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Label;
@@ -23,14 +22,23 @@ import java.awt.Label;
  * @since Alpha v.0.3
  */
 public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
+	/** The instance shared by all components when {@link TadukooLookAndFeel#SHARED_UI_DELEGATES} is on */
+	private static final TadukooLabelUI sharedUI = new TadukooLabelUI();
+	
+	/** The Look &amp; Feel's paints and shape, resolved at installDefaults */
+	private final TadukooThemeDefaults themeDefaults = new TadukooThemeDefaults(LabelThemeProperties.PROPERTY_PREFIX);
 	
 	/**
-	 * Returns an instance of {@code TadukooLabelUI}.
+	 * Returns an instance of {@code TadukooLabelUI}. If {@link TadukooLookAndFeel#SHARED_UI_DELEGATES} is on, this is
+	 * the shared instance (which keeps no state for individual components), otherwise it's a new instance.
 	 *
 	 * @param c a component
 	 * @return an instance of {@code TadukooLabelUI}
 	 */
 	public static ComponentUI createUI(JComponent c){
+		if(UIManager.getBoolean(TadukooLookAndFeel.SHARED_UI_DELEGATES)){
+			return sharedUI;
+		}
 		return new TadukooLabelUI();
 	}
 	
@@ -40,6 +48,12 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 		return LabelThemeProperties.PROPERTY_PREFIX;
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public TadukooThemeDefaults getThemeDefaults(){
+		return themeDefaults;
+	}
+	
 	/*
 	 * Install/Uninstall Defaults
 	 */
@@ -48,6 +62,7 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 	@Override
 	public void installDefaults(JLabel c){
 		super.installDefaults(c);
+		themeDefaults.resolve();
 		
 		// If we have a TLabel, we can set everything easily
 		if(c instanceof TLabel t){
@@ -64,6 +79,7 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 	@Override
 	public void uninstallDefaults(JLabel c){
 		super.uninstallDefaults(c);
+		TadukooShapeCache.invalidate(c);
 		
 		// If we have a TLabel, we can uninstall everything easily
 		if(c instanceof TLabel t){
@@ -83,24 +99,36 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 	/** {@inheritDoc} */
 	@Override
 	public void update(Graphics g, JComponent c){
+		// Time the paint for Java Flight Recorder, the paint watchdog, and the repaint heatmap
+		SlowPaintEvent event = SlowPaintEvent.start();
+		long watchdogStart = TadukooPaintWatchdog.start();
+		long heatmapStart = TadukooRepaintHeatmap.start();
+		
 		paintBackground(g, c);
 		
 		// Do the other painting
 		paint(g, c);
+		
+		TadukooRepaintHeatmap.record(c, heatmapStart);
+		TadukooPaintWatchdog.record(this, c, watchdogStart);
+		SlowPaintEvent.commit(event, this, c);
 	}
 	
 	/** {@inheritDoc} */
 	@Override
 	protected void paintEnabledText(JLabel l, Graphics g, String s, int textX, int textY){
+		long start = TadukooPaintMetrics.start();
+		
 		// Cast Graphics to Graphics2D for our purposes
 		Graphics2D g2d = (Graphics2D) g;
 		
-		// Set the Paint
-		FontMetrics fm = l.getFontMetrics(g.getFont());
-		g2d.setPaint(getForegroundPaint(l, new Dimension(fm.stringWidth(s), fm.getHeight())));
+		// Set the Paint, using the laid out text (cached, so it isn't measured and laid out again for every paint)
+		TadukooTextCache.CachedText cachedText = TadukooTextCache.getText(g2d, g.getFont(), s);
+		g2d.setPaint(getForegroundPaint(l, cachedText.getWidth(), cachedText.getHeight()));
 		
 		// Draw the actual text
-		g2d.drawString(s, textX, textY);
+		drawText(g2d, cachedText, textX, textY);
+		TadukooPaintMetrics.record(getClass(), PaintStage.TEXT, start);
 		
 		// TODO: Implement more of this string drawing method to further support stuff
 		//int mnemIndex = l.getDisplayedMnemonicIndex();
@@ -111,15 +139,18 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 	/** {@inheritDoc} */
 	@Override
 	protected void paintDisabledText(JLabel l, Graphics g, String s, int textX, int textY){
+		long start = TadukooPaintMetrics.start();
+		
 		// Cast Graphics to Graphics2D for our purposes
 		Graphics2D g2d = (Graphics2D) g;
 		
-		// Set the Paint
-		FontMetrics fm = l.getFontMetrics(g.getFont());
-		g2d.setPaint(getDisabledForegroundPaint(l, new Dimension(fm.stringWidth(s), fm.getHeight())));
+		// Set the Paint, using the laid out text (cached, so it isn't measured and laid out again for every paint)
+		TadukooTextCache.CachedText cachedText = TadukooTextCache.getText(g2d, g.getFont(), s);
+		g2d.setPaint(getDisabledForegroundPaint(l, cachedText.getWidth(), cachedText.getHeight()));
 		
 		// Draw the actual text
-		g2d.drawString(s, textX, textY);
+		drawText(g2d, cachedText, textX, textY);
+		TadukooPaintMetrics.record(getClass(), PaintStage.TEXT, start);
 		
 		// TODO: Implement more of this string drawing method to further support stuff
 		//int mnemIndex = l.getDisplayedMnemonicIndex();
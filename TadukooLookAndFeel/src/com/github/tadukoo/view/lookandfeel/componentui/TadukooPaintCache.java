@@ -0,0 +1,239 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.SizablePaint;
+
+import java.awt.Dimension;
+import java.awt.Paint;
+
+/**
+ * Tadukoo Paint Cache keeps the {@link Paint}s built by {@link SizablePaint#getPaint(Dimension)} for recently
+ * painted sizes, so that repainting a component at the same size (e.g. while hovering or scrolling) doesn't build
+ * a new {@link Paint} (like a gradient) every frame. Paints are keyed by the identity of the {@link SizablePaint}
+ * and the width and height they were built for, so {@link SizablePaint}s are expected to always build the same
+ * {@link Paint} for the same size - if one is changed in place, {@link #clear()} the cache.
+ * <br><br>
+ * The cache is a fixed-size, 4-way set-associative table: each key can only go in one of 4 slots, and when those
+ * are full, the least recently used of them is evicted. Lookups that hit the cache don't allocate anything. The
+ * cache is shared by all Tadukoo component UIs and is thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooPaintCache{
+	/** The default number of {@link Paint}s the cache can hold */
+	public static final int DEFAULT_CAPACITY = 1024;
+	/** The number of slots each key can go in */
+	private static final int WAYS = 4;
+	
+	/** The lock used for all access to the cache */
+	private static final Object lock = new Object();
+	
+	/** The number of slots in the cache (a power of 2, or 0 if the cache is disabled) */
+	private static int capacity;
+	/** The {@link SizablePaint} keys for each slot ({@code null} for empty slots) */
+	private static SizablePaint[] keys;
+	/** The widths that the {@link Paint}s in each slot were built for */
+	private static int[] widths;
+	/** The heights that the {@link Paint}s in each slot were built for */
+	private static int[] heights;
+	/** The built {@link Paint}s in each slot */
+	private static Paint[] paints;
+	/** When each slot was last used, for least recently used eviction */
+	private static long[] lastUsed;
+	/** Incremented on each use of the cache, to give when slots were last used */
+	private static long clock;
+	
+	/** The number of lookups that found their {@link Paint} in the cache */
+	private static long hits;
+	/** The number of lookups that had to build their {@link Paint} */
+	private static long misses;
+	/** The number of {@link Paint}s that were evicted to make room for others */
+	private static long evictions;
+	
+	static{
+		setCapacity(DEFAULT_CAPACITY);
+	}
+	
+	/** Not allowed to create a Tadukoo Paint Cache */
+	private TadukooPaintCache(){ }
+	
+	/**
+	 * Grabs the {@link Paint} for the given {@link SizablePaint} at the given size from the cache, or builds it
+	 * (and caches it) if it's not there
+	 *
+	 * @param sizablePaint The {@link SizablePaint} to build the {@link Paint} from
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The {@link Paint} for the given size (may be null if the {@link SizablePaint} gives null)
+	 */
+	public static Paint getPaint(SizablePaint sizablePaint, int width, int height){
+		if(sizablePaint == null){
+			return null;
+		}
+		synchronized(lock){
+			if(capacity == 0){
+				misses++;
+				return sizablePaint.getPaint(new Dimension(width, height));
+			}
+			
+			// Look for the paint in its set
+			int set = setIndex(sizablePaint, width, height);
+			int oldest = set;
+			for(int slot = set; slot < set + WAYS; slot++){
+				if(keys[slot] == sizablePaint && widths[slot] == width && heights[slot] == height){
+					hits++;
+					lastUsed[slot] = ++clock;
+					return paints[slot];
+				}
+				if(lastUsed[slot] < lastUsed[oldest]){
+					oldest = slot;
+				}
+			}
+			
+			// Build the paint and replace the least recently used slot with it
+			misses++;
+			Paint paint = sizablePaint.getPaint(new Dimension(width, height));
+			if(keys[oldest] != null){
+				evictions++;
+			}
+			keys[oldest] = sizablePaint;
+			widths[oldest] = width;
+			heights[oldest] = height;
+			paints[oldest] = paint;
+			lastUsed[oldest] = ++clock;
+			return paint;
+		}
+	}
+	
+	/**
+	 * @param sizablePaint The {@link SizablePaint} key
+	 * @param width The width key
+	 * @param height The height key
+	 * @return The index of the first slot in the set the key goes in
+	 */
+	private static int setIndex(SizablePaint sizablePaint, int width, int height){
+		int hash = System.identityHashCode(sizablePaint);
+		hash = 31*(31*hash + width) + height;
+		hash ^= (hash >>> 16);
+		hash *= 0x85EBCA6B;
+		hash ^= (hash >>> 13);
+		return (hash & (capacity/WAYS - 1))*WAYS;
+	}
+	
+	/*
+	 * Cache Management
+	 */
+	
+	/**
+	 * @return The number of {@link Paint}s the cache can hold (0 if it's disabled)
+	 */
+	public static int getCapacity(){
+		synchronized(lock){
+			return capacity;
+		}
+	}
+	
+	/**
+	 * Sets the number of {@link Paint}s the cache can hold, which clears the cache. The capacity is rounded up to a
+	 * power of 2 (and at least 4), and a capacity of 0 disables the cache.
+	 *
+	 * @param newCapacity The number of {@link Paint}s the cache should hold
+	 */
+	public static void setCapacity(int newCapacity){
+		if(newCapacity < 0){
+			throw new IllegalArgumentException("Paint cache capacity must not be negative: " + newCapacity);
+		}
+		synchronized(lock){
+			capacity = newCapacity == 0?0:
+					Math.max(WAYS, Integer.highestOneBit(Math.min(newCapacity, 1 << 30) - 1) << 1);
+			keys = new SizablePaint[capacity];
+			widths = new int[capacity];
+			heights = new int[capacity];
+			paints = new Paint[capacity];
+			lastUsed = new long[capacity];
+			clock = 0;
+		}
+	}
+	
+	/**
+	 * @return The number of {@link Paint}s currently in the cache
+	 */
+	public static int size(){
+		synchronized(lock){
+			int size = 0;
+			for(SizablePaint key: keys){
+				if(key != null){
+					size++;
+				}
+			}
+			return size;
+		}
+	}
+	
+	/**
+	 * Removes all {@link Paint}s from the cache
+	 */
+	public static void clear(){
+		synchronized(lock){
+			for(int slot = 0; slot < capacity; slot++){
+				keys[slot] = null;
+				paints[slot] = null;
+				lastUsed[slot] = 0;
+			}
+			clock = 0;
+		}
+	}
+	
+	/*
+	 * Statistics
+	 */
+	
+	/**
+	 * @return The number of lookups that found their {@link Paint} in the cache
+	 */
+	public static long getHits(){
+		synchronized(lock){
+			return hits;
+		}
+	}
+	
+	/**
+	 * @return The number of lookups that had to build their {@link Paint}
+	 */
+	public static long getMisses(){
+		synchronized(lock){
+			return misses;
+		}
+	}
+	
+	/**
+	 * @return The number of {@link Paint}s that were evicted to make room for others
+	 */
+	public static long getEvictions(){
+		synchronized(lock){
+			return evictions;
+		}
+	}
+	
+	/**
+	 * @return The fraction of lookups that found their {@link Paint} in the cache (0 if there were no lookups)
+	 */
+	public static double getHitRate(){
+		synchronized(lock){
+			long lookups = hits + misses;
+			return lookups == 0?0:(double) hits/lookups;
+		}
+	}
+	
+	/**
+	 * Resets the hit, miss, and eviction counts to 0
+	 */
+	public static void resetStats(){
+		synchronized(lock){
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+		}
+	}
+}
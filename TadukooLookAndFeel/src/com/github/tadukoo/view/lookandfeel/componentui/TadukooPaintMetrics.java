@@ -0,0 +1,317 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tadukoo Paint Metrics records how long the Tadukoo Component UIs spend painting, for each Component UI class
+ * (e.g. {@link TadukooButtonUI}, {@link TadukooLabelUI}, or a subclass of them) and {@link PaintStage}: the number
+ * of paints, their total time, and percentiles of their times. Along with the hit rates of the Tadukoo caches,
+ * this helps find the screens and stages that are slow to paint.
+ * <br><br>
+ * Recording is off by default, and while it's off, each paint stage only checks a single volatile flag. It can be
+ * turned on with {@link #setEnabled(boolean)}, or from a JMX console once {@link #registerMBean() registered} as an
+ * MBean. Recording a paint doesn't allocate anything, so it can be left on in production. Component UIs record
+ * their paint stages like this:
+ * <pre>{@code
+ * long start = TadukooPaintMetrics.start();
+ * // paint the stage
+ * TadukooPaintMetrics.record(getClass(), PaintStage.TEXT, start);
+ * }</pre>
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooPaintMetrics{
+	/** The name the MBean is registered under */
+	public static final String OBJECT_NAME = "com.github.tadukoo.view.lookandfeel:type=PaintMetrics";
+	/** The value {@link #start()} gives when recording is off */
+	private static final long NOT_RECORDING = Long.MIN_VALUE;
+	/** The number of histogram buckets for each power of 2 (giving percentiles accurate to within 1/8) */
+	private static final int SUB_BUCKETS = 8;
+	/** The number of bits needed for the sub-bucket of a time */
+	private static final int SUB_BUCKET_BITS = 3;
+	/** The number of histogram buckets, enough for any positive long */
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1)*SUB_BUCKETS;
+	
+	/**
+	 * Records the paint times of one {@link PaintStage} of one Component UI class
+	 */
+	private static final class StageRecorder{
+		/** The number of paints recorded */
+		private long count;
+		/** The total time of the recorded paints, in nanoseconds */
+		private long totalNanos;
+		/** The time of the slowest recorded paint, in nanoseconds */
+		private long maxNanos;
+		/** The number of recorded paints in each histogram bucket */
+		private final long[] buckets = new long[BUCKETS];
+		
+		/**
+		 * Records a paint
+		 *
+		 * @param nanos The time of the paint, in nanoseconds
+		 */
+		private synchronized void record(long nanos){
+			count++;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+			buckets[bucket(nanos)]++;
+		}
+		
+		/**
+		 * @param percentile The percentile to estimate (between 0 and 1)
+		 * @return The estimated time of the percentile, in nanoseconds
+		 */
+		private long percentile(double percentile){
+			long target = Math.max(1, (long) Math.ceil(percentile*count));
+			long seen = 0;
+			for(int bucket = 0; bucket < BUCKETS; bucket++){
+				seen += buckets[bucket];
+				if(seen >= target){
+					return Math.min(bucketUpperBound(bucket), maxNanos);
+				}
+			}
+			return maxNanos;
+		}
+		
+		/**
+		 * @param uiClass The Component UI class the paints are for
+		 * @param stage The {@link PaintStage} the paints are for
+		 * @return A snapshot of the metrics
+		 */
+		private synchronized PaintStageMetrics snapshot(Class<?> uiClass, PaintStage stage){
+			return new PaintStageMetrics(uiClass.getName(), stage.name(), count, totalNanos, maxNanos,
+					percentile(0.5), percentile(0.9), percentile(0.99));
+		}
+	}
+	
+	/** The registered MBean */
+	private static final TadukooPaintMetricsMXBean mBean = new TadukooPaintMetricsMXBean(){
+		/** {@inheritDoc} */
+		@Override
+		public boolean isEnabled(){
+			return TadukooPaintMetrics.isEnabled();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void setEnabled(boolean enabled){
+			TadukooPaintMetrics.setEnabled(enabled);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public List<PaintStageMetrics> getStageMetrics(){
+			return TadukooPaintMetrics.getStageMetrics();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Map<String, Double> getCacheHitRates(){
+			return TadukooPaintMetrics.getCacheHitRates();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void reset(){
+			TadukooPaintMetrics.reset();
+		}
+	};
+	
+	/** The recorders for each Component UI class, indexed by {@link PaintStage#ordinal()} */
+	private static final Map<Class<?>, StageRecorder[]> recorders = new ConcurrentHashMap<>();
+	/** Whether paints are being recorded */
+	private static volatile boolean enabled;
+	
+	/** Not allowed to create Tadukoo Paint Metrics */
+	private TadukooPaintMetrics(){ }
+	
+	/*
+	 * Recording
+	 */
+	
+	/**
+	 * Starts timing a paint stage
+	 *
+	 * @return The start time to pass to {@link #record(Class, PaintStage, long)} once the stage is painted
+	 */
+	public static long start(){
+		return enabled?System.nanoTime():NOT_RECORDING;
+	}
+	
+	/**
+	 * Records a paint stage that was started with {@link #start()} (does nothing if recording was off at the start)
+	 *
+	 * @param uiClass The Component UI class that painted
+	 * @param stage The {@link PaintStage} that was painted
+	 * @param start The start time given by {@link #start()}
+	 */
+	public static void record(Class<?> uiClass, PaintStage stage, long start){
+		if(start == NOT_RECORDING){
+			return;
+		}
+		long nanos = Math.max(0, System.nanoTime() - start);
+		recorders.computeIfAbsent(uiClass, TadukooPaintMetrics::newRecorders)[stage.ordinal()].record(nanos);
+	}
+	
+	/**
+	 * @param uiClass The Component UI class to create the recorders for
+	 * @return A new recorder for each {@link PaintStage}
+	 */
+	private static StageRecorder[] newRecorders(Class<?> uiClass){
+		StageRecorder[] stageRecorders = new StageRecorder[PaintStage.values().length];
+		for(int i = 0; i < stageRecorders.length; i++){
+			stageRecorders[i] = new StageRecorder();
+		}
+		return stageRecorders;
+	}
+	
+	/**
+	 * @param nanos A paint time, in nanoseconds
+	 * @return The histogram bucket of the time
+	 */
+	private static int bucket(long nanos){
+		if(nanos < SUB_BUCKETS){
+			return (int) nanos;
+		}
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+		int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1)*SUB_BUCKETS + subBucket;
+	}
+	
+	/**
+	 * @param bucket A histogram bucket
+	 * @return The largest time in the bucket, in nanoseconds
+	 */
+	private static long bucketUpperBound(int bucket){
+		if(bucket < SUB_BUCKETS){
+			return bucket;
+		}
+		int exponent = bucket/SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = bucket%SUB_BUCKETS;
+		return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+	
+	/*
+	 * Management
+	 */
+	
+	/**
+	 * @return Whether paints are being recorded
+	 */
+	public static boolean isEnabled(){
+		return enabled;
+	}
+	
+	/**
+	 * Turns recording of paints on or off. Metrics recorded so far are kept when it's turned off.
+	 *
+	 * @param newEnabled Whether paints should be recorded
+	 */
+	public static void setEnabled(boolean newEnabled){
+		enabled = newEnabled;
+	}
+	
+	/**
+	 * Removes all recorded metrics
+	 */
+	public static void reset(){
+		recorders.clear();
+	}
+	
+	/**
+	 * Registers the metrics as an MBean with the platform MBean server under {@link #OBJECT_NAME}, if they aren't
+	 * registered already
+	 *
+	 * @throws JMException If the MBean can't be registered
+	 */
+	public static synchronized void registerMBean() throws JMException{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if(!server.isRegistered(name)){
+			server.registerMBean(mBean, name);
+		}
+	}
+	
+	/**
+	 * Unregisters the metrics MBean from the platform MBean server, if it's registered
+	 *
+	 * @throws JMException If the MBean can't be unregistered
+	 */
+	public static synchronized void unregisterMBean() throws JMException{
+		try{
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+		}catch(InstanceNotFoundException e){
+			// Not registered, so there's nothing to do
+		}
+	}
+	
+	/*
+	 * Metrics
+	 */
+	
+	/**
+	 * @param uiClass The Component UI class
+	 * @param stage The {@link PaintStage}
+	 * @return The metrics recorded for the given Component UI class and stage, or {@code null} if it has never
+	 * been recorded
+	 */
+	public static PaintStageMetrics getStageMetrics(Class<?> uiClass, PaintStage stage){
+		StageRecorder[] stageRecorders = recorders.get(uiClass);
+		return stageRecorders == null?null:stageRecorders[stage.ordinal()].snapshot(uiClass, stage);
+	}
+	
+	/**
+	 * @return The metrics recorded for each Component UI class and {@link PaintStage} that has been recorded,
+	 * ordered by class name and stage
+	 */
+	public static List<PaintStageMetrics> getStageMetrics(){
+		List<Class<?>> uiClasses = new ArrayList<>(recorders.keySet());
+		uiClasses.sort(Comparator.comparing(Class::getName));
+		List<PaintStageMetrics> metrics = new ArrayList<>();
+		for(Class<?> uiClass: uiClasses){
+			for(PaintStage stage: PaintStage.values()){
+				PaintStageMetrics stageMetrics = getStageMetrics(uiClass, stage);
+				if(stageMetrics != null && stageMetrics.getCount() > 0){
+					metrics.add(stageMetrics);
+				}
+			}
+		}
+		return metrics;
+	}
+	
+	/**
+	 * @return The hit rate of each of the Tadukoo paint caches (0 for caches that haven't been used), by the
+	 * cache's name
+	 */
+	public static Map<String, Double> getCacheHitRates(){
+		Map<String, Double> hitRates = new LinkedHashMap<>();
+		hitRates.put("paint", TadukooPaintCache.getHitRate());
+		hitRates.put("shape", hitRate(TadukooShapeCache.getHits(), TadukooShapeCache.getMisses()));
+		hitRates.put("raster", hitRate(TadukooRasterCache.getHits(), TadukooRasterCache.getMisses()));
+		hitRates.put("text", hitRate(TadukooTextCache.getHits(), TadukooTextCache.getMisses()));
+		hitRates.put("textAtlas", hitRate(TadukooTextAtlas.getHits(), TadukooTextAtlas.getMisses()));
+		return hitRates;
+	}
+	
+	/**
+	 * @param hits The number of lookups that hit a cache
+	 * @param misses The number of lookups that missed the cache
+	 * @return The fraction of lookups that hit the cache (0 if there were no lookups)
+	 */
+	private static double hitRate(long hits, long misses){
+		long lookups = hits + misses;
+		return lookups == 0?0:(double) hits/lookups;
+	}
+}
@@ -0,0 +1,41 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The management interface of {@link TadukooPaintMetrics}, registered with the platform MBean server by
+ * {@link TadukooPaintMetrics#registerMBean()} under {@link TadukooPaintMetrics#OBJECT_NAME}, so the metrics can be
+ * turned on and read from a JMX console (e.g. JConsole or VisualVM).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public interface TadukooPaintMetricsMXBean{
+	
+	/**
+	 * @return Whether paints are being recorded
+	 */
+	boolean isEnabled();
+	
+	/**
+	 * @param enabled Whether paints should be recorded
+	 */
+	void setEnabled(boolean enabled);
+	
+	/**
+	 * @return The metrics recorded for each Component UI class and {@link PaintStage}
+	 */
+	List<PaintStageMetrics> getStageMetrics();
+	
+	/**
+	 * @return The hit rate of each of the Tadukoo paint caches, by the cache's name
+	 */
+	Map<String, Double> getCacheHitRates();
+	
+	/**
+	 * Removes all recorded metrics
+	 */
+	void reset();
+}
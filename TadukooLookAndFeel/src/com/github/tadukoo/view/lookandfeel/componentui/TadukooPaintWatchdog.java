@@ -0,0 +1,302 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.shapes.Shapes;
+
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.GradientPaint;
+import java.awt.MultipleGradientPaint;
+import java.awt.Paint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Tadukoo Paint Watchdog adds up the time the Tadukoo Component UIs spend painting in each frame on the Event
+ * Dispatch Thread, and when a frame goes over the paint budget (8 ms by default), it sends a
+ * {@link PaintBudgetReport} to its listeners with the components that took the longest to paint. Each of them is
+ * reported with its path in the component hierarchy, its Component UI class, the type of its background paint, and
+ * its shape, so that jank spread across hundreds of small paints can be traced back to the components causing it.
+ * <br><br>
+ * A frame is all the paints done on the Event Dispatch Thread while handling one event (normally the
+ * {@link javax.swing.RepaintManager RepaintManager's} repaint of the dirty regions): the first paint of a frame
+ * queues the end of the frame to run after the current event. Paints done on other threads (e.g. into images)
+ * aren't watched.
+ * <br><br>
+ * The watchdog is off by default, and while it's off, each paint only checks a single volatile flag. It can be
+ * turned on like this:
+ * <pre>{@code
+ * TadukooPaintWatchdog.addListener(report -> logger.logWarning(report.toString()));
+ * TadukooPaintWatchdog.setEnabled(true);
+ * }</pre>
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooPaintWatchdog{
+	/** The default paint budget of a frame, in nanoseconds */
+	public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+	/** The most components a {@link PaintBudgetReport} has */
+	public static final int MAX_REPORTED_COMPONENTS = 10;
+	/** The value {@link #start()} gives when the paint isn't being watched */
+	private static final long NOT_WATCHING = Long.MIN_VALUE;
+	
+	/** The listeners that are sent reports */
+	private static final List<Consumer<PaintBudgetReport>> listeners = new CopyOnWriteArrayList<>();
+	/** Ends the current frame (queued on the Event Dispatch Thread by the first paint of each frame) */
+	private static final Runnable endFrame = TadukooPaintWatchdog::endFrame;
+	/** Whether paints are being watched */
+	private static volatile boolean enabled;
+	/** The paint budget of a frame, in nanoseconds */
+	private static volatile long budgetNanos = DEFAULT_BUDGET_NANOS;
+	
+	/*
+	 * The current frame - only used on the Event Dispatch Thread
+	 */
+	
+	/** The Component UIs of the paints in the current frame */
+	private static TComponentUIUtil[] frameUIs = new TComponentUIUtil[64];
+	/** The components of the paints in the current frame */
+	private static Component[] frameComponents = new Component[64];
+	/** The times of the paints in the current frame, in nanoseconds */
+	private static long[] frameNanos = new long[64];
+	/** The number of paints in the current frame */
+	private static int framePaints;
+	/** The total time of the paints in the current frame, in nanoseconds */
+	private static long frameTotalNanos;
+	
+	/** Not allowed to create a Tadukoo Paint Watchdog */
+	private TadukooPaintWatchdog(){ }
+	
+	/*
+	 * Watching
+	 */
+	
+	/**
+	 * Starts timing a paint
+	 *
+	 * @return The start time to pass to {@link #record(TComponentUIUtil, Component, long)} once the component is
+	 * painted
+	 */
+	public static long start(){
+		return enabled && SwingUtilities.isEventDispatchThread()?System.nanoTime():NOT_WATCHING;
+	}
+	
+	/**
+	 * Adds a paint that was started with {@link #start()} to the current frame (does nothing if the paint wasn't
+	 * being watched at the start)
+	 *
+	 * @param ui The Component UI that painted the component
+	 * @param c The painted component
+	 * @param start The start time given by {@link #start()}
+	 */
+	public static void record(TComponentUIUtil ui, Component c, long start){
+		if(start == NOT_WATCHING){
+			return;
+		}
+		long nanos = Math.max(0, System.nanoTime() - start);
+		
+		// Start a new frame if this is the first paint of it
+		if(framePaints == 0){
+			SwingUtilities.invokeLater(endFrame);
+		}else if(framePaints == frameNanos.length){
+			frameUIs = Arrays.copyOf(frameUIs, framePaints*2);
+			frameComponents = Arrays.copyOf(frameComponents, framePaints*2);
+			frameNanos = Arrays.copyOf(frameNanos, framePaints*2);
+		}
+		frameUIs[framePaints] = ui;
+		frameComponents[framePaints] = c;
+		frameNanos[framePaints] = nanos;
+		framePaints++;
+		frameTotalNanos += nanos;
+	}
+	
+	/**
+	 * Ends the current frame, sending a report to the listeners if it went over the budget
+	 */
+	private static void endFrame(){
+		long budget = budgetNanos;
+		if(frameTotalNanos > budget && !listeners.isEmpty()){
+			PaintBudgetReport report = createReport(budget);
+			for(Consumer<PaintBudgetReport> listener: listeners){
+				listener.accept(report);
+			}
+		}
+		
+		// Clear the frame (without keeping the components around)
+		Arrays.fill(frameUIs, 0, framePaints, null);
+		Arrays.fill(frameComponents, 0, framePaints, null);
+		framePaints = 0;
+		frameTotalNanos = 0;
+	}
+	
+	/*
+	 * Reports
+	 */
+	
+	/**
+	 * Tracks the paints of one component while a report is created
+	 */
+	private static final class ComponentPaints{
+		/** The Component UI that painted the component */
+		private final TComponentUIUtil ui;
+		/** The number of times the component was painted */
+		private int paintCount;
+		/** The total time spent painting the component, in nanoseconds */
+		private long nanos;
+		
+		/**
+		 * Constructs a new Component Paints for the given Component UI
+		 *
+		 * @param ui The Component UI that painted the component
+		 */
+		private ComponentPaints(TComponentUIUtil ui){
+			this.ui = ui;
+		}
+	}
+	
+	/**
+	 * @param budget The paint budget that was exceeded, in nanoseconds
+	 * @return A report of the current frame
+	 */
+	private static PaintBudgetReport createReport(long budget){
+		// Add up the paints of each component
+		Map<Component, ComponentPaints> paintsByComponent = new IdentityHashMap<>();
+		for(int i = 0; i < framePaints; i++){
+			ComponentPaints paints = paintsByComponent.get(frameComponents[i]);
+			if(paints == null){
+				paints = new ComponentPaints(frameUIs[i]);
+				paintsByComponent.put(frameComponents[i], paints);
+			}
+			paints.paintCount++;
+			paints.nanos += frameNanos[i];
+		}
+		
+		// Describe the slowest components
+		List<Map.Entry<Component, ComponentPaints>> slowest = new ArrayList<>(paintsByComponent.entrySet());
+		slowest.sort(Comparator.comparingLong(entry -> -entry.getValue().nanos));
+		List<PaintBudgetReport.ComponentPaint> componentPaints = new ArrayList<>();
+		for(Map.Entry<Component, ComponentPaints> entry:
+				slowest.subList(0, Math.min(slowest.size(), MAX_REPORTED_COMPONENTS))){
+			Component c = entry.getKey();
+			ComponentPaints paints = entry.getValue();
+			Paint backgroundPaint = paints.ui.getBackgroundPaint(c, c.getWidth(), c.getHeight());
+			componentPaints.add(new PaintBudgetReport.ComponentPaint(getComponentPath(c),
+					paints.ui.getClass().getName(), getPaintType(backgroundPaint), getShapeName(paints.ui.getShape(c)),
+					paints.paintCount, paints.nanos));
+		}
+		return new PaintBudgetReport(frameTotalNanos, budget, framePaints, componentPaints);
+	}
+	
+	/**
+	 * @param c A {@link Component}
+	 * @return The path of the component in its hierarchy, from its top-level ancestor down to the component,
+	 * with the names of the components that have them (e.g. {@code JFrame > JRootPane > ... > JButton[name]})
+	 */
+	static String getComponentPath(Component c){
+		List<String> path = new ArrayList<>();
+		for(Component component = c; component != null; component = component.getParent()){
+			Class<?> componentClass = component.getClass();
+			String name = componentClass.getSimpleName().isEmpty()?componentClass.getName():
+					componentClass.getSimpleName();
+			path.add(0, component.getName() == null?name:name + "[" + component.getName() + "]");
+		}
+		return String.join(" > ", path);
+	}
+	
+	/**
+	 * @param paint A sized background {@link Paint}
+	 * @return The type of the paint: {@code solid}, {@code gradient}, {@code none} (for {@code null}), or the
+	 * name of the paint's class for other paints
+	 */
+	static String getPaintType(Paint paint){
+		if(paint == null){
+			return "none";
+		}else if(paint instanceof Color){
+			return "solid";
+		}else if(paint instanceof GradientPaint || paint instanceof MultipleGradientPaint){
+			return "gradient";
+		}
+		return paint.getClass().getSimpleName();
+	}
+	
+	/**
+	 * @param shapeInfo A {@link ShapeInfo}
+	 * @return The name of the {@link Shapes standard shape} using the same shape function, or {@code custom}
+	 */
+	static String getShapeName(ShapeInfo shapeInfo){
+		if(shapeInfo != null){
+			for(Shapes shape: Shapes.values()){
+				if(shape.getShapeInfo().getShapeFunc() == shapeInfo.getShapeFunc()){
+					return shape.name();
+				}
+			}
+		}
+		return "custom";
+	}
+	
+	/*
+	 * Management
+	 */
+	
+	/**
+	 * @return Whether paints are being watched
+	 */
+	public static boolean isEnabled(){
+		return enabled;
+	}
+	
+	/**
+	 * Turns watching of paints on or off
+	 *
+	 * @param newEnabled Whether paints should be watched
+	 */
+	public static void setEnabled(boolean newEnabled){
+		enabled = newEnabled;
+	}
+	
+	/**
+	 * @return The paint budget of a frame, in nanoseconds
+	 */
+	public static long getBudgetNanos(){
+		return budgetNanos;
+	}
+	
+	/**
+	 * Sets the paint budget of a frame. Frames whose paints take longer than it are reported.
+	 *
+	 * @param newBudgetNanos The paint budget of a frame, in nanoseconds
+	 */
+	public static void setBudgetNanos(long newBudgetNanos){
+		if(newBudgetNanos < 0){
+			throw new IllegalArgumentException("Paint budget must not be negative: " + newBudgetNanos);
+		}
+		budgetNanos = newBudgetNanos;
+	}
+	
+	/**
+	 * Adds a listener to be sent a {@link PaintBudgetReport} for each frame that goes over the paint budget. The
+	 * listener is called on the Event Dispatch Thread, so it should hand off any slow work (e.g. writing to a file).
+	 *
+	 * @param listener The listener to add
+	 */
+	public static void addListener(Consumer<PaintBudgetReport> listener){
+		listeners.add(listener);
+	}
+	
+	/**
+	 * @param listener The listener to remove
+	 */
+	public static void removeListener(Consumer<PaintBudgetReport> listener){
+		listeners.remove(listener);
+	}
+}
@@ -0,0 +1,742 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeFunction;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.shapes.Shapes;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tadukoo Raster Cache keeps pre-rendered images of shapes filled with paints (e.g. a rounded button background
+ * filled with a gradient), so that painting a component's background becomes a single {@code drawImage} instead of
+ * filling the shape with the paint every frame. Images are keyed by the {@link GraphicsConfiguration}, the
+ * paint, the {@link ShapeFunction}, the size, and the antialiasing and stroke control
+ * {@link RenderingHints rendering hints} (which are copied from the {@link Graphics2D} being drawn on, so the images
+ * match filling the shape directly), so components of the same size in the same state (which decides the paint,
+ * e.g. the select paint for pressed buttons) on the same screen share the same image.
+ * <br><br>
+ * Solid {@link Color}s are compared by value. Other paints should be drawn using their {@link SizablePaint}
+ * ({@link #drawShape(Graphics2D, SizablePaint, ShapeFunction, int, int)}), so the image is keyed on the
+ * {@link SizablePaint} and the size rather than on the sized {@link Paint}, which may be built again (e.g. after
+ * it's evicted from the {@link TadukooPaintCache}).
+ * <br><br>
+ * Images are {@link GraphicsConfiguration#createCompatibleImage(int, int, int) compatible} with their
+ * {@link GraphicsConfiguration} and rendered at its device scale (e.g. 2 pixels per unit at 200%), so they stay
+ * sharp on HiDPI screens and are drawn without converting them. A window moving to a screen with a different scale
+ * just uses (and renders) the images for that screen's {@link GraphicsConfiguration}. Images are only used where
+ * they line up with device pixels: at fractional scales (e.g. 150%), sizes that don't scale to a whole number of
+ * pixels aren't cached, and shapes aren't drawn from the cache where their origin doesn't land on a device pixel,
+ * since the stretched image would be blurry there - those shapes should be filled directly instead.
+ * <br><br>
+ * Shapes whose corners don't depend on their size (e.g. rounded rectangles with a fixed arc) can be
+ * {@link #registerNineSlice(ShapeInfo, int) registered} for nine-slice rendering. When one of these is filled with
+ * a solid {@link Color}, only a small image (the corners plus a 1 unit wide middle) is cached, and it's drawn in 9
+ * pieces: the corners as-is, and the edges and center stretched to the size. That one image serves every size, so
+ * resizable layouts don't add an image for each size. The {@link Shapes standard shapes} that build rounded
+ * rectangles with a fixed arc are registered by default. Plain rectangles aren't, as they have no corners to keep,
+ * and drawing them in 9 pieces costs more than drawing one image.
+ * <br><br>
+ * Other shapes filled with a solid {@link Color} (e.g. the default theme's plain rectangle backgrounds) aren't drawn
+ * from the cache at all, as filling them directly is cheaper than drawing a translucent image, and caching an image
+ * for each of their sizes would just fill up the budget. Only gradients (and other custom paints) and nine-slice
+ * shapes are cached when drawing shapes.
+ * <br><br>
+ * The cache has a memory budget (in bytes of image data), and when adding an image would go over it, the least
+ * recently used images are evicted. Lookups that hit the cache don't allocate anything. The cache is shared by all
+ * Tadukoo component UIs and is thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooRasterCache{
+	/** The default memory budget for the cached images, in bytes (16 MB) */
+	public static final long DEFAULT_BUDGET = 16L*1024*1024;
+	/** The number of bytes used by each pixel of the cached images */
+	private static final int BYTES_PER_PIXEL = 4;
+	
+	/**
+	 * The scale of a {@link GraphicsConfiguration}'s device
+	 *
+	 * @param scaleX The number of device pixels per unit horizontally
+	 * @param scaleY The number of device pixels per unit vertically
+	 */
+	private record DeviceScale(double scaleX, double scaleY){ }
+	
+	/** The scale used when there's no {@link GraphicsConfiguration} */
+	private static final DeviceScale UNSCALED = new DeviceScale(1, 1);
+	
+	/**
+	 * The key for a cached image. Paints are compared by identity (either the {@link SizablePaint} or the
+	 * {@link Paint} itself), except for {@link Color}s, which are compared by value.
+	 */
+	private static class RasterKey{
+		/** The {@link GraphicsConfiguration} the image is compatible with (may be null) */
+		private GraphicsConfiguration config;
+		/** The {@link SizablePaint} or {@link Paint} the shape is filled with */
+		private Object paint;
+		/** The {@link ShapeFunction} that builds the shape */
+		private ShapeFunction shapeFunc;
+		/** The width of the image */
+		private int width;
+		/** The height of the image */
+		private int height;
+		/** The {@link RenderingHints#KEY_ANTIALIASING antialiasing hint} the image is rendered with */
+		private Object antialiasing;
+		/** The {@link RenderingHints#KEY_STROKE_CONTROL stroke control hint} the image is rendered with */
+		private Object strokeControl;
+		/** The hash code of the key, computed when it's set */
+		private int hashCode;
+		
+		/**
+		 * Sets the values of the key
+		 *
+		 * @param config The {@link GraphicsConfiguration} the image is compatible with (may be null)
+		 * @param paint The {@link SizablePaint} or {@link Paint} the shape is filled with
+		 * @param shapeFunc The {@link ShapeFunction} that builds the shape
+		 * @param width The width of the image
+		 * @param height The height of the image
+		 * @param antialiasing The antialiasing hint the image is rendered with (may be null)
+		 * @param strokeControl The stroke control hint the image is rendered with (may be null)
+		 */
+		private void set(GraphicsConfiguration config, Object paint, ShapeFunction shapeFunc, int width, int height,
+		                 Object antialiasing, Object strokeControl){
+			this.config = config;
+			this.paint = paint;
+			this.shapeFunc = shapeFunc;
+			this.width = width;
+			this.height = height;
+			this.antialiasing = antialiasing;
+			this.strokeControl = strokeControl;
+			int hash = paint instanceof Color?paint.hashCode():System.identityHashCode(paint);
+			hash = 31*hash + System.identityHashCode(shapeFunc);
+			hash = 31*hash + System.identityHashCode(config);
+			hash = 31*hash + System.identityHashCode(antialiasing);
+			hash = 31*hash + System.identityHashCode(strokeControl);
+			hashCode = 31*(31*hash + width) + height;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean equals(Object o){
+			if(!(o instanceof RasterKey key)){
+				return false;
+			}
+			return hashCode == key.hashCode && config == key.config && shapeFunc == key.shapeFunc &&
+					width == key.width && height == key.height &&
+					antialiasing == key.antialiasing && strokeControl == key.strokeControl &&
+					(paint == key.paint || (paint instanceof Color && paint.equals(key.paint)));
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int hashCode(){
+			return hashCode;
+		}
+	}
+	
+	/** The lock used for all access to the cache */
+	private static final Object lock = new Object();
+	/** The cached images, in least recently used order */
+	private static final LinkedHashMap<RasterKey, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+	/** The key reused for lookups, so that lookups don't allocate */
+	private static final RasterKey lookupKey = new RasterKey();
+	/** The corner size of each {@link ShapeFunction} registered for nine-slice rendering */
+	private static final Map<ShapeFunction, Integer> nineSliceCorners = new IdentityHashMap<>();
+	/** The device scale of each {@link GraphicsConfiguration}, so it only has to be checked once */
+	private static final Map<GraphicsConfiguration, DeviceScale> deviceScales = new WeakHashMap<>();
+	/** The memory budget for the cached images, in bytes */
+	private static long budget = DEFAULT_BUDGET;
+	/** The number of bytes used by the cached images */
+	private static long usedBytes;
+	
+	/** The number of lookups that found their image in the cache */
+	private static long hits;
+	/** The number of lookups that had to render their image */
+	private static long misses;
+	/** The number of images that were evicted to stay under the budget */
+	private static long evictions;
+	
+	static{
+		// Register the standard shapes that are rounded rectangles with a fixed arc
+		for(Shapes shape: Shapes.values()){
+			ShapeFunction shapeFunc = shape.getShapeInfo().getShapeFunc();
+			int corner = getFixedCornerSize(shapeFunc);
+			if(corner > 0){
+				nineSliceCorners.put(shapeFunc, corner);
+			}
+		}
+	}
+	
+	/** Not allowed to create a Tadukoo Raster Cache */
+	private TadukooRasterCache(){ }
+	
+	/**
+	 * @return Whether the cache is enabled (its budget isn't 0)
+	 */
+	public static boolean isEnabled(){
+		synchronized(lock){
+			return budget != 0;
+		}
+	}
+	
+	/**
+	 * Draws the shape filled with the paint at (0, 0) using images from the cache, rendering them if needed. This
+	 * uses nine-slice rendering if the shape is {@link #registerNineSlice(ShapeInfo, int) registered} for it and the
+	 * paint is a solid {@link Color}, and otherwise draws an image of the whole shape for paints that aren't solid
+	 * {@link Color}s (as those are cheaper to fill directly).
+	 *
+	 * @param g2d The {@link Graphics2D} to draw on
+	 * @param paint The {@link Paint} to fill the shape with
+	 * @param shapeFunc The {@link ShapeFunction} to build the shape with
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @return Whether the shape was drawn - if not (e.g. the cache is disabled, the paint is a solid {@link Color} that
+	 * can't use nine-slice rendering, or the shape doesn't line up with device pixels), the shape should be filled
+	 * directly
+	 */
+	public static boolean drawShape(Graphics2D g2d, Paint paint, ShapeFunction shapeFunc, int width, int height){
+		GraphicsConfiguration config = g2d.getDeviceConfiguration();
+		int corner;
+		DeviceScale scale;
+		synchronized(lock){
+			if(budget == 0){
+				return false;
+			}
+			scale = getDeviceScale(config);
+			corner = getNineSliceCorner(paint, shapeFunc, width, height, scale);
+		}
+		if(!isPixelAligned(g2d, scale)){
+			return false;
+		}
+		
+		// Draw the shape with nine-slice rendering if we can
+		if(corner >= 0){
+			// The middle of the image is stretched, so its size doesn't have to be a whole number of pixels
+			int sliceSize = 2*corner + 1;
+			BufferedImage image = getImage(config, paint, paint, shapeFunc, sliceSize, sliceSize, false,
+					g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING),
+					g2d.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL));
+			if(image != null){
+				drawNineSlice(g2d, image, corner, (int) (corner*scale.scaleX()), (int) (corner*scale.scaleY()),
+						width, height);
+				return true;
+			}
+		}
+		
+		// Otherwise draw the image of the whole shape (unless it's a solid color, which is cheaper to fill directly)
+		return !(paint instanceof Color) && drawWholeShape(g2d, config, paint, paint, shapeFunc, width, height);
+	}
+	
+	/**
+	 * Draws the shape filled with the {@link SizablePaint} at (0, 0) using images from the cache, rendering them if
+	 * needed. Solid {@link Color}s are drawn like {@link #drawShape(Graphics2D, Paint, ShapeFunction, int, int)},
+	 * while the images for other paints are keyed on the {@link SizablePaint} and the size, so they're found again
+	 * even if the sized {@link Paint} is built again.
+	 *
+	 * @param g2d The {@link Graphics2D} to draw on
+	 * @param sizablePaint The {@link SizablePaint} to fill the shape with (sized using the {@link TadukooPaintCache})
+	 * @param shapeFunc The {@link ShapeFunction} to build the shape with
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @return Whether the shape was drawn - if not (e.g. the cache is disabled, the sized paint is null, or the shape
+	 * doesn't line up with device pixels), the shape should be filled directly (if there's a paint to fill it with)
+	 */
+	public static boolean drawShape(Graphics2D g2d, SizablePaint sizablePaint, ShapeFunction shapeFunc,
+	                                int width, int height){
+		Paint paint = TadukooPaintCache.getPaint(sizablePaint, width, height);
+		if(paint == null){
+			return false;
+		}else if(paint instanceof Color){
+			return drawShape(g2d, paint, shapeFunc, width, height);
+		}
+		GraphicsConfiguration config = g2d.getDeviceConfiguration();
+		DeviceScale scale;
+		synchronized(lock){
+			if(budget == 0){
+				return false;
+			}
+			scale = getDeviceScale(config);
+		}
+		return isPixelAligned(g2d, scale) &&
+				drawWholeShape(g2d, config, sizablePaint, paint, shapeFunc, width, height);
+	}
+	
+	/**
+	 * Draws the image of the whole shape filled with the paint at (0, 0), rendering it if needed
+	 *
+	 * @param g2d The {@link Graphics2D} to draw on
+	 * @param config The {@link GraphicsConfiguration} of the {@link Graphics2D} (may be null)
+	 * @param paintKey The {@link SizablePaint} or {@link Paint} to key the image on
+	 * @param paint The {@link Paint} to fill the shape with
+	 * @param shapeFunc The {@link ShapeFunction} to build the shape with
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @return Whether the shape was drawn
+	 */
+	private static boolean drawWholeShape(Graphics2D g2d, GraphicsConfiguration config, Object paintKey, Paint paint,
+	                                      ShapeFunction shapeFunc, int width, int height){
+		BufferedImage image = getImage(config, paintKey, paint, shapeFunc, width, height, true,
+				g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING),
+				g2d.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL));
+		if(image == null){
+			return false;
+		}
+		// The image is at the device scale, so draw it at the shape size
+		g2d.drawImage(image, 0, 0, width, height, null);
+		return true;
+	}
+	
+	/**
+	 * @param g2d The {@link Graphics2D} to draw on
+	 * @param scale The scale of the device being drawn on
+	 * @return Whether (0, 0) lands on a device pixel and the {@link Graphics2D} isn't scaled (beyond the device
+	 * scale) or rotated, so that images at the device scale line up with the device pixels
+	 */
+	private static boolean isPixelAligned(Graphics2D g2d, DeviceScale scale){
+		AffineTransform transform = g2d.getTransform();
+		return transform.getShearX() == 0 && transform.getShearY() == 0 &&
+				transform.getScaleX() == scale.scaleX() && transform.getScaleY() == scale.scaleY() &&
+				isWhole(transform.getTranslateX()) && isWhole(transform.getTranslateY());
+	}
+	
+	/**
+	 * @param value A size or position in device pixels
+	 * @return Whether the value is a whole number of pixels
+	 */
+	private static boolean isWhole(double value){
+		return value == Math.rint(value);
+	}
+	
+	/**
+	 * @param paint The {@link Paint} the shape is filled with
+	 * @param shapeFunc The {@link ShapeFunction} that builds the shape
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @param scale The scale of the device being drawn on
+	 * @return The corner size to use for nine-slice rendering, or -1 if it can't be used (the shape isn't
+	 * registered, the paint isn't a solid {@link Color}, the shape is too small for the corners, or the corners
+	 * or the size don't line up with device pixels)
+	 */
+	private static int getNineSliceCorner(Paint paint, ShapeFunction shapeFunc, int width, int height,
+	                                      DeviceScale scale){
+		Integer corner = nineSliceCorners.get(shapeFunc);
+		if(corner == null || !(paint instanceof Color) || width < 2*corner + 1 || height < 2*corner + 1){
+			return -1;
+		}
+		double cornerX = corner*scale.scaleX();
+		double cornerY = corner*scale.scaleY();
+		if(!isWhole(cornerX) || !isWhole(cornerY) ||
+				!isWhole(width*scale.scaleX()) || !isWhole(height*scale.scaleY())){
+			return -1;
+		}
+		return corner;
+	}
+	
+	/**
+	 * Draws the given nine-slice image at (0, 0): the corners as-is, and the edges and center stretched
+	 *
+	 * @param g2d The {@link Graphics2D} to draw on
+	 * @param image The nine-slice image
+	 * @param corner The corner size, in units
+	 * @param cornerPixelsX The corner width, in pixels of the image
+	 * @param cornerPixelsY The corner height, in pixels of the image
+	 * @param width The width to draw the image at
+	 * @param height The height to draw the image at
+	 */
+	private static void drawNineSlice(Graphics2D g2d, BufferedImage image, int corner,
+	                                  int cornerPixelsX, int cornerPixelsY, int width, int height){
+		int imageWidth = image.getWidth();
+		int imageHeight = image.getHeight();
+		for(int row = 0; row < 3; row++){
+			int dy1 = sliceEdge(row, corner, height);
+			int dy2 = sliceEdge(row + 1, corner, height);
+			int sy1 = sliceEdge(row, cornerPixelsY, imageHeight);
+			int sy2 = sliceEdge(row + 1, cornerPixelsY, imageHeight);
+			for(int col = 0; col < 3; col++){
+				int dx1 = sliceEdge(col, corner, width);
+				int dx2 = sliceEdge(col + 1, corner, width);
+				int sx1 = sliceEdge(col, cornerPixelsX, imageWidth);
+				int sx2 = sliceEdge(col + 1, cornerPixelsX, imageWidth);
+				g2d.drawImage(image, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, null);
+			}
+		}
+	}
+	
+	/**
+	 * @param index The index of the edge (0 to 3)
+	 * @param corner The corner size
+	 * @param size The full size
+	 * @return The position of the given edge between the slices
+	 */
+	private static int sliceEdge(int index, int corner, int size){
+		return switch(index){
+			case 0 -> 0;
+			case 1 -> corner;
+			case 2 -> size - corner;
+			default -> size;
+		};
+	}
+	
+	/**
+	 * @param config A {@link GraphicsConfiguration} (may be null)
+	 * @return The scale of the {@link GraphicsConfiguration}'s device
+	 */
+	private static DeviceScale getDeviceScale(GraphicsConfiguration config){
+		if(config == null){
+			return UNSCALED;
+		}
+		DeviceScale scale = deviceScales.get(config);
+		if(scale == null){
+			AffineTransform transform = config.getDefaultTransform();
+			scale = new DeviceScale(transform.getScaleX(), transform.getScaleY());
+			deviceScales.put(config, scale);
+		}
+		return scale;
+	}
+	
+	/**
+	 * Grabs the image of the shape filled with the paint from the cache, or renders it (and caches it) if it's not
+	 * there. The image is rendered at the device scale of the given {@link GraphicsConfiguration}, so it should be
+	 * drawn with the given width and height rather than its own size. At fractional scales, sizes that don't scale
+	 * to a whole number of device pixels aren't cached, as the image would be stretched (and blurry) when drawn. The
+	 * image is rendered with the default rendering hints.
+	 *
+	 * @param config The {@link GraphicsConfiguration} the image will be drawn on (may be null for unscaled images)
+	 * @param paint The {@link Paint} to fill the shape with
+	 * @param shapeFunc The {@link ShapeFunction} to build the shape with
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @return The image of the filled shape, or {@code null} if it can't be cached (the cache is disabled, the
+	 * image is empty or bigger than the budget, or the size isn't a whole number of device pixels)
+	 */
+	public static BufferedImage getImage(GraphicsConfiguration config, Paint paint, ShapeFunction shapeFunc,
+	                                     int width, int height){
+		return getImage(config, paint, paint, shapeFunc, width, height, true, null, null);
+	}
+	
+	/**
+	 * Grabs the image of the shape filled with the paint from the cache, or renders it (and caches it) if it's not
+	 * there, like {@link #getImage(GraphicsConfiguration, Paint, ShapeFunction, int, int)}. The image is rendered
+	 * outside of the lock, so other threads can keep using the cache in the meantime.
+	 *
+	 * @param config The {@link GraphicsConfiguration} the image will be drawn on (may be null for unscaled images)
+	 * @param paintKey The {@link SizablePaint} or {@link Paint} to key the image on
+	 * @param paint The {@link Paint} to fill the shape with
+	 * @param shapeFunc The {@link ShapeFunction} to build the shape with
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @param wholePixels Whether the size has to be a whole number of device pixels (otherwise it's rounded up)
+	 * @param antialiasing The antialiasing hint to render the image with (may be null for the default)
+	 * @param strokeControl The stroke control hint to render the image with (may be null for the default)
+	 * @return The image of the filled shape, or {@code null} if it can't be cached
+	 */
+	private static BufferedImage getImage(GraphicsConfiguration config, Object paintKey, Paint paint,
+	                                      ShapeFunction shapeFunc, int width, int height, boolean wholePixels,
+	                                      Object antialiasing, Object strokeControl){
+		if(width <= 0 || height <= 0){
+			return null;
+		}
+		DeviceScale scale;
+		int pixelWidth;
+		int pixelHeight;
+		long bytes;
+		synchronized(lock){
+			if(budget == 0){
+				return null;
+			}
+			scale = getDeviceScale(config);
+			if(wholePixels && (!isWhole(width*scale.scaleX()) || !isWhole(height*scale.scaleY()))){
+				return null;
+			}
+			
+			// Check for the image
+			BufferedImage image = findImage(config, paintKey, shapeFunc, width, height, antialiasing, strokeControl);
+			if(image != null){
+				hits++;
+				return image;
+			}
+			
+			// Determine the size of the image in device pixels
+			pixelWidth = (int) Math.ceil(width*scale.scaleX());
+			pixelHeight = (int) Math.ceil(height*scale.scaleY());
+			bytes = (long) pixelWidth*pixelHeight*BYTES_PER_PIXEL;
+			if(bytes > budget){
+				return null;
+			}
+			misses++;
+		}
+		
+		// Render the image outside of the lock
+		BufferedImage image = render(config, scale, paint, shapeFunc, width, height, pixelWidth, pixelHeight,
+				antialiasing, strokeControl);
+		
+		synchronized(lock){
+			// Another thread may have rendered the same image in the meantime
+			BufferedImage cached = findImage(config, paintKey, shapeFunc, width, height, antialiasing, strokeControl);
+			if(cached != null){
+				return cached;
+			}
+			// The budget may have shrunk in the meantime, in which case the image is just used once
+			if(bytes > budget){
+				return image;
+			}
+			
+			// Make room for the image, then cache it
+			evictUntilUnder(budget - bytes);
+			RasterKey key = new RasterKey();
+			key.set(config, paintKey, shapeFunc, width, height, antialiasing, strokeControl);
+			images.put(key, image);
+			usedBytes += bytes;
+		}
+		return image;
+	}
+	
+	/**
+	 * Looks for an image in the cache (only call while holding the lock)
+	 *
+	 * @param config The {@link GraphicsConfiguration} the image is compatible with (may be null)
+	 * @param paintKey The {@link SizablePaint} or {@link Paint} the image is keyed on
+	 * @param shapeFunc The {@link ShapeFunction} that builds the shape
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @param antialiasing The antialiasing hint the image is rendered with (may be null)
+	 * @param strokeControl The stroke control hint the image is rendered with (may be null)
+	 * @return The cached image, or {@code null} if it's not in the cache
+	 */
+	private static BufferedImage findImage(GraphicsConfiguration config, Object paintKey, ShapeFunction shapeFunc,
+	                                       int width, int height, Object antialiasing, Object strokeControl){
+		lookupKey.set(config, paintKey, shapeFunc, width, height, antialiasing, strokeControl);
+		BufferedImage image = images.get(lookupKey);
+		// Don't keep the configuration, paint, and shape function reachable from the lookup key
+		lookupKey.set(null, null, null, 0, 0, null, null);
+		return image;
+	}
+	
+	/**
+	 * Renders the shape filled with the paint into a new image at the device scale
+	 *
+	 * @param config The {@link GraphicsConfiguration} to make the image compatible with (may be null)
+	 * @param scale The scale of the {@link GraphicsConfiguration}'s device
+	 * @param paint The {@link Paint} to fill the shape with
+	 * @param shapeFunc The {@link ShapeFunction} to build the shape with
+	 * @param width The width of the shape
+	 * @param height The height of the shape
+	 * @param pixelWidth The width of the image in device pixels
+	 * @param pixelHeight The height of the image in device pixels
+	 * @param antialiasing The antialiasing hint to render the image with (may be null for the default)
+	 * @param strokeControl The stroke control hint to render the image with (may be null for the default)
+	 * @return The image of the filled shape
+	 */
+	private static BufferedImage render(GraphicsConfiguration config, DeviceScale scale, Paint paint,
+	                                    ShapeFunction shapeFunc, int width, int height,
+	                                    int pixelWidth, int pixelHeight, Object antialiasing, Object strokeControl){
+		BufferedImage image = config == null?
+				new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB_PRE):
+				config.createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT);
+		Graphics2D g2d = image.createGraphics();
+		try{
+			// Use the same hints as the Graphics2D being drawn on, so the image matches filling the shape directly
+			if(antialiasing != null){
+				g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+			}
+			if(strokeControl != null){
+				g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, strokeControl);
+			}
+			g2d.scale(scale.scaleX(), scale.scaleY());
+			g2d.setPaint(paint);
+			g2d.fill(shapeFunc.apply(0, 0, width, height));
+		}finally{
+			g2d.dispose();
+		}
+		return image;
+	}
+	
+	/**
+	 * Evicts the least recently used images until the cached images use at most the given number of bytes
+	 *
+	 * @param maxBytes The maximum number of bytes the cached images should use
+	 */
+	private static void evictUntilUnder(long maxBytes){
+		Iterator<BufferedImage> it = images.values().iterator();
+		while(usedBytes > maxBytes && it.hasNext()){
+			BufferedImage image = it.next();
+			usedBytes -= (long) image.getWidth()*image.getHeight()*BYTES_PER_PIXEL;
+			it.remove();
+			evictions++;
+		}
+	}
+	
+	/*
+	 * Nine-Slice Registration
+	 */
+	
+	/**
+	 * @param shapeFunc A {@link ShapeFunction}
+	 * @return The corner size (the arc radius, rounded up) to register the shape for nine-slice rendering with if it
+	 * builds rounded rectangles with the same arc at any size, or -1 if it doesn't
+	 */
+	static int getFixedCornerSize(ShapeFunction shapeFunc){
+		Shape small = shapeFunc.apply(0, 0, 100, 100);
+		Shape big = shapeFunc.apply(0, 0, 200, 150);
+		if(small instanceof RoundRectangle2D smallRect && big instanceof RoundRectangle2D bigRect &&
+				smallRect.getArcWidth() > 0 && smallRect.getArcHeight() > 0 &&
+				smallRect.getArcWidth() == bigRect.getArcWidth() && smallRect.getArcHeight() == bigRect.getArcHeight()){
+			return (int) Math.ceil(Math.max(smallRect.getArcWidth(), smallRect.getArcHeight())/2);
+		}
+		return -1;
+	}
+	
+	/**
+	 * Registers the given shape for nine-slice rendering. Only register shapes whose corners are the same at any size
+	 * (and whose edges don't change along their length), or backgrounds will be drawn wrong. Shapes without corners
+	 * (e.g. plain rectangles) shouldn't be registered, as drawing one image is cheaper than drawing 9 pieces.
+	 *
+	 * @param shapeInfo The {@link ShapeInfo} of the shape
+	 * @param cornerSize The size of the shape's corners (e.g. the arc radius of a rounded rectangle)
+	 */
+	public static void registerNineSlice(ShapeInfo shapeInfo, int cornerSize){
+		if(cornerSize <= 0){
+			throw new IllegalArgumentException("Nine-slice corner size must be positive: " + cornerSize);
+		}
+		synchronized(lock){
+			nineSliceCorners.put(shapeInfo.getShapeFunc(), cornerSize);
+		}
+	}
+	
+	/**
+	 * Unregisters the given shape from nine-slice rendering, so it's always drawn as an image of the whole shape
+	 *
+	 * @param shapeInfo The {@link ShapeInfo} of the shape
+	 */
+	public static void unregisterNineSlice(ShapeInfo shapeInfo){
+		synchronized(lock){
+			nineSliceCorners.remove(shapeInfo.getShapeFunc());
+		}
+	}
+	
+	/**
+	 * @param shapeInfo The {@link ShapeInfo} of a shape
+	 * @return The corner size the shape is registered for nine-slice rendering with, or -1 if it's not registered
+	 */
+	public static int getNineSliceCornerSize(ShapeInfo shapeInfo){
+		synchronized(lock){
+			Integer corner = nineSliceCorners.get(shapeInfo.getShapeFunc());
+			return corner == null?-1:corner;
+		}
+	}
+	
+	/*
+	 * Cache Management
+	 */
+	
+	/**
+	 * @return The memory budget for the cached images, in bytes (0 if the cache is disabled)
+	 */
+	public static long getBudget(){
+		synchronized(lock){
+			return budget;
+		}
+	}
+	
+	/**
+	 * Sets the memory budget for the cached images, evicting the least recently used ones if they currently use more.
+	 * A budget of 0 disables the cache.
+	 *
+	 * @param newBudget The memory budget for the cached images, in bytes
+	 */
+	public static void setBudget(long newBudget){
+		if(newBudget < 0){
+			throw new IllegalArgumentException("Raster cache budget must not be negative: " + newBudget);
+		}
+		synchronized(lock){
+			budget = newBudget;
+			evictUntilUnder(budget);
+		}
+	}
+	
+	/**
+	 * @return The number of bytes used by the cached images
+	 */
+	public static long getUsedBytes(){
+		synchronized(lock){
+			return usedBytes;
+		}
+	}
+	
+	/**
+	 * @return The number of images currently in the cache
+	 */
+	public static int size(){
+		synchronized(lock){
+			return images.size();
+		}
+	}
+	
+	/**
+	 * Removes all images from the cache
+	 */
+	public static void clear(){
+		synchronized(lock){
+			images.clear();
+			usedBytes = 0;
+		}
+	}
+	
+	/*
+	 * Statistics
+	 */
+	
+	/**
+	 * @return The number of lookups that found their image in the cache
+	 */
+	public static long getHits(){
+		synchronized(lock){
+			return hits;
+		}
+	}
+	
+	/**
+	 * @return The number of lookups that had to render their image
+	 */
+	public static long getMisses(){
+		synchronized(lock){
+			return misses;
+		}
+	}
+	
+	/**
+	 * @return The number of images that were evicted to stay under the budget
+	 */
+	public static long getEvictions(){
+		synchronized(lock){
+			return evictions;
+		}
+	}
+	
+	/**
+	 * Resets the hit, miss, and eviction counts to 0
+	 */
+	public static void resetStats(){
+		synchronized(lock){
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+		}
+	}
+}
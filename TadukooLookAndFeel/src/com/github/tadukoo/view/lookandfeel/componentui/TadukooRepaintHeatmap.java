@@ -0,0 +1,535 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import javax.swing.JComponent;
+import javax.swing.JLayer;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.plaf.LayerUI;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tadukoo Repaint Heatmap is a debug overlay that shows how often the components painted by the Tadukoo Component
+ * UIs repaint, and how long their paints take. It counts the repaints of each component over a sliding window
+ * (1 second by default) and draws a translucent heatmap over them: the hue goes from green to red as a component
+ * repaints more often (red is {@link #HOT_REPAINTS_PER_SECOND} or more), and the heat gets more opaque as the
+ * component's paints take longer (most opaque at {@link #HOT_PAINT_MILLIS_PER_SECOND} of painting a second). This
+ * makes components that repaint far more than needed (e.g. from focus or rollover storms) easy to spot.
+ * <br><br>
+ * The overlay is a {@link LayerUI}, to be put in a {@link JLayer} around the components to watch:
+ * <pre>{@code
+ * frame.setContentPane(new JLayer<>(contentPane, TadukooRepaintHeatmap.createLayerUI()));
+ * }</pre>
+ * Repaints are only counted while an overlay is installed, and while none is, each paint only checks a single
+ * volatile flag. The counters are kept in an open addressing map keyed by the components' identity hash codes,
+ * stored in primitive arrays, so counting a repaint doesn't allocate anything (besides a weak reference the first
+ * time a component is seen). Like the rest of Swing, the counters are only used on the Event Dispatch Thread, and
+ * paints on other threads (e.g. into images) aren't counted. The overlay only repaints the components with heat as
+ * it fades, and stops refreshing once none of its components have any (until one is repainted again).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooRepaintHeatmap{
+	/** The default length of the sliding window repaints are counted over, in milliseconds */
+	public static final long DEFAULT_WINDOW_MILLIS = 1000;
+	/** The repaint rate shown in the hottest color */
+	public static final int HOT_REPAINTS_PER_SECOND = 30;
+	/** The paint time (in milliseconds of painting per second) shown most opaque */
+	public static final int HOT_PAINT_MILLIS_PER_SECOND = 5;
+	/** How often the overlay refreshes, in milliseconds */
+	private static final int REFRESH_MILLIS = 250;
+	/** The value {@link #start()} gives when the paint isn't being counted */
+	private static final long NOT_COUNTING = Long.MIN_VALUE;
+	/** The number of buckets in the sliding window */
+	private static final int BUCKETS = 10;
+	/** The initial capacity of the counters map */
+	private static final int INITIAL_CAPACITY = 64;
+	/** The number of hues in the heatmap, from green to red */
+	private static final int HUES = 16;
+	/** The number of alphas in the heatmap, from translucent to mostly opaque */
+	private static final int ALPHAS = 8;
+	/** The colors of the heatmap, indexed by hue and then alpha (so painting the heatmap doesn't create any) */
+	private static final Color[][] PALETTE = createPalette();
+	
+	/** Whether repaints are being counted (while at least one overlay is installed) */
+	private static volatile boolean enabled;
+	/** The installed overlays */
+	private static final List<HeatmapLayerUI> installedOverlays = new ArrayList<>();
+	/** Whether an installed overlay stopped refreshing because none of its components had heat */
+	private static boolean overlaysIdle;
+	/** Whether an overlay is refreshing, so that the repaints it causes aren't counted */
+	private static boolean refreshing;
+	/** The length of a bucket of the sliding window, in nanoseconds */
+	private static long bucketNanos = DEFAULT_WINDOW_MILLIS*1000000/BUCKETS;
+	
+	/*
+	 * The counters map - only used on the Event Dispatch Thread
+	 */
+	
+	/** The number of slots in use in the map */
+	private static int size;
+	/** The identity hash codes of the components in each slot */
+	private static int[] hashes;
+	/** The components in each slot ({@code null} for empty slots) */
+	private static WeakReference<Component>[] components;
+	/** The last bucket each slot was painted in */
+	private static long[] lastEpochs;
+	/** The bucket (as {@link System#nanoTime()} / {@link #bucketNanos}) held in each bucket of each slot */
+	private static long[] bucketEpochs;
+	/** The number of repaints in each bucket of each slot */
+	private static int[] bucketCounts;
+	/** The paint time in each bucket of each slot, in nanoseconds */
+	private static long[] bucketPaintNanos;
+	
+	static{
+		allocate(INITIAL_CAPACITY);
+	}
+	
+	/** Not allowed to create a Tadukoo Repaint Heatmap */
+	private TadukooRepaintHeatmap(){ }
+	
+	/*
+	 * Counting
+	 */
+	
+	/**
+	 * Starts timing a paint
+	 *
+	 * @return The start time to pass to {@link #record(Component, long)} once the component is painted
+	 */
+	public static long start(){
+		return enabled && SwingUtilities.isEventDispatchThread() && !refreshing?System.nanoTime():NOT_COUNTING;
+	}
+	
+	/**
+	 * Counts a repaint that was started with {@link #start()} (does nothing if the paint wasn't being counted at the
+	 * start)
+	 *
+	 * @param c The painted component
+	 * @param start The start time given by {@link #start()}
+	 */
+	public static void record(Component c, long start){
+		if(start == NOT_COUNTING){
+			return;
+		}
+		long now = System.nanoTime();
+		long epoch = Math.floorDiv(now, bucketNanos);
+		
+		// Find the component's slot, adding it if it's new
+		int hash = System.identityHashCode(c);
+		int slot = findSlot(c, hash);
+		if(slot < 0){
+			if((size + 1)*4 > hashes.length*3){
+				rebuild(epoch);
+				slot = findSlot(c, hash);
+			}
+			slot = ~slot;
+			hashes[slot] = hash;
+			components[slot] = new WeakReference<>(c);
+			size++;
+		}
+		lastEpochs[slot] = epoch;
+		
+		// Count the repaint in the current bucket, clearing it if it's left over from an earlier window
+		int bucket = slot*BUCKETS + Math.floorMod(epoch, BUCKETS);
+		if(bucketEpochs[bucket] != epoch){
+			bucketEpochs[bucket] = epoch;
+			bucketCounts[bucket] = 0;
+			bucketPaintNanos[bucket] = 0;
+		}
+		bucketCounts[bucket]++;
+		bucketPaintNanos[bucket] += Math.max(0, now - start);
+		
+		// Start refreshing the overlays again so they show the new heat
+		if(overlaysIdle){
+			wakeOverlays(epoch);
+		}
+	}
+	
+	/**
+	 * @param c A {@link Component}
+	 * @param hash The identity hash code of the component
+	 * @return The slot of the component, or the bitwise complement of the empty slot where it would go
+	 */
+	private static int findSlot(Component c, int hash){
+		int mask = hashes.length - 1;
+		int slot = (hash*0x9E3779B9) & mask;
+		while(components[slot] != null){
+			if(hashes[slot] == hash && components[slot].get() == c){
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return ~slot;
+	}
+	
+	/**
+	 * Rebuilds the counters map without the components that were garbage collected or haven't been painted in the
+	 * current window, growing it if it's still over half full
+	 *
+	 * @param epoch The current bucket
+	 */
+	private static void rebuild(long epoch){
+		int[] oldHashes = hashes;
+		WeakReference<Component>[] oldComponents = components;
+		long[] oldLastEpochs = lastEpochs;
+		long[] oldBucketEpochs = bucketEpochs;
+		int[] oldBucketCounts = bucketCounts;
+		long[] oldBucketPaintNanos = bucketPaintNanos;
+		
+		// Find out how many components to keep
+		int kept = 0;
+		for(int slot = 0; slot < oldHashes.length; slot++){
+			if(isLive(oldComponents[slot], oldLastEpochs[slot], epoch)){
+				kept++;
+			}
+		}
+		int capacity = oldHashes.length;
+		while((kept + 1)*2 > capacity){
+			capacity *= 2;
+		}
+		
+		// Copy them into the new map
+		allocate(capacity);
+		for(int oldSlot = 0; oldSlot < oldHashes.length; oldSlot++){
+			if(!isLive(oldComponents[oldSlot], oldLastEpochs[oldSlot], epoch)){
+				continue;
+			}
+			int slot = ~findSlot(oldComponents[oldSlot].get(), oldHashes[oldSlot]);
+			hashes[slot] = oldHashes[oldSlot];
+			components[slot] = oldComponents[oldSlot];
+			lastEpochs[slot] = oldLastEpochs[oldSlot];
+			System.arraycopy(oldBucketEpochs, oldSlot*BUCKETS, bucketEpochs, slot*BUCKETS, BUCKETS);
+			System.arraycopy(oldBucketCounts, oldSlot*BUCKETS, bucketCounts, slot*BUCKETS, BUCKETS);
+			System.arraycopy(oldBucketPaintNanos, oldSlot*BUCKETS, bucketPaintNanos, slot*BUCKETS, BUCKETS);
+			size++;
+		}
+	}
+	
+	/**
+	 * @param component The component reference in a slot
+	 * @param lastEpoch The last bucket the slot was painted in
+	 * @param epoch The current bucket
+	 * @return Whether the slot is worth keeping (its component is still around and was painted in the window)
+	 */
+	private static boolean isLive(WeakReference<Component> component, long lastEpoch, long epoch){
+		return component != null && component.get() != null && lastEpoch > epoch - BUCKETS;
+	}
+	
+	/**
+	 * Allocates an empty counters map
+	 *
+	 * @param capacity The number of slots in the map (a power of 2)
+	 */
+	@SuppressWarnings("unchecked")
+	private static void allocate(int capacity){
+		size = 0;
+		hashes = new int[capacity];
+		components = (WeakReference<Component>[]) new WeakReference<?>[capacity];
+		lastEpochs = new long[capacity];
+		bucketEpochs = new long[capacity*BUCKETS];
+		Arrays.fill(bucketEpochs, Long.MIN_VALUE);
+		bucketCounts = new int[capacity*BUCKETS];
+		bucketPaintNanos = new long[capacity*BUCKETS];
+	}
+	
+	/*
+	 * Counters
+	 */
+	
+	/**
+	 * @param c A {@link Component}
+	 * @return The number of times the component was repainted in the current window
+	 */
+	public static int getRepaintCount(Component c){
+		int slot = findSlot(c, System.identityHashCode(c));
+		return slot < 0?0:getRepaintCount(slot, Math.floorDiv(System.nanoTime(), bucketNanos));
+	}
+	
+	/**
+	 * @param c A {@link Component}
+	 * @return The time spent painting the component in the current window, in nanoseconds
+	 */
+	public static long getPaintNanos(Component c){
+		int slot = findSlot(c, System.identityHashCode(c));
+		return slot < 0?0:getPaintNanos(slot, Math.floorDiv(System.nanoTime(), bucketNanos));
+	}
+	
+	/**
+	 * @param slot A slot in the counters map
+	 * @param epoch The current bucket
+	 * @return The number of repaints counted in the slot in the current window
+	 */
+	private static int getRepaintCount(int slot, long epoch){
+		int count = 0;
+		for(int bucket = slot*BUCKETS; bucket < (slot + 1)*BUCKETS; bucket++){
+			if(bucketEpochs[bucket] > epoch - BUCKETS){
+				count += bucketCounts[bucket];
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * @param slot A slot in the counters map
+	 * @param epoch The current bucket
+	 * @return The paint time counted in the slot in the current window, in nanoseconds
+	 */
+	private static long getPaintNanos(int slot, long epoch){
+		long nanos = 0;
+		for(int bucket = slot*BUCKETS; bucket < (slot + 1)*BUCKETS; bucket++){
+			if(bucketEpochs[bucket] > epoch - BUCKETS){
+				nanos += bucketPaintNanos[bucket];
+			}
+		}
+		return nanos;
+	}
+	
+	/**
+	 * Removes all the counted repaints
+	 */
+	public static void clear(){
+		allocate(INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * @return Whether repaints are being counted (while at least one overlay is installed)
+	 */
+	public static boolean isEnabled(){
+		return enabled;
+	}
+	
+	/**
+	 * @return The length of the sliding window repaints are counted over, in milliseconds
+	 */
+	public static long getWindowMillis(){
+		return bucketNanos*BUCKETS/1000000;
+	}
+	
+	/**
+	 * Sets the length of the sliding window repaints are counted over, and removes all the counted repaints
+	 *
+	 * @param windowMillis The length of the sliding window, in milliseconds
+	 */
+	public static void setWindowMillis(long windowMillis){
+		if(windowMillis <= 0){
+			throw new IllegalArgumentException("Repaint window must be positive: " + windowMillis);
+		}
+		bucketNanos = windowMillis*1000000/BUCKETS;
+		clear();
+	}
+	
+	/*
+	 * Overlay
+	 */
+	
+	/**
+	 * Creates a new heatmap overlay, to be put in a {@link JLayer}. Each {@link JLayer} needs its own overlay.
+	 *
+	 * @return A new heatmap overlay
+	 */
+	public static LayerUI<JComponent> createLayerUI(){
+		return new HeatmapLayerUI();
+	}
+	
+	/**
+	 * Starts refreshing the installed overlays that stopped because none of their components had heat
+	 *
+	 * @param epoch The current bucket
+	 */
+	private static void wakeOverlays(long epoch){
+		overlaysIdle = false;
+		synchronized(TadukooRepaintHeatmap.class){
+			for(HeatmapLayerUI overlay: installedOverlays){
+				overlay.startRefreshing(epoch);
+			}
+		}
+	}
+	
+	/**
+	 * The {@link LayerUI} that draws the heatmap over the components in its {@link JLayer}, and refreshes the
+	 * components with heat every {@link #REFRESH_MILLIS} milliseconds so the heat fades as the window slides
+	 */
+	static final class HeatmapLayerUI extends LayerUI<JComponent>{
+		/** The {@link JLayer} the overlay is installed on */
+		private JComponent layer;
+		/** The timer that refreshes the overlay */
+		private Timer refreshTimer;
+		/** Whether the next paint is the overlay refreshing */
+		private boolean refreshPending;
+		/** The bucket the overlay was last refreshed in */
+		private long lastRefreshEpoch;
+		/** The bounds of a component in the layer, reused when refreshing */
+		private final Rectangle refreshBounds = new Rectangle();
+		
+		/** {@inheritDoc} */
+		@Override
+		public void installUI(JComponent c){
+			super.installUI(c);
+			layer = c;
+			refreshTimer = new Timer(REFRESH_MILLIS, e -> refresh());
+			startRefreshing(Math.floorDiv(System.nanoTime(), bucketNanos));
+			synchronized(TadukooRepaintHeatmap.class){
+				installedOverlays.add(this);
+				enabled = true;
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void uninstallUI(JComponent c){
+			refreshTimer.stop();
+			refreshTimer = null;
+			layer = null;
+			synchronized(TadukooRepaintHeatmap.class){
+				installedOverlays.remove(this);
+				enabled = !installedOverlays.isEmpty();
+			}
+			super.uninstallUI(c);
+		}
+		
+		/**
+		 * @return Whether the overlay is refreshing (it stops once none of its components have heat)
+		 */
+		boolean isRefreshing(){
+			return refreshTimer != null && refreshTimer.isRunning();
+		}
+		
+		/**
+		 * Starts the timer that refreshes the overlay if it's not running
+		 *
+		 * @param epoch The current bucket
+		 */
+		private void startRefreshing(long epoch){
+			if(refreshTimer != null && !refreshTimer.isRunning()){
+				lastRefreshEpoch = epoch;
+				refreshTimer.start();
+			}
+		}
+		
+		/**
+		 * Repaints the components in the layer that had heat at the last refresh (so that their heat fades, or is
+		 * cleared once it's gone), and stops refreshing if there aren't any
+		 */
+		private void refresh(){
+			long epoch = Math.floorDiv(System.nanoTime(), bucketNanos);
+			boolean refreshed = false;
+			for(int slot = 0; slot < components.length; slot++){
+				Component c = components[slot] == null?null:components[slot].get();
+				if(c != null && lastEpochs[slot] > lastRefreshEpoch - BUCKETS &&
+						getBoundsInLayer(c, layer, refreshBounds)){
+					refreshPending = true;
+					layer.repaint(refreshBounds);
+					refreshed = true;
+				}
+			}
+			lastRefreshEpoch = epoch;
+			if(!refreshed){
+				refreshTimer.stop();
+				overlaysIdle = true;
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void paint(Graphics g, JComponent c){
+			// Don't count the repaints caused by refreshing the overlay
+			refreshing = refreshPending && SwingUtilities.isEventDispatchThread();
+			refreshPending = false;
+			try{
+				super.paint(g, c);
+			}finally{
+				refreshing = false;
+			}
+			
+			if(SwingUtilities.isEventDispatchThread()){
+				paintHeatmap((Graphics2D) g, c);
+			}
+		}
+	}
+	
+	/**
+	 * Finds the bounds of the given component in the given layer
+	 *
+	 * @param c A {@link Component}
+	 * @param layer The {@link JLayer} the heatmap is drawn over
+	 * @param bounds The {@link Rectangle} to put the bounds in
+	 * @return Whether the component is shown in the layer (if not, the bounds aren't set)
+	 */
+	private static boolean getBoundsInLayer(Component c, JComponent layer, Rectangle bounds){
+		int x = 0;
+		int y = 0;
+		Component ancestor = c;
+		while(ancestor != null && ancestor != layer && ancestor.isVisible()){
+			x += ancestor.getX();
+			y += ancestor.getY();
+			ancestor = ancestor.getParent();
+		}
+		if(ancestor != layer){
+			return false;
+		}
+		bounds.setBounds(x, y, c.getWidth(), c.getHeight());
+		return true;
+	}
+	
+	/**
+	 * Draws the heat of each component in the given layer that was repainted in the current window (skipping those
+	 * outside of the {@link Graphics2D}'s clip)
+	 *
+	 * @param g2d The {@link Graphics2D} to draw with
+	 * @param layer The {@link JLayer} the heatmap is drawn over
+	 */
+	private static void paintHeatmap(Graphics2D g2d, JComponent layer){
+		long epoch = Math.floorDiv(System.nanoTime(), bucketNanos);
+		double windowSeconds = bucketNanos*BUCKETS/1.0e9;
+		Rectangle clip = g2d.getClipBounds();
+		Rectangle bounds = new Rectangle();
+		for(int slot = 0; slot < components.length; slot++){
+			Component c = components[slot] == null?null:components[slot].get();
+			if(c == null){
+				continue;
+			}
+			int count = getRepaintCount(slot, epoch);
+			if(count == 0){
+				continue;
+			}
+			
+			// Find the component's bounds in the layer (skipping those outside of it, hidden, or outside the clip)
+			if(!getBoundsInLayer(c, layer, bounds) || (clip != null && !clip.intersects(bounds))){
+				continue;
+			}
+			
+			// Pick the color by the repaint rate and paint time
+			double repaintsPerSecond = count/windowSeconds;
+			double paintMillisPerSecond = getPaintNanos(slot, epoch)/1.0e6/windowSeconds;
+			int hue = (int) Math.min(HUES - 1, repaintsPerSecond*(HUES - 1)/HOT_REPAINTS_PER_SECOND);
+			int alpha = (int) Math.min(ALPHAS - 1, paintMillisPerSecond*(ALPHAS - 1)/HOT_PAINT_MILLIS_PER_SECOND);
+			g2d.setColor(PALETTE[hue][alpha]);
+			g2d.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+		}
+	}
+	
+	/**
+	 * @return The colors of the heatmap, indexed by hue (from green to red) and then alpha (from 25% to 70%)
+	 */
+	private static Color[][] createPalette(){
+		Color[][] palette = new Color[HUES][ALPHAS];
+		for(int hue = 0; hue < HUES; hue++){
+			Color color = Color.getHSBColor((HUES - 1 - hue)/(3f*(HUES - 1)), 1, 1);
+			for(int alpha = 0; alpha < ALPHAS; alpha++){
+				palette[hue][alpha] = new Color(color.getRed(), color.getGreen(), color.getBlue(),
+						64 + alpha*16);
+			}
+		}
+		return palette;
+	}
+}
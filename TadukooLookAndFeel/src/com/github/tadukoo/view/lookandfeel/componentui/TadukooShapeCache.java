@@ -0,0 +1,238 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.shapes.ShapeFunction;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+
+import java.awt.Component;
+import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tadukoo Shape Cache keeps the {@link Shape} last built for each {@link Component} by its {@link ShapeInfo}'s
+ * shape function, so that repainting a component doesn't rebuild its geometry (e.g. a rounded rectangle path)
+ * every frame. A component's {@link Shape} is only built again when its size or the shape function changes.
+ * <br><br>
+ * Components are held weakly, so they can still be garbage collected. To bound the memory used by the cache, it
+ * only holds up to a maximum number of {@link Shape}s - when it's full, the least recently used quarter of them is
+ * evicted. Lookups that hit the cache don't allocate anything. The cache is shared by all Tadukoo component UIs
+ * and is thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooShapeCache{
+	/** The default maximum number of {@link Shape}s the cache holds */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+	
+	/**
+	 * The cached {@link Shape} for a {@link Component}, along with what it was built from
+	 */
+	private static class ShapeEntry{
+		/** The shape function the {@link Shape} was built by */
+		private ShapeFunction shapeFunc;
+		/** The width the {@link Shape} was built for */
+		private int width;
+		/** The height the {@link Shape} was built for */
+		private int height;
+		/** The built {@link Shape} */
+		private Shape shape;
+		/** When the entry was last used, for least recently used eviction */
+		private long lastUsed;
+	}
+	
+	/** The lock used for all access to the cache */
+	private static final Object lock = new Object();
+	/** The cached {@link Shape}s, by {@link Component} (held weakly) */
+	private static final Map<Component, ShapeEntry> shapes = new WeakHashMap<>();
+	/** The maximum number of {@link Shape}s the cache holds */
+	private static int maxSize = DEFAULT_MAX_SIZE;
+	/** Incremented on each use of the cache, to give when entries were last used */
+	private static long clock;
+	
+	/** The number of lookups that found an up-to-date {@link Shape} in the cache */
+	private static long hits;
+	/** The number of lookups that had to build their {@link Shape} */
+	private static long misses;
+	/** The number of {@link Shape}s that were evicted because the cache was full */
+	private static long evictions;
+	
+	/** Not allowed to create a Tadukoo Shape Cache */
+	private TadukooShapeCache(){ }
+	
+	/**
+	 * Grabs the {@link Shape} for the given {@link Component} from the cache, or builds it using the given
+	 * {@link ShapeInfo} (and caches it) if it's not there or if the size or shape function has changed
+	 *
+	 * @param c The {@link Component} the {@link Shape} is for
+	 * @param shapeInfo The {@link ShapeInfo} to build the {@link Shape} with
+	 * @param width The width of the {@link Shape}
+	 * @param height The height of the {@link Shape}
+	 * @return The {@link Shape} at (0, 0) with the given size
+	 */
+	public static Shape getShape(Component c, ShapeInfo shapeInfo, int width, int height){
+		ShapeFunction shapeFunc = shapeInfo.getShapeFunc();
+		synchronized(lock){
+			if(maxSize == 0){
+				misses++;
+				return shapeFunc.apply(0, 0, width, height);
+			}
+			
+			// Check for an up-to-date shape
+			ShapeEntry entry = shapes.get(c);
+			if(entry != null && entry.shapeFunc == shapeFunc && entry.width == width && entry.height == height){
+				hits++;
+				entry.lastUsed = ++clock;
+				return entry.shape;
+			}
+			
+			// Build the shape, reusing the component's entry if it has one
+			misses++;
+			if(entry == null){
+				if(shapes.size() >= maxSize){
+					evictLeastRecentlyUsed();
+				}
+				entry = new ShapeEntry();
+				shapes.put(c, entry);
+			}
+			entry.shapeFunc = shapeFunc;
+			entry.width = width;
+			entry.height = height;
+			entry.shape = shapeFunc.apply(0, 0, width, height);
+			entry.lastUsed = ++clock;
+			return entry.shape;
+		}
+	}
+	
+	/**
+	 * Evicts the least recently used quarter of the {@link Shape}s (at least 1) from the cache
+	 */
+	private static void evictLeastRecentlyUsed(){
+		int toEvict = Math.max(1, shapes.size()/4);
+		
+		// Find the last used time that the evicted entries are older than
+		List<Long> lastUsedTimes = new ArrayList<>(shapes.size());
+		for(ShapeEntry entry: shapes.values()){
+			lastUsedTimes.add(entry.lastUsed);
+		}
+		lastUsedTimes.sort(null);
+		long cutoff = lastUsedTimes.get(Math.min(toEvict, lastUsedTimes.size()) - 1);
+		
+		Iterator<ShapeEntry> it = shapes.values().iterator();
+		while(it.hasNext()){
+			if(it.next().lastUsed <= cutoff){
+				it.remove();
+				evictions++;
+			}
+		}
+	}
+	
+	/**
+	 * Removes the cached {@link Shape} for the given {@link Component}, e.g. when its UI is uninstalled
+	 *
+	 * @param c The {@link Component} to remove the {@link Shape} of
+	 */
+	public static void invalidate(Component c){
+		synchronized(lock){
+			shapes.remove(c);
+		}
+	}
+	
+	/*
+	 * Cache Management
+	 */
+	
+	/**
+	 * @return The maximum number of {@link Shape}s the cache holds (0 if it's disabled)
+	 */
+	public static int getMaxSize(){
+		synchronized(lock){
+			return maxSize;
+		}
+	}
+	
+	/**
+	 * Sets the maximum number of {@link Shape}s the cache holds, evicting the least recently used ones if it
+	 * currently holds more. A maximum size of 0 disables the cache.
+	 *
+	 * @param newMaxSize The maximum number of {@link Shape}s the cache should hold
+	 */
+	public static void setMaxSize(int newMaxSize){
+		if(newMaxSize < 0){
+			throw new IllegalArgumentException("Shape cache max size must not be negative: " + newMaxSize);
+		}
+		synchronized(lock){
+			maxSize = newMaxSize;
+			if(maxSize == 0){
+				shapes.clear();
+			}
+			while(shapes.size() > maxSize){
+				evictLeastRecentlyUsed();
+			}
+		}
+	}
+	
+	/**
+	 * @return The number of {@link Shape}s currently in the cache
+	 */
+	public static int size(){
+		synchronized(lock){
+			return shapes.size();
+		}
+	}
+	
+	/**
+	 * Removes all {@link Shape}s from the cache
+	 */
+	public static void clear(){
+		synchronized(lock){
+			shapes.clear();
+		}
+	}
+	
+	/*
+	 * Statistics
+	 */
+	
+	/**
+	 * @return The number of lookups that found an up-to-date {@link Shape} in the cache
+	 */
+	public static long getHits(){
+		synchronized(lock){
+			return hits;
+		}
+	}
+	
+	/**
+	 * @return The number of lookups that had to build their {@link Shape}
+	 */
+	public static long getMisses(){
+		synchronized(lock){
+			return misses;
+		}
+	}
+	
+	/**
+	 * @return The number of {@link Shape}s that were evicted because the cache was full
+	 */
+	public static long getEvictions(){
+		synchronized(lock){
+			return evictions;
+		}
+	}
+	
+	/**
+	 * Resets the hit, miss, and eviction counts to 0
+	 */
+	public static void resetStats(){
+		synchronized(lock){
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+		}
+	}
+}
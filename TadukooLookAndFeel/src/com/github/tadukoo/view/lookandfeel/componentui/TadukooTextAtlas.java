@@ -0,0 +1,374 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tadukoo Text Atlas is an optional software text renderer for pipelines that don't accelerate text (e.g. remote X11
+ * or software rendering), where drawing the same text again (e.g. every label in a grid, every frame) rasterizes and
+ * blends each glyph again. Instead, each text is rasterized once with its paint into a region of a single shared
+ * atlas image, and drawing it again is one {@code drawImage} of that region. It's off by default, and used by the
+ * Tadukoo Component UIs when {@link TadukooLookAndFeel#TEXT_ATLAS} is on.
+ * <br><br>
+ * Whole texts are kept rather than single glyphs, since the paint (e.g. a gradient) spans the whole text, so a glyph
+ * doesn't look the same in every text - and it takes a single {@code drawImage} per text instead of one per glyph.
+ * Texts are keyed by the string, the {@link Font}, the {@link FontRenderContext}, and the paint. Text painted with a
+ * solid {@link Color} is kept by the color and looks the same anywhere, while text painted with any other paint is
+ * kept by the paint's identity and its position, since where the text is decides what part of the paint it gets.
+ * The atlas pays off most for text in gradients and other paints that are slow to fill glyph by glyph - for text in
+ * a solid {@link Color} drawn into an in-memory image, Java2D's own glyph cache is already about as fast (see the
+ * TextAtlasBenchmark in the benchmarks module).
+ * <br><br>
+ * Text is drawn directly instead when the graphics is scaled or rotated (e.g. on HiDPI screens, where the text
+ * isn't the same size in pixels), or uses LCD (subpixel) antialiasing, which can't be rendered into an image with
+ * transparency. When the atlas is full, it's cleared and filled again from scratch. Lookups that hit the atlas don't
+ * allocate anything. The atlas is shared by all Tadukoo component UIs and is thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooTextAtlas{
+	/** The default width and height of the atlas image */
+	public static final int DEFAULT_ATLAS_SIZE = 1024;
+	/** The number of transparent pixels around each text in the atlas, so antialiased edges aren't cut off */
+	private static final int PADDING = 1;
+	
+	/**
+	 * The region of the atlas that a text was rasterized into
+	 *
+	 * @param atlasX The x coordinate of the region in the atlas
+	 * @param atlasY The y coordinate of the region in the atlas
+	 * @param offsetX The x offset from the start of the text to the left of the region
+	 * @param offsetY The y offset from the baseline of the text to the top of the region
+	 * @param width The width of the region
+	 * @param height The height of the region
+	 */
+	private record AtlasEntry(int atlasX, int atlasY, int offsetX, int offsetY, int width, int height){ }
+	
+	/**
+	 * The key for text in the atlas
+	 */
+	private static class AtlasKey{
+		/** The text */
+		private String text;
+		/** The {@link Font} of the text */
+		private Font font;
+		/** The {@link FontRenderContext} the text is rasterized for */
+		private FontRenderContext frc;
+		/** The paint of the text (compared by value for {@link Color}s, by identity otherwise) */
+		private Paint paint;
+		/** The x coordinate of the text (always 0 for {@link Color}s) */
+		private int x;
+		/** The y coordinate of the text (always 0 for {@link Color}s) */
+		private int y;
+		/** The hash code of the key, computed when it's set */
+		private int hashCode;
+		
+		/**
+		 * Sets the values of the key
+		 *
+		 * @param text The text
+		 * @param font The {@link Font} of the text
+		 * @param frc The {@link FontRenderContext} the text is rasterized for
+		 * @param paint The paint of the text
+		 * @param x The x coordinate of the text
+		 * @param y The y coordinate of the text
+		 */
+		private void set(String text, Font font, FontRenderContext frc, Paint paint, int x, int y){
+			this.text = text;
+			this.font = font;
+			this.frc = frc;
+			this.paint = paint;
+			// Text in a solid color looks the same anywhere
+			boolean isColor = paint instanceof Color;
+			this.x = isColor?0:x;
+			this.y = isColor?0:y;
+			if(text == null){
+				hashCode = 0;
+			}else{
+				int paintHash = isColor?paint.hashCode():System.identityHashCode(paint);
+				hashCode = 31*(31*(31*(31*(31*text.hashCode() + font.hashCode()) + frc.hashCode()) + paintHash) +
+						this.x) + this.y;
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean equals(Object o){
+			if(!(o instanceof AtlasKey key)){
+				return false;
+			}
+			return hashCode == key.hashCode && x == key.x && y == key.y &&
+					(paint == key.paint || (paint instanceof Color && paint.equals(key.paint))) &&
+					text.equals(key.text) && font.equals(key.font) && frc.equals(key.frc);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int hashCode(){
+			return hashCode;
+		}
+	}
+	
+	/** The lock used for all access to the atlas */
+	private static final Object lock = new Object();
+	/** The regions of the texts in the atlas */
+	private static final Map<AtlasKey, AtlasEntry> entries = new HashMap<>();
+	/** The key reused for lookups, so that lookups don't allocate */
+	private static final AtlasKey lookupKey = new AtlasKey();
+	/** The width and height of the atlas image */
+	private static int atlasSize = DEFAULT_ATLAS_SIZE;
+	/** The atlas image (created when it's first needed) */
+	private static BufferedImage atlas;
+	/** The x coordinate where the next text goes on the current shelf (row) of the atlas */
+	private static int shelfX;
+	/** The y coordinate of the top of the current shelf (row) of the atlas */
+	private static int shelfY;
+	/** The height of the tallest text on the current shelf (row) of the atlas */
+	private static int shelfHeight;
+	
+	/** The number of draws that found their text in the atlas */
+	private static long hits;
+	/** The number of draws that had to rasterize their text into the atlas */
+	private static long misses;
+	/** The number of times the atlas was full and had to be cleared */
+	private static long resets;
+	
+	/** Not allowed to create a Tadukoo Text Atlas */
+	private TadukooTextAtlas(){ }
+	
+	/**
+	 * Draws the given text using the given {@link Graphics2D}'s current paint and font, from the atlas if possible
+	 * (rasterizing it into the atlas first if it's not there), otherwise directly
+	 *
+	 * @param g2d The {@link Graphics2D} to draw with
+	 * @param text The laid out text to draw (for the {@link Graphics2D}'s current font)
+	 * @param x The x coordinate of the start of the text
+	 * @param y The y coordinate of the baseline of the text
+	 */
+	public static void draw(Graphics2D g2d, TadukooTextCache.CachedText text, int x, int y){
+		FontRenderContext frc = g2d.getFontRenderContext();
+		Paint paint = g2d.getPaint();
+		if(text.getText().isEmpty() || frc.isTransformed() || !isSupported(frc.getAntiAliasingHint()) || paint == null){
+			text.draw(g2d, x, y);
+			return;
+		}
+		
+		Font font = g2d.getFont();
+		synchronized(lock){
+			// Check for the text
+			lookupKey.set(text.getText(), font, frc, paint, x, y);
+			AtlasEntry entry = entries.get(lookupKey);
+			// Don't keep the text, font, render context, and paint reachable from the lookup key
+			lookupKey.set(null, null, null, null, 0, 0);
+			if(entry != null){
+				hits++;
+			}else{
+				misses++;
+				entry = rasterize(text, font, frc, paint, x, y);
+				if(entry == null){
+					// Too big for the atlas
+					text.draw(g2d, x, y);
+					return;
+				}
+				AtlasKey key = new AtlasKey();
+				key.set(text.getText(), font, frc, paint, x, y);
+				entries.put(key, entry);
+			}
+			
+			// Draw the text's region of the atlas
+			int left = x + entry.offsetX();
+			int top = y + entry.offsetY();
+			g2d.drawImage(atlas, left, top, left + entry.width(), top + entry.height(),
+					entry.atlasX(), entry.atlasY(), entry.atlasX() + entry.width(), entry.atlasY() + entry.height(),
+					null);
+		}
+	}
+	
+	/**
+	 * @param antialiasingHint The text antialiasing hint of a {@link FontRenderContext}
+	 * @return Whether text with the given antialiasing can be rasterized into the atlas (anything but LCD)
+	 */
+	private static boolean isSupported(Object antialiasingHint){
+		return antialiasingHint == RenderingHints.VALUE_TEXT_ANTIALIAS_OFF ||
+				antialiasingHint == RenderingHints.VALUE_TEXT_ANTIALIAS_ON ||
+				antialiasingHint == RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT ||
+				antialiasingHint == RenderingHints.VALUE_TEXT_ANTIALIAS_GASP;
+	}
+	
+	/**
+	 * Rasterizes the given text into the next free region of the atlas, clearing the atlas first if it's full
+	 *
+	 * @param text The laid out text
+	 * @param font The {@link Font} of the text
+	 * @param frc The {@link FontRenderContext} to rasterize the text for
+	 * @param paint The paint of the text
+	 * @param x The x coordinate the text is drawn at (which decides what part of the paint it gets)
+	 * @param y The y coordinate of the baseline the text is drawn at
+	 * @return The region of the atlas the text was rasterized into, or {@code null} if it's too big for the atlas
+	 */
+	private static AtlasEntry rasterize(TadukooTextCache.CachedText text, Font font, FontRenderContext frc,
+	                                    Paint paint, int x, int y){
+		// Find the pixels the text covers, relative to its start and baseline
+		Rectangle bounds = new TextLayout(text.getText(), font, frc).getPixelBounds(frc, 0, 0);
+		int width = bounds.width + 2*PADDING;
+		int height = bounds.height + 2*PADDING;
+		if(width > atlasSize || height > atlasSize){
+			return null;
+		}
+		
+		// Find room for the text, starting a new shelf or clearing the atlas if needed
+		if(atlas == null){
+			atlas = new BufferedImage(atlasSize, atlasSize, BufferedImage.TYPE_INT_ARGB_PRE);
+		}
+		if(shelfX + width > atlasSize){
+			shelfX = 0;
+			shelfY += shelfHeight;
+			shelfHeight = 0;
+		}
+		if(shelfY + height > atlasSize){
+			clearAtlas();
+			resets++;
+		}
+		AtlasEntry entry = new AtlasEntry(shelfX, shelfY, bounds.x - PADDING, bounds.y - PADDING, width, height);
+		shelfX += width;
+		shelfHeight = Math.max(shelfHeight, height);
+		
+		// Rasterize the text into its region, positioned so the paint is where it'd be when drawn directly
+		Graphics2D g = atlas.createGraphics();
+		try{
+			g.clipRect(entry.atlasX(), entry.atlasY(), width, height);
+			g.translate(entry.atlasX() - x - entry.offsetX(), entry.atlasY() - y - entry.offsetY());
+			g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, frc.getAntiAliasingHint());
+			g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, frc.getFractionalMetricsHint());
+			g.setFont(font);
+			g.setPaint(paint);
+			text.draw(g, x, y);
+		}finally{
+			g.dispose();
+		}
+		return entry;
+	}
+	
+	/**
+	 * Removes all texts from the atlas image and starts filling it again from the top
+	 */
+	private static void clearAtlas(){
+		entries.clear();
+		shelfX = 0;
+		shelfY = 0;
+		shelfHeight = 0;
+		if(atlas != null){
+			Graphics2D g = atlas.createGraphics();
+			try{
+				g.setComposite(AlphaComposite.Clear);
+				g.fillRect(0, 0, atlasSize, atlasSize);
+			}finally{
+				g.dispose();
+			}
+		}
+	}
+	
+	/*
+	 * Atlas Management
+	 */
+	
+	/**
+	 * @return The width and height of the atlas image
+	 */
+	public static int getAtlasSize(){
+		synchronized(lock){
+			return atlasSize;
+		}
+	}
+	
+	/**
+	 * Sets the width and height of the atlas image, which clears the atlas. The atlas image uses 4 bytes per pixel
+	 * once it's created.
+	 *
+	 * @param newAtlasSize The width and height the atlas image should have
+	 */
+	public static void setAtlasSize(int newAtlasSize){
+		if(newAtlasSize <= 0){
+			throw new IllegalArgumentException("Text atlas size must be positive: " + newAtlasSize);
+		}
+		synchronized(lock){
+			atlasSize = newAtlasSize;
+			clear();
+		}
+	}
+	
+	/**
+	 * @return The number of texts currently in the atlas
+	 */
+	public static int size(){
+		synchronized(lock){
+			return entries.size();
+		}
+	}
+	
+	/**
+	 * Removes all texts from the atlas and releases the atlas image
+	 */
+	public static void clear(){
+		synchronized(lock){
+			atlas = null;
+			clearAtlas();
+		}
+	}
+	
+	/*
+	 * Statistics
+	 */
+	
+	/**
+	 * @return The number of draws that found their text in the atlas
+	 */
+	public static long getHits(){
+		synchronized(lock){
+			return hits;
+		}
+	}
+	
+	/**
+	 * @return The number of draws that had to rasterize their text into the atlas
+	 */
+	public static long getMisses(){
+		synchronized(lock){
+			return misses;
+		}
+	}
+	
+	/**
+	 * @return The number of times the atlas was full and had to be cleared
+	 */
+	public static long getResets(){
+		synchronized(lock){
+			return resets;
+		}
+	}
+	
+	/**
+	 * Resets the hit, miss, and reset counts to 0
+	 */
+	public static void resetStats(){
+		synchronized(lock){
+			hits = 0;
+			misses = 0;
+			resets = 0;
+		}
+	}
+}
@@ -0,0 +1,328 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Tadukoo Text Cache keeps text measurements (and layouts for complex text), so that painting the same text in the
+ * same {@link Font} again (e.g. every label in a grid, every frame) doesn't measure and lay out the text again. Text
+ * is keyed by the string, the {@link Font}, and the {@link FontRenderContext} of the graphics it's painted with
+ * (which covers the transform and antialiasing settings).
+ * <br><br>
+ * Complex text (e.g. with combining marks, complex scripts, or right-to-left text) keeps its {@link TextLayout}, which
+ * {@code drawString} would otherwise build again on every call. Simple text (all characters before U+0300, e.g.
+ * Latin text) is drawn with {@code drawString}, which Java2D already draws from its glyph cache without laying it out
+ * (and without allocating, unlike drawing a {@link TextLayout}).
+ * <br><br>
+ * The cache holds up to a maximum number of texts, evicting the least recently used ones when it's full. Lookups
+ * that hit the cache don't allocate anything. The cache is shared by all Tadukoo component UIs and is thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooTextCache{
+	/** The default maximum number of texts the cache holds */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+	/** The first character that may need text layout (characters before it are always drawn glyph by glyph) */
+	private static final char FIRST_COMPLEX_CHAR = '\u0300';
+	
+	/**
+	 * Cached Text is text in a {@link Font} for a {@link FontRenderContext}, ready to be drawn, along with its
+	 * measurements (as given by {@link FontMetrics})
+	 */
+	public static final class CachedText{
+		/** The text */
+		private final String text;
+		/** The laid out text, for complex text ({@code null} for simple or empty text) */
+		private final TextLayout layout;
+		/** The width of the text */
+		private final int width;
+		/** The height of the text's lines */
+		private final int height;
+		/** The ascent of the text's font */
+		private final int ascent;
+		
+		/**
+		 * Lays out and measures the given text
+		 *
+		 * @param g2d The {@link Graphics2D} the text will be drawn with
+		 * @param font The {@link Font} of the text
+		 * @param text The text
+		 */
+		private CachedText(Graphics2D g2d, Font font, String text){
+			FontMetrics fm = g2d.getFontMetrics(font);
+			this.text = text;
+			layout = isComplex(text)?new TextLayout(text, font, g2d.getFontRenderContext()):null;
+			width = fm.stringWidth(text);
+			height = fm.getHeight();
+			ascent = fm.getAscent();
+		}
+		
+		/**
+		 * @return The text
+		 */
+		public String getText(){
+			return text;
+		}
+		
+		/**
+		 * @return The width of the text
+		 */
+		public int getWidth(){
+			return width;
+		}
+		
+		/**
+		 * @return The height of the text's lines
+		 */
+		public int getHeight(){
+			return height;
+		}
+		
+		/**
+		 * @return The ascent of the text's font (the distance from the top of the text to its baseline)
+		 */
+		public int getAscent(){
+			return ascent;
+		}
+		
+		/**
+		 * Draws the text using the given {@link Graphics2D}'s current paint
+		 *
+		 * @param g2d The {@link Graphics2D} to draw with
+		 * @param x The x coordinate of the start of the text
+		 * @param y The y coordinate of the baseline of the text
+		 */
+		public void draw(Graphics2D g2d, int x, int y){
+			if(layout != null){
+				layout.draw(g2d, x, y);
+			}else if(!text.isEmpty()){
+				g2d.drawString(text, x, y);
+			}
+		}
+	}
+	
+	/**
+	 * @param text The text to check
+	 * @return Whether the text may need text layout to be drawn correctly
+	 */
+	private static boolean isComplex(String text){
+		for(int i = 0; i < text.length(); i++){
+			if(text.charAt(i) >= FIRST_COMPLEX_CHAR){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * The key for cached text
+	 */
+	private static class TextKey{
+		/** The text */
+		private String text;
+		/** The {@link Font} of the text */
+		private Font font;
+		/** The {@link FontRenderContext} the text is laid out for */
+		private FontRenderContext frc;
+		/** The hash code of the key, computed when it's set */
+		private int hashCode;
+		
+		/**
+		 * Sets the values of the key
+		 *
+		 * @param text The text
+		 * @param font The {@link Font} of the text
+		 * @param frc The {@link FontRenderContext} the text is laid out for
+		 */
+		private void set(String text, Font font, FontRenderContext frc){
+			this.text = text;
+			this.font = font;
+			this.frc = frc;
+			hashCode = text == null?0:31*(31*text.hashCode() + font.hashCode()) + frc.hashCode();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean equals(Object o){
+			if(!(o instanceof TextKey key)){
+				return false;
+			}
+			return hashCode == key.hashCode && text.equals(key.text) && font.equals(key.font) && frc.equals(key.frc);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int hashCode(){
+			return hashCode;
+		}
+	}
+	
+	/** The lock used for all access to the cache */
+	private static final Object lock = new Object();
+	/** The cached texts, in least recently used order */
+	private static final LinkedHashMap<TextKey, CachedText> texts = new LinkedHashMap<>(16, 0.75f, true);
+	/** The key reused for lookups, so that lookups don't allocate */
+	private static final TextKey lookupKey = new TextKey();
+	/** The maximum number of texts the cache holds */
+	private static int maxSize = DEFAULT_MAX_SIZE;
+	
+	/** The number of lookups that found their text in the cache */
+	private static long hits;
+	/** The number of lookups that had to lay out their text */
+	private static long misses;
+	/** The number of texts that were evicted because the cache was full */
+	private static long evictions;
+	
+	/** Not allowed to create a Tadukoo Text Cache */
+	private TadukooTextCache(){ }
+	
+	/**
+	 * Grabs the given text laid out in the given {@link Font} for the given {@link Graphics2D} from the cache, or
+	 * lays it out (and caches it) if it's not there
+	 *
+	 * @param g2d The {@link Graphics2D} the text will be drawn with
+	 * @param font The {@link Font} of the text
+	 * @param text The text
+	 * @return The laid out text, ready to be drawn
+	 */
+	public static CachedText getText(Graphics2D g2d, Font font, String text){
+		FontRenderContext frc = g2d.getFontRenderContext();
+		synchronized(lock){
+			if(maxSize == 0){
+				misses++;
+				return new CachedText(g2d, font, text);
+			}
+			
+			// Check for the text
+			lookupKey.set(text, font, frc);
+			CachedText cachedText = texts.get(lookupKey);
+			// Don't keep the text, font, and render context reachable from the lookup key
+			lookupKey.set(null, null, null);
+			if(cachedText != null){
+				hits++;
+				return cachedText;
+			}
+			
+			// Lay out the text, making room for it if needed
+			misses++;
+			cachedText = new CachedText(g2d, font, text);
+			if(texts.size() >= maxSize){
+				evictUntilSize(maxSize - 1);
+			}
+			TextKey key = new TextKey();
+			key.set(text, font, frc);
+			texts.put(key, cachedText);
+			return cachedText;
+		}
+	}
+	
+	/**
+	 * Evicts the least recently used texts until the cache holds at most the given number of texts
+	 *
+	 * @param size The maximum number of texts the cache should hold
+	 */
+	private static void evictUntilSize(int size){
+		Iterator<CachedText> it = texts.values().iterator();
+		while(texts.size() > size && it.hasNext()){
+			it.next();
+			it.remove();
+			evictions++;
+		}
+	}
+	
+	/*
+	 * Cache Management
+	 */
+	
+	/**
+	 * @return The maximum number of texts the cache holds (0 if it's disabled)
+	 */
+	public static int getMaxSize(){
+		synchronized(lock){
+			return maxSize;
+		}
+	}
+	
+	/**
+	 * Sets the maximum number of texts the cache holds, evicting the least recently used ones if it currently holds
+	 * more. A maximum size of 0 disables the cache.
+	 *
+	 * @param newMaxSize The maximum number of texts the cache should hold
+	 */
+	public static void setMaxSize(int newMaxSize){
+		if(newMaxSize < 0){
+			throw new IllegalArgumentException("Text cache max size must not be negative: " + newMaxSize);
+		}
+		synchronized(lock){
+			maxSize = newMaxSize;
+			evictUntilSize(maxSize);
+		}
+	}
+	
+	/**
+	 * @return The number of texts currently in the cache
+	 */
+	public static int size(){
+		synchronized(lock){
+			return texts.size();
+		}
+	}
+	
+	/**
+	 * Removes all texts from the cache
+	 */
+	public static void clear(){
+		synchronized(lock){
+			texts.clear();
+		}
+	}
+	
+	/*
+	 * Statistics
+	 */
+	
+	/**
+	 * @return The number of lookups that found their text in the cache
+	 */
+	public static long getHits(){
+		synchronized(lock){
+			return hits;
+		}
+	}
+	
+	/**
+	 * @return The number of lookups that had to lay out their text
+	 */
+	public static long getMisses(){
+		synchronized(lock){
+			return misses;
+		}
+	}
+	
+	/**
+	 * @return The number of texts that were evicted because the cache was full
+	 */
+	public static long getEvictions(){
+		synchronized(lock){
+			return evictions;
+		}
+	}
+	
+	/**
+	 * Resets the hit, miss, and eviction counts to 0
+	 */
+	public static void resetStats(){
+		synchronized(lock){
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+		}
+	}
+}
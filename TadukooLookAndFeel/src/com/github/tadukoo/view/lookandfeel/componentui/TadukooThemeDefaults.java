@@ -0,0 +1,207 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.uimanager.UIManagerUtil;
+
+import javax.swing.UIManager;
+import java.beans.PropertyChangeListener;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tadukoo Theme Defaults holds the Look &amp; Feel's paints and shape for a Component UI's property prefix (and
+ * whether to use the {@link TadukooTextAtlas text atlas}), resolved
+ * from the {@link UIManager} once, so that painting a component that doesn't have its own paints or shape doesn't
+ * look them up in the {@link UIManager} every frame.
+ * <br><br>
+ * The values are resolved again the next time they're used after the Look &amp; Feel changes or a value that starts
+ * with one of the property prefixes (or the {@link TadukooLookAndFeel#TEXT_ATLAS text atlas} setting) is put in the
+ * {@link UIManager} defaults, so changes to the defaults are still picked up, while putting unrelated values doesn't
+ * make every component resolve its values again. Checking for this is a single volatile read, so using the values
+ * doesn't do any map lookups. The values are resolved all at once and published
+ * together, so a Tadukoo Theme Defaults can be shared between threads (see {@link #forPrefix(String)}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class TadukooThemeDefaults{
+	/** Incremented whenever the Look &amp; Feel or its defaults change, to mark resolved values as out of date */
+	private static final AtomicInteger defaultsVersion = new AtomicInteger();
+	/** The shared Tadukoo Theme Defaults, by property prefix */
+	private static final Map<String, TadukooThemeDefaults> sharedDefaults = new ConcurrentHashMap<>();
+	/** The property prefixes of every Tadukoo Theme Defaults, used to ignore changes to unrelated defaults */
+	private static final Set<String> propertyPrefixes = ConcurrentHashMap.newKeySet();
+	
+	static{
+		// Changes to the Look & Feel or the defaults the values come from may change them, so mark them as out of date
+		PropertyChangeListener listener = e -> {
+			if(affectsValues(e.getPropertyName())){
+				defaultsVersion.incrementAndGet();
+			}
+		};
+		UIManager.addPropertyChangeListener(listener);
+		UIManager.getDefaults().addPropertyChangeListener(listener);
+	}
+	
+	/**
+	 * The values resolved from the {@link UIManager} at one time
+	 *
+	 * @param version The defaults version the values were resolved at
+	 * @param foregroundPaint The Look &amp; Feel's foreground paint
+	 * @param backgroundPaint The Look &amp; Feel's background paint
+	 * @param selectPaint The Look &amp; Feel's select paint
+	 * @param focusPaint The Look &amp; Feel's focus paint
+	 * @param disabledTextPaint The Look &amp; Feel's disabled text paint
+	 * @param disabledForegroundPaint The Look &amp; Feel's disabled foreground paint
+	 * @param shapeInfo The Look &amp; Feel's shape info
+	 * @param textAtlas Whether to draw text from the {@link TadukooTextAtlas}
+	 */
+	private record ResolvedValues(int version, SizablePaint foregroundPaint, SizablePaint backgroundPaint,
+	                              SizablePaint selectPaint, SizablePaint focusPaint,
+	                              SizablePaint disabledTextPaint, SizablePaint disabledForegroundPaint,
+	                              ShapeInfo shapeInfo, boolean textAtlas){ }
+	
+	/** The property prefix to resolve the values for */
+	private final String propertyPrefix;
+	/** The resolved values ({@code null} until they're first resolved) */
+	private volatile ResolvedValues values;
+	
+	/**
+	 * Constructs a new Tadukoo Theme Defaults for the given property prefix. The values aren't resolved until they're
+	 * first used (or {@link #resolve()} is called).
+	 *
+	 * @param propertyPrefix The property prefix to resolve the values for
+	 */
+	public TadukooThemeDefaults(String propertyPrefix){
+		this.propertyPrefix = propertyPrefix;
+		propertyPrefixes.add(propertyPrefix);
+	}
+	
+	/**
+	 * @param propertyName The name of a property that changed in the {@link UIManager} or its defaults (can be
+	 * {@code null} if unknown)
+	 * @return Whether the change may affect resolved values - a change of Look &amp; Feel, all the defaults, the
+	 * {@link TadukooLookAndFeel#TEXT_ATLAS text atlas} setting, or a value starting with one of the property prefixes
+	 */
+	static boolean affectsValues(String propertyName){
+		if(propertyName == null || propertyName.equals("lookAndFeel") || propertyName.equals("UIDefaults") ||
+				propertyName.equals(TadukooLookAndFeel.TEXT_ATLAS)){
+			return true;
+		}
+		for(String prefix: propertyPrefixes){
+			if(propertyName.startsWith(prefix)){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * @param propertyPrefix The property prefix to resolve the values for
+	 * @return The Tadukoo Theme Defaults for the given property prefix that's shared by everything that uses it
+	 * (created the first time it's asked for)
+	 */
+	public static TadukooThemeDefaults forPrefix(String propertyPrefix){
+		return sharedDefaults.computeIfAbsent(propertyPrefix, TadukooThemeDefaults::new);
+	}
+	
+	/**
+	 * @return The property prefix the values are resolved for
+	 */
+	public String getPropertyPrefix(){
+		return propertyPrefix;
+	}
+	
+	/**
+	 * Resolves all the values from the {@link UIManager} now - this is done in installDefaults of the Component UIs
+	 */
+	public void resolve(){
+		// Grab the version first, so a change made while resolving marks the values as out of date again
+		int version = defaultsVersion.get();
+		values = new ResolvedValues(version,
+				UIManagerUtil.getForegroundPaint(propertyPrefix),
+				UIManagerUtil.getBackgroundPaint(propertyPrefix),
+				UIManagerUtil.getSelectPaint(propertyPrefix),
+				UIManagerUtil.getFocusPaint(propertyPrefix),
+				UIManagerUtil.getDisabledTextPaint(propertyPrefix),
+				UIManagerUtil.getDisabledForegroundPaint(propertyPrefix),
+				UIManagerUtil.getDefaultShapeInfo(propertyPrefix),
+				UIManager.getBoolean(TadukooLookAndFeel.TEXT_ATLAS));
+	}
+	
+	/**
+	 * Resolves the values again if they haven't been resolved yet or the Look &amp; Feel or its defaults have
+	 * changed since they were resolved
+	 *
+	 * @return The up-to-date resolved values
+	 */
+	private ResolvedValues checkResolved(){
+		ResolvedValues resolvedValues = values;
+		if(resolvedValues == null || resolvedValues.version() != defaultsVersion.get()){
+			resolve();
+			resolvedValues = values;
+		}
+		return resolvedValues;
+	}
+	
+	/**
+	 * @return The Look &amp; Feel's foreground paint
+	 */
+	public SizablePaint getForegroundPaint(){
+		return checkResolved().foregroundPaint();
+	}
+	
+	/**
+	 * @return The Look &amp; Feel's background paint
+	 */
+	public SizablePaint getBackgroundPaint(){
+		return checkResolved().backgroundPaint();
+	}
+	
+	/**
+	 * @return The Look &amp; Feel's select paint
+	 */
+	public SizablePaint getSelectPaint(){
+		return checkResolved().selectPaint();
+	}
+	
+	/**
+	 * @return The Look &amp; Feel's focus paint
+	 */
+	public SizablePaint getFocusPaint(){
+		return checkResolved().focusPaint();
+	}
+	
+	/**
+	 * @return The Look &amp; Feel's disabled text paint
+	 */
+	public SizablePaint getDisabledTextPaint(){
+		return checkResolved().disabledTextPaint();
+	}
+	
+	/**
+	 * @return The Look &amp; Feel's disabled foreground paint
+	 */
+	public SizablePaint getDisabledForegroundPaint(){
+		return checkResolved().disabledForegroundPaint();
+	}
+	
+	/**
+	 * @return The Look &amp; Feel's shape info
+	 */
+	public ShapeInfo getShapeInfo(){
+		return checkResolved().shapeInfo();
+	}
+	
+	/**
+	 * @return Whether to draw text from the {@link TadukooTextAtlas} ({@link TadukooLookAndFeel#TEXT_ATLAS})
+	 */
+	public boolean isTextAtlasEnabled(){
+		return checkResolved().textAtlas();
+	}
+}
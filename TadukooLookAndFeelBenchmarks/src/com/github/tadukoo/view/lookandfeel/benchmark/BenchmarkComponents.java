@@ -0,0 +1,89 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.image.BufferedImage;
+
+/**
+ * Benchmark Components contains util methods for creating and rendering the component trees used in the
+ * benchmarks, without needing a display.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public final class BenchmarkComponents{
+	/** The width of each component in the trees */
+	public static final int COMPONENT_WIDTH = 120;
+	/** The height of each component in the trees */
+	public static final int COMPONENT_HEIGHT = 30;
+	/** The number of columns in the trees */
+	public static final int COLUMNS = 4;
+	
+	/** Not allowed to create Benchmark Components */
+	private BenchmarkComponents(){ }
+	
+	/**
+	 * Creates a panel of alternating buttons and labels using the current Look &amp; Feel, laid out in a grid
+	 *
+	 * @param count The number of components to create
+	 * @return The laid out panel
+	 */
+	public static JPanel createTree(int count){
+		int rows = (count + COLUMNS - 1)/COLUMNS;
+		JPanel panel = new JPanel(new GridLayout(rows, COLUMNS));
+		for(int i = 0; i < count; i++){
+			JComponent component = i%2 == 0?new JButton("Button " + i):new JLabel("Label " + i);
+			panel.add(component);
+		}
+		panel.setSize(COLUMNS*COMPONENT_WIDTH, rows*COMPONENT_HEIGHT);
+		layout(panel);
+		return panel;
+	}
+	
+	/**
+	 * Lays out the given component and all of its children (since there's no window to do it)
+	 *
+	 * @param component The component to lay out
+	 */
+	private static void layout(JComponent component){
+		component.doLayout();
+		for(int i = 0; i < component.getComponentCount(); i++){
+			if(component.getComponent(i) instanceof JComponent child){
+				layout(child);
+			}
+		}
+	}
+	
+	/**
+	 * Creates an image that the given component can be rendered into
+	 *
+	 * @param component The component that will be rendered
+	 * @return An image the size of the component
+	 */
+	public static BufferedImage createImage(JComponent component){
+		return new BufferedImage(Math.max(component.getWidth(), 1), Math.max(component.getHeight(), 1),
+				BufferedImage.TYPE_INT_ARGB);
+	}
+	
+	/**
+	 * Renders the given component (and its children) into the given image
+	 *
+	 * @param component The component to render
+	 * @param image The image to render into
+	 * @return The image, for convenience
+	 */
+	public static BufferedImage render(JComponent component, BufferedImage image){
+		Graphics2D g = image.createGraphics();
+		try{
+			component.paint(g);
+		}finally{
+			g.dispose();
+		}
+		return image;
+	}
+}
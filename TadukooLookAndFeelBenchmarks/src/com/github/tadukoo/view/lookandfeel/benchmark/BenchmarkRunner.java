@@ -0,0 +1,41 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark Runner is the main class of the benchmarks jar. It runs the JMH benchmarks with the
+ * {@link GCProfiler GC/allocation profiler} always enabled and with every fork running headless, so that
+ * allocation regressions show up next to the timings. Any normal JMH command line options can be given,
+ * e.g. {@code java -jar target/benchmarks.jar ThemeFactoryBenchmark -f 1}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+public class BenchmarkRunner{
+	
+	/** Not allowed to create a Benchmark Runner */
+	private BenchmarkRunner(){ }
+	
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args JMH command line options
+	 * @throws CommandLineOptionException If the command line options are invalid
+	 * @throws RunnerException If something goes wrong in running the benchmarks
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException{
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.jvmArgsAppend("-Djava.awt.headless=true")
+				.build();
+		new Runner(options).run();
+	}
+}
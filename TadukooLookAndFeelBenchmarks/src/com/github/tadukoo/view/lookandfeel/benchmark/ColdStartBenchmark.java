@@ -0,0 +1,51 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooThemeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JPanel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import java.awt.FontFormatException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole startup path in a fresh JVM: creating the default theme (including loading its fonts),
+ * installing the {@link TadukooLookAndFeel}, and the first headless render of a tree of buttons and labels.
+ * Each fork only runs the benchmark once, since a warmed up JVM (with its fonts already registered) wouldn't
+ * show what users see at startup.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark{
+	/** The number of components in the tree */
+	@Param({"10", "100"})
+	public int componentCount;
+	
+	@Benchmark
+	public BufferedImage coldStart() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooThemeFactory.createDefaultTheme()));
+		JPanel tree = BenchmarkComponents.createTree(componentCount);
+		return BenchmarkComponents.render(tree, BenchmarkComponents.createImage(tree));
+	}
+}
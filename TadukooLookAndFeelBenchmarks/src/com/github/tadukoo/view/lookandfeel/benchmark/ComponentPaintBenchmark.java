@@ -0,0 +1,208 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import com.github.tadukoo.view.lookandfeel.componentui.TadukooButtonUI;
+import com.github.tadukoo.view.lookandfeel.componentui.TadukooLabelUI;
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.PaintUIResource;
+import com.github.tadukoo.view.shapes.ShapeInfoUIResource;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.ButtonModel;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import javax.swing.plaf.basic.BasicLabelUI;
+import javax.swing.plaf.metal.MetalButtonUI;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.FontFormatException;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures headless paints of a single button and a single label into a {@link BufferedImage} across a matrix of
+ * component sizes, background paints, shapes, component states, and text lengths, using the {@link TadukooButtonUI}
+ * and {@link TadukooLabelUI}, or the stock {@link MetalButtonUI} and {@link BasicLabelUI} as a baseline. Each
+ * operation is one paint, so the scores are paints per second, and the GC profiler that {@link BenchmarkRunner}
+ * always adds reports the bytes allocated per paint ({@code gc.alloc.rate.norm}).
+ * <br><br>
+ * The baseline ignores the paint and shape parameters, and labels ignore the pressed and focused states (they're
+ * painted like enabled ones). The full matrix takes a while, so it can be narrowed down with JMH's {@code -p}
+ * option, e.g. {@code java -jar target/benchmarks.jar ComponentPaintBenchmark -p state=ENABLED -p text=SHORT}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ComponentPaintBenchmark{
+	/** The text used for {@code SHORT} text */
+	private static final String SHORT_TEXT = "OK";
+	/** The text used for {@code LONG} text */
+	private static final String LONG_TEXT = "Submit the quarterly report for review and approval";
+	
+	/** The Component UIs to paint with: {@code TADUKOO}, or {@code BASELINE} for Metal/Basic */
+	@Param({"TADUKOO", "BASELINE"})
+	public String ui;
+	
+	/** The size of the components, as {@code widthxheight} */
+	@Param({"80x24", "240x48"})
+	public String size;
+	
+	/** The background paint: {@code SOLID} or {@code GRADIENT} */
+	@Param({"SOLID", "GRADIENT"})
+	public String paint;
+	
+	/** The shape of the components: {@code RECTANGLE} or {@code ROUNDED_RECTANGLE} */
+	@Param({"RECTANGLE", "ROUNDED_RECTANGLE"})
+	public Shapes shape;
+	
+	/** The state of the components: {@code ENABLED}, {@code DISABLED}, {@code PRESSED}, or {@code FOCUSED} */
+	@Param({"ENABLED", "DISABLED", "PRESSED", "FOCUSED"})
+	public String state;
+	
+	/** The length of the components' text: {@code SHORT} or {@code LONG} */
+	@Param({"SHORT", "LONG"})
+	public String text;
+	
+	/** The button to paint */
+	private JButton button;
+	/** The label to paint */
+	private JLabel label;
+	/** The image to paint into */
+	private BufferedImage image;
+	/** The graphics to paint with */
+	private Graphics2D g2d;
+	
+	/**
+	 * A solid paint that gives a vertical gradient from its color to white, sized to the component
+	 */
+	private static class VerticalGradientPaint extends ColorPaintUIResource{
+		
+		/**
+		 * Constructs a new Vertical Gradient Paint
+		 *
+		 * @param color The color at the top of the gradient (and the solid color for Look &amp; Feels that need
+		 * one)
+		 */
+		private VerticalGradientPaint(Color color){
+			super(color);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Paint getPaint(Dimension size){
+			return new GradientPaint(0, 0, getColorUIResource(), 0, size.height, Color.WHITE);
+		}
+	}
+	
+	/**
+	 * Installs the Look &amp; Feel and creates the components to paint in the chosen state
+	 *
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 * @throws UnsupportedLookAndFeelException If the Look &amp; Feel can't be installed
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		// Install the Look & Feel
+		boolean baseline = ui.equals("BASELINE");
+		if(baseline){
+			UIManager.setLookAndFeel(new MetalLookAndFeel());
+		}else{
+			PaintUIResource backgroundPaint = paint.equals("GRADIENT")?
+					new VerticalGradientPaint(new Color(0, 120, 200)):new ColorPaintUIResource(new Color(0, 120, 200));
+			UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder()
+					.defaultBackgroundPaint(backgroundPaint)
+					.labelBackgroundPaint(backgroundPaint)
+					.defaultShapeInfo(new ShapeInfoUIResource(shape.getShapeInfo()))
+					.build()));
+		}
+		
+		// Create the components
+		String componentText = text.equals("LONG")?LONG_TEXT:SHORT_TEXT;
+		boolean focused = state.equals("FOCUSED");
+		button = new JButton(componentText){
+			/** {@inheritDoc} */
+			@Override
+			public boolean hasFocus(){
+				// There's no window to give focus to, so pretend the button has it
+				return focused || super.hasFocus();
+			}
+		};
+		label = new JLabel(componentText);
+		if(baseline){
+			button.setUI(new MetalButtonUI());
+			label.setUI(new BasicLabelUI());
+		}
+		
+		// Size the components
+		String[] dimensions = size.split("x");
+		int width = Integer.parseInt(dimensions[0]);
+		int height = Integer.parseInt(dimensions[1]);
+		button.setSize(width, height);
+		label.setSize(width, height);
+		
+		// Put the components in the state
+		if(state.equals("DISABLED")){
+			button.setEnabled(false);
+			label.setEnabled(false);
+		}else if(state.equals("PRESSED")){
+			ButtonModel model = button.getModel();
+			model.setArmed(true);
+			model.setPressed(true);
+		}
+		
+		image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		g2d = image.createGraphics();
+	}
+	
+	/**
+	 * Disposes of the graphics and goes back to the Metal Look &amp; Feel
+	 *
+	 * @throws UnsupportedLookAndFeelException If Metal isn't supported somehow
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		g2d.dispose();
+		UIManager.setLookAndFeel(new MetalLookAndFeel());
+	}
+	
+	@Benchmark
+	public BufferedImage paintButton(){
+		button.paint(g2d);
+		return image;
+	}
+	
+	@Benchmark
+	public BufferedImage paintLabel(){
+		label.paint(g2d);
+		return image;
+	}
+}
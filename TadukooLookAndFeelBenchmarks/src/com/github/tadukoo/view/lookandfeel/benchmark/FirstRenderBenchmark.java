@@ -0,0 +1,103 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import com.github.tadukoo.view.lookandfeel.TadukooThemeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JPanel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import java.awt.FontFormatException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first headless render of a tree of buttons and labels into a {@link BufferedImage} right after
+ * the {@link TadukooLookAndFeel} is installed. This covers creating the component UIs, installing their defaults
+ * (resolving the lazy UI defaults), laying the tree out, and painting it once.
+ * <br><br>
+ * {@link #steadyStateRender()} repaints an already rendered tree for comparison.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FirstRenderBenchmark{
+	/** The number of components in the tree */
+	@Param({"10", "100"})
+	public int componentCount;
+	
+	/** The theme to create the Look &amp; Feels with */
+	private TadukooTheme theme;
+	/** An already rendered tree, for the steady state benchmark */
+	private JPanel renderedTree;
+	/** The image to render the already rendered tree into */
+	private BufferedImage renderedImage;
+	
+	/**
+	 * Builds the theme to use and an already rendered tree
+	 *
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 * @throws UnsupportedLookAndFeelException If the Look &amp; Feel can't be installed
+	 */
+	@Setup(Level.Trial)
+	public void setupTrial() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		theme = TadukooThemeFactory.createDefaultTheme();
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(theme));
+		renderedTree = BenchmarkComponents.createTree(componentCount);
+		renderedImage = BenchmarkComponents.render(renderedTree, BenchmarkComponents.createImage(renderedTree));
+	}
+	
+	/**
+	 * Installs a new instance of the Look &amp; Feel before each render, so that it's the first render with it
+	 *
+	 * @throws UnsupportedLookAndFeelException If the Look &amp; Feel can't be installed
+	 */
+	@Setup(Level.Invocation)
+	public void installLookAndFeel() throws UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(theme));
+	}
+	
+	/**
+	 * Goes back to the Metal Look &amp; Feel
+	 *
+	 * @throws UnsupportedLookAndFeelException If Metal isn't supported somehow
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new MetalLookAndFeel());
+	}
+	
+	@Benchmark
+	public BufferedImage firstRender(){
+		JPanel tree = BenchmarkComponents.createTree(componentCount);
+		return BenchmarkComponents.render(tree, BenchmarkComponents.createImage(tree));
+	}
+	
+	@Benchmark
+	public BufferedImage steadyStateRender(){
+		return BenchmarkComponents.render(renderedTree, renderedImage);
+	}
+}
@@ -0,0 +1,56 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.font.FontFamilies;
+import com.github.tadukoo.view.lookandfeel.FontLoadingMode;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link FontLoadingMode}s by building a theme whose fonts have to be loaded from the font folder.
+ * Fonts stay registered with the graphics environment once they're loaded, so each fork only builds the theme
+ * once. Use {@code -p fontFolder=...} to point the benchmark at a folder on the filesystem instead of the fonts
+ * on the classpath.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class FontLoadingBenchmark{
+	/** The {@link FontLoadingMode} to load fonts with */
+	@Param({"RESOURCE_LOADER", "DIRECT"})
+	public FontLoadingMode mode;
+	
+	/** The font folder to load fonts from */
+	@Param({"fonts/"})
+	public String fontFolder;
+	
+	@Benchmark
+	public TadukooTheme loadFonts() throws IOException, FontFormatException{
+		return TadukooTheme.builder()
+				.fontFolder(fontFolder).fontLoadingMode(mode)
+				.buttonFont(FontFamilies.CARLITO.getFamily(), Font.PLAIN, 14)
+				.labelFont(FontFamilies.NOTO_SANS_CJK.getFamily(), Font.PLAIN, 14)
+				.titledBorderFont(FontFamilies.CALIBRI.getFamily(), Font.BOLD, 14)
+				.build();
+	}
+}
@@ -0,0 +1,76 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import com.github.tadukoo.view.lookandfeel.TadukooThemeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating a {@link TadukooLookAndFeel} and installing it with {@link UIManager#setLookAndFeel}, which
+ * includes building the UI defaults table from the theme.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LookAndFeelBenchmark{
+	/** The theme to create the Look &amp; Feels with */
+	private TadukooTheme theme;
+	
+	/**
+	 * Builds the theme to use
+	 *
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException, FontFormatException{
+		theme = TadukooThemeFactory.createDefaultTheme();
+	}
+	
+	/**
+	 * Goes back to the Metal Look &amp; Feel
+	 *
+	 * @throws UnsupportedLookAndFeelException If Metal isn't supported somehow
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new MetalLookAndFeel());
+	}
+	
+	@Benchmark
+	public TadukooLookAndFeel newLookAndFeel(){
+		return new TadukooLookAndFeel(theme);
+	}
+	
+	@Benchmark
+	public LookAndFeel setLookAndFeel() throws UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(theme));
+		return UIManager.getLookAndFeel();
+	}
+}
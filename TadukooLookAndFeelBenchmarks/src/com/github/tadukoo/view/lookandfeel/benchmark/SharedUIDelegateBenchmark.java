@@ -0,0 +1,132 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JLabel;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import javax.swing.plaf.metal.MetalLookAndFeel;
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained by {@link #LABEL_COUNT} labels with and without
+ * {@link TadukooLookAndFeel#SHARED_UI_DELEGATES}. The labels are kept alive while the used heap is measured after
+ * garbage collection, and the difference from before they were created is reported as the
+ * {@link RetainedHeap#retainedBytesPerLabel} counter, so comparing the two settings shows the memory saved by not
+ * keeping a Component UI for every label (allocation rates alone would miss that, since short-lived garbage is
+ * counted the same as what stays on the heap).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SharedUIDelegateBenchmark{
+	/** The number of labels to create per operation */
+	private static final int LABEL_COUNT = 100_000;
+	/** The most times to run the garbage collector while waiting for the used heap to stop shrinking */
+	private static final int MAX_GC_RUNS = 10;
+	
+	/** Whether to use {@link TadukooLookAndFeel#SHARED_UI_DELEGATES} */
+	@Param({"false", "true"})
+	public boolean sharedUIDelegates;
+	
+	/** The labels created by the current operation, kept here so they stay on the heap while it's measured */
+	private List<JLabel> labels;
+	
+	/**
+	 * The retained heap counters, which JMH reports next to the time of each operation
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RetainedHeap{
+		/** The heap retained by the labels after garbage collection, in bytes per label */
+		public double retainedBytesPerLabel;
+	}
+	
+	/**
+	 * Installs a {@link TadukooLookAndFeel} with the shared UI delegates setting
+	 *
+	 * @throws IOException If something goes wrong in loading fonts
+	 * @throws FontFormatException If something goes wrong in loading fonts
+	 * @throws UnsupportedLookAndFeelException If the Look &amp; Feel isn't supported somehow
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException, FontFormatException, UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new TadukooLookAndFeel(TadukooTheme.builder()
+				.componentDefault(TadukooLookAndFeel.SHARED_UI_DELEGATES, sharedUIDelegates)
+				.build()));
+	}
+	
+	/**
+	 * Releases the labels from the last operation, so they don't count towards the next one
+	 */
+	@TearDown(Level.Invocation)
+	public void releaseLabels(){
+		labels = null;
+	}
+	
+	/**
+	 * Goes back to the Metal Look &amp; Feel
+	 *
+	 * @throws UnsupportedLookAndFeelException If Metal isn't supported somehow
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws UnsupportedLookAndFeelException{
+		UIManager.setLookAndFeel(new MetalLookAndFeel());
+	}
+	
+	@Benchmark
+	public void retainLabels(RetainedHeap retainedHeap){
+		long heapBefore = usedHeapAfterGC();
+		labels = new ArrayList<>(LABEL_COUNT);
+		for(int i = 0; i < LABEL_COUNT; i++){
+			labels.add(new JLabel("Label " + i));
+		}
+		long heapAfter = usedHeapAfterGC();
+		retainedHeap.retainedBytesPerLabel = (double) (heapAfter - heapBefore)/LABEL_COUNT;
+	}
+	
+	/**
+	 * Runs the garbage collector until the used heap stops shrinking (since one run may not collect everything)
+	 *
+	 * @return The used heap after garbage collection, in bytes
+	 */
+	private static long usedHeapAfterGC(){
+		Runtime runtime = Runtime.getRuntime();
+		long usedHeap = Long.MAX_VALUE;
+		for(int i = 0; i < MAX_GC_RUNS; i++){
+			System.gc();
+			long newUsedHeap = runtime.totalMemory() - runtime.freeMemory();
+			if(newUsedHeap >= usedHeap){
+				return newUsedHeap;
+			}
+			usedHeap = newUsedHeap;
+		}
+		return usedHeap;
+	}
+}
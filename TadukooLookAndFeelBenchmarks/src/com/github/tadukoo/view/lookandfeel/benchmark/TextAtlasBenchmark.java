@@ -0,0 +1,131 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.lookandfeel.componentui.TadukooTextAtlas;
+import com.github.tadukoo.view.lookandfeel.componentui.TadukooTextCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares drawing a grid of label texts from the {@link TadukooTextAtlas} against drawing them with plain
+ * {@code drawString}, into a {@link BufferedImage} (which uses the software loops, like unaccelerated pipelines do).
+ * The texts repeat, like the labels of a table or form do, and are drawn at the same positions every time, so after
+ * the first invocation every text is in the atlas.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextAtlasBenchmark{
+	/** The number of texts to draw */
+	@Param({"100"})
+	public int textCount;
+	
+	/** The number of different texts among them */
+	@Param({"10"})
+	public int distinctTexts;
+	
+	/** The paint to draw the texts with: {@code COLOR} or {@code GRADIENT} */
+	@Param({"COLOR", "GRADIENT"})
+	public String paint;
+	
+	/** Whether to antialias the texts */
+	@Param({"false", "true"})
+	public boolean antialiased;
+	
+	/** The image to draw the texts into */
+	private BufferedImage image;
+	/** The graphics to draw the texts with */
+	private Graphics2D g2d;
+	/** The laid out texts to draw */
+	private TadukooTextCache.CachedText[] texts;
+	
+	/**
+	 * Creates the image and graphics to draw with, and lays out the texts
+	 */
+	@Setup(Level.Trial)
+	public void setup(){
+		int rows = (textCount + BenchmarkComponents.COLUMNS - 1)/BenchmarkComponents.COLUMNS;
+		image = new BufferedImage(BenchmarkComponents.COLUMNS*BenchmarkComponents.COMPONENT_WIDTH,
+				rows*BenchmarkComponents.COMPONENT_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		g2d = image.createGraphics();
+		Font font = new Font(Font.DIALOG, Font.PLAIN, 14);
+		g2d.setFont(font);
+		g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, antialiased?
+				RenderingHints.VALUE_TEXT_ANTIALIAS_ON:RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+		g2d.setPaint(paint.equals("GRADIENT")?
+				new GradientPaint(0, 0, Color.BLACK, 0, BenchmarkComponents.COMPONENT_HEIGHT, Color.BLUE, true):
+				Color.BLACK);
+		
+		texts = new TadukooTextCache.CachedText[textCount];
+		for(int i = 0; i < textCount; i++){
+			texts[i] = TadukooTextCache.getText(g2d, font, "Label " + i%distinctTexts);
+		}
+		TadukooTextAtlas.clear();
+	}
+	
+	/**
+	 * Disposes of the graphics and clears the atlas
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown(){
+		g2d.dispose();
+		TadukooTextAtlas.clear();
+	}
+	
+	/**
+	 * @param i The index of a text
+	 * @return The x coordinate to draw the text at
+	 */
+	private static int textX(int i){
+		return (i%BenchmarkComponents.COLUMNS)*BenchmarkComponents.COMPONENT_WIDTH + 4;
+	}
+	
+	/**
+	 * @param i The index of a text
+	 * @return The y coordinate of the baseline to draw the text at
+	 */
+	private static int textY(int i){
+		return (i/BenchmarkComponents.COLUMNS)*BenchmarkComponents.COMPONENT_HEIGHT + 20;
+	}
+	
+	@Benchmark
+	public BufferedImage drawString(){
+		for(int i = 0; i < textCount; i++){
+			g2d.drawString(texts[i].getText(), textX(i), textY(i));
+		}
+		return image;
+	}
+	
+	@Benchmark
+	public BufferedImage textAtlas(){
+		for(int i = 0; i < textCount; i++){
+			TadukooTextAtlas.draw(g2d, texts[i], textX(i), textY(i));
+		}
+		return image;
+	}
+}
@@ -0,0 +1,76 @@
+package com.github.tadukoo.view.lookandfeel.benchmark;
+
+import com.github.tadukoo.view.lookandfeel.TadukooFontCache;
+import com.github.tadukoo.view.lookandfeel.TadukooFontRegistry;
+import com.github.tadukoo.view.lookandfeel.TadukooTheme;
+import com.github.tadukoo.view.lookandfeel.TadukooThemeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code create...Theme()} methods of {@link TadukooThemeFactory}. With {@code caches = warm}, the
+ * theme and font caches are kept between calls (the common case once an application has started), and with
+ * {@code caches = cold} they're cleared before every call, so the whole build is measured (apart from the fonts
+ * that were already registered with the graphics environment by earlier calls).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.4
+ * @since Alpha v.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThemeFactoryBenchmark{
+	/** Whether the theme and font caches are kept between calls ({@code warm}) or cleared first ({@code cold}) */
+	@Param({"warm", "cold"})
+	public String caches;
+	
+	/**
+	 * Clears the theme and font caches before each call if they're meant to be cold
+	 */
+	@Setup(Level.Invocation)
+	public void clearCaches(){
+		if("cold".equals(caches)){
+			TadukooThemeFactory.clearThemeCache();
+			TadukooFontCache.invalidate();
+			TadukooFontRegistry.clear();
+		}
+	}
+	
+	@Benchmark
+	public TadukooTheme createDefaultTheme() throws IOException, FontFormatException{
+		return TadukooThemeFactory.createDefaultTheme();
+	}
+	
+	@Benchmark
+	public TadukooTheme createMetalTheme() throws IOException, FontFormatException{
+		return TadukooThemeFactory.createMetalTheme();
+	}
+	
+	@Benchmark
+	public TadukooTheme createDefaultMetalTheme() throws IOException, FontFormatException{
+		return TadukooThemeFactory.createDefaultMetalTheme();
+	}
+	
+	@Benchmark
+	public TadukooTheme createOceanTheme() throws IOException, FontFormatException{
+		return TadukooThemeFactory.createOceanTheme();
+	}
+}